@@ -5,6 +5,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -87,4 +88,7 @@ public abstract class BaseJob {
   @JdbcTypeCode(SqlTypes.JSON)
   @Column(columnDefinition = "jsonb")
   private Progress progress;
+
+  @Version
+  private Long version;
 }
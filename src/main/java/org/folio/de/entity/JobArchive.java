@@ -0,0 +1,22 @@
+package org.folio.de.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.folio.des.domain.dto.ExportTypeSpecificParameters;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Finished job moved out of the job table by archiving.
+ */
+@Entity
+@Table(name = "job_archive")
+@Data
+public class JobArchive extends BaseJob {
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(columnDefinition = "jsonb")
+  private ExportTypeSpecificParameters exportTypeSpecificParameters;
+}
@@ -0,0 +1,64 @@
+package org.folio.de.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.folio.des.config.kafka.KafkaService;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Job command written in the same transaction as the job and relayed to Kafka afterwards.
+ */
+@Entity
+@Table(name = "job_command_outbox")
+@Data
+@Accessors(chain = true)
+public class JobCommandOutboxEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", updatable = false, nullable = false)
+  private UUID id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "topic", nullable = false)
+  private KafkaService.Topic topic;
+
+  @Column(name = "message_key", nullable = false)
+  private String messageKey;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "payload", columnDefinition = "jsonb", nullable = false)
+  private JobCommand payload;
+
+  /**
+   * Tenant, user id and request id of the request that created the command, tokens are never stored.
+   */
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "okapi_headers", columnDefinition = "jsonb")
+  private Map<String, String> okapiHeaders;
+
+  @Column(name = "created_date", nullable = false)
+  private LocalDateTime createdDate;
+
+  @Column(name = "sent_date")
+  private LocalDateTime sentDate;
+
+  /**
+   * The command is being sent by an instance until this time, after it the command may be claimed again.
+   */
+  @Column(name = "claimed_until")
+  private LocalDateTime claimedUntil;
+}
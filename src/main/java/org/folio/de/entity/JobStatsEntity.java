@@ -0,0 +1,54 @@
+package org.folio.de.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.JobStatus;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of jobs of a type and status created on a day, maintained by triggers of the job tables,
+ * see {@code 18_10_2026_create_job_stats.sql}. Read from the view that adds changes not folded into the counts yet,
+ * see {@code 18_10_2026_create_job_stats_deltas.sql}.
+ */
+@Entity
+@Immutable
+@Table(name = "job_stats_current")
+@IdClass(JobStatsEntity.Key.class)
+@Data
+public class JobStatsEntity {
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  private ExportType type;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  private JobStatus status;
+
+  @Id
+  private LocalDate day;
+
+  @Column(name = "job_count")
+  private long jobCount;
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private ExportType type;
+    private JobStatus status;
+    private LocalDate day;
+  }
+}
@@ -0,0 +1,24 @@
+package org.folio.de.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.folio.des.domain.dto.ExportTypeSpecificParameters;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Read-only job of the view of active and archived jobs, used by searches that include archived jobs.
+ */
+@Entity
+@Immutable
+@Table(name = "job_with_archive")
+@Data
+public class JobWithArchive extends BaseJob {
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(columnDefinition = "jsonb")
+  private ExportTypeSpecificParameters exportTypeSpecificParameters;
+}
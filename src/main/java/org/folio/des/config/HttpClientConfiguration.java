@@ -1,11 +1,17 @@
 package org.folio.des.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.client.ConfigurationClient;
 import org.folio.des.client.DataExportSpringClient;
 import org.folio.des.client.ExportWorkerClient;
+import org.folio.des.config.http.HttpClientPolicyInterceptor;
+import org.folio.des.config.http.HttpClientProperties;
+import org.folio.des.config.http.HttpClientRoutes;
+import org.folio.des.config.http.MeteredHttpServiceClient;
 import org.folio.des.exceptions.RestClientErrorHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -17,35 +23,47 @@ import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 @Configuration
 @Log4j2
 @RequiredArgsConstructor
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class HttpClientConfiguration {
 
   private final RestClientErrorHandler errorHandler;
+  private final MeterRegistry meterRegistry;
 
   @Bean
   public ConfigurationClient configurationClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ConfigurationClient.class);
+    return MeteredHttpServiceClient.wrap(ConfigurationClient.class, factory.createClient(ConfigurationClient.class),
+      "configuration", meterRegistry);
   }
 
   @Bean
   public DataExportSpringClient dataExportSpringClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(DataExportSpringClient.class);
+    return MeteredHttpServiceClient.wrap(DataExportSpringClient.class,
+      factory.createClient(DataExportSpringClient.class), "data-export-spring", meterRegistry);
   }
 
   @Bean
   public ExportWorkerClient exportWorkerClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(ExportWorkerClient.class);
+    return MeteredHttpServiceClient.wrap(ExportWorkerClient.class, factory.createClient(ExportWorkerClient.class),
+      "export-worker", meterRegistry);
+  }
+
+  @Bean
+  public HttpClientRoutes httpClientRoutes(HttpClientProperties properties) {
+    return new HttpClientRoutes(properties);
   }
 
   @Primary
   @Bean
-  public RestClient restClient(RestClient.Builder builder) {
+  public RestClient restClient(RestClient.Builder builder, HttpClientRoutes routes) {
     return builder
+        .requestFactory(routes)
         .requestInterceptor(
             (request, body, execution) -> {
               log.debug("Request URL: {}", request.getURI());
               request.getHeaders().add(HttpHeaders.ACCEPT_ENCODING, "identity");
               return execution.execute(request, body);
             })
+        .requestInterceptor(new HttpClientPolicyInterceptor(routes))
         .defaultStatusHandler(HttpStatusCode::isError, errorHandler::handle)
         .build();
   }
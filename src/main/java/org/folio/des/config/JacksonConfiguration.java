@@ -3,8 +3,10 @@ package org.folio.des.config;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -15,9 +17,12 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import java.io.IOException;
 import java.sql.Date;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
@@ -33,6 +38,8 @@ import org.springframework.context.annotation.Primary;
 @Configuration
 public class JacksonConfiguration {
 
+  private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+  private static final String VALUE_PROPERTY = "value";
   private static final ObjectMapper OBJECT_MAPPER;
   private static final ObjectMapper ENTITY_OBJECT_MAPPER;
 
@@ -46,6 +53,7 @@ public class JacksonConfiguration {
                   .addDeserializer(JobParameter.class, new JobParameterDeserializer())
                   .addSerializer(UUID.class, new UUIDSerializer(UUID.class))
                   .addSerializer(JobParameters.class, new JobParametersSerializer())
+                  .addDeserializer(JobParameters.class, new JobParametersDeserializer())
                   .addSerializer(new JobParameterSerializer()))
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -125,7 +133,7 @@ public class JacksonConfiguration {
       // Serialize value based on type
       Object paramValue = value.value();
       if (paramValue instanceof java.util.Date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+        SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
         gen.writeStringField("value", sdf.format(paramValue));
       } else {
         gen.writeObjectField("value", paramValue);
@@ -166,7 +174,7 @@ public class JacksonConfiguration {
           // Serialize value based on type
           Object paramValue = param.value();
           if (paramValue instanceof java.util.Date) {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+            SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
             gen.writeStringField("value", sdf.format(paramValue));
           } else {
             gen.writeObjectField("value", paramValue);
@@ -182,6 +190,55 @@ public class JacksonConfiguration {
     }
   }
 
+  /**
+   * Reads {@link JobParameters} written by {@link JobParametersSerializer}, parameter types are stored as class names.
+   */
+  static class JobParametersDeserializer extends StdDeserializer<JobParameters> {
+
+    public JobParametersDeserializer() {
+      super(JobParameters.class);
+    }
+
+    @Override
+    public JobParameters deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+      JsonNode parametersNode = ((JsonNode) jp.getCodec().readTree(jp)).path("parameters");
+      Set<JobParameter<?>> parameters = new HashSet<>();
+      for (var parameter : parametersNode.properties()) {
+        parameters.add(toJobParameter(parameter.getKey(), parameter.getValue(), jp.getCodec(), ctxt));
+      }
+      return new JobParameters(parameters);
+    }
+
+    private static JobParameter<?> toJobParameter(String name, JsonNode node, ObjectCodec codec,
+      DeserializationContext ctxt) throws IOException {
+
+      Class<?> type;
+      try {
+        type = Class.forName(node.get("type").asText());
+      } catch (ClassNotFoundException e) {
+        throw JsonMappingException.from(ctxt, "Unknown type of job parameter " + name, e);
+      }
+      var valueNode = node.get(VALUE_PROPERTY);
+      Object value;
+      if (java.util.Date.class.isAssignableFrom(type)) {
+        try {
+          var date = new SimpleDateFormat(DATE_FORMAT).parse(valueNode.asText());
+          value = type == Date.class ? new Date(date.getTime()) : date;
+        } catch (ParseException e) {
+          throw JsonMappingException.from(ctxt, "Invalid date of job parameter " + name, e);
+        }
+      } else {
+        value = codec.treeToValue(valueNode, type);
+      }
+      return newJobParameter(name, value, type, node.path("identifying").asBoolean(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> JobParameter<T> newJobParameter(String name, Object value, Class<T> type, boolean identifying) {
+      return new JobParameter<>(name, (T) value, type, identifying);
+    }
+  }
+
   @Bean
   @Primary
   public ObjectMapper objectMapper() {
@@ -0,0 +1,84 @@
+package org.folio.des.config.http;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Applies the limit of requests in flight and the retry policy of the client the request is routed to.
+ * Only idempotent requests are retried, a retry executes the rest of the interceptor chain again.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class HttpClientPolicyInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD,
+    HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+  private static final Set<HttpStatus> RETRIED_STATUSES = Set.of(HttpStatus.BAD_GATEWAY,
+    HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+
+  private final HttpClientRoutes routes;
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+    throws IOException {
+    var route = routes.resolve(request.getURI());
+    acquire(route);
+    try {
+      var maxAttempts = IDEMPOTENT_METHODS.contains(request.getMethod()) ? route.settings().getMaxAttempts() : 1;
+      for (int attempt = 1; ; attempt++) {
+        try {
+          var response = execution.execute(request, body);
+          if (attempt >= maxAttempts || !isRetried(response)) {
+            return response;
+          }
+          log.warn("intercept:: {} {} of client {} failed with {}, attempt {} of {}.", request.getMethod(),
+            request.getURI().getPath(), route.name(), response.getStatusCode(), attempt, maxAttempts);
+          response.close();
+        } catch (IOException e) {
+          if (attempt >= maxAttempts) {
+            throw e;
+          }
+          log.warn("intercept:: {} {} of client {} failed with {}, attempt {} of {}.", request.getMethod(),
+            request.getURI().getPath(), route.name(), e.getMessage(), attempt, maxAttempts);
+        }
+        pause(route.settings().getRetryBackoffMs() * attempt);
+      }
+    } finally {
+      route.permits().release();
+    }
+  }
+
+  private static void acquire(HttpClientRoutes.Route route) throws IOException {
+    try {
+      if (!route.permits().tryAcquire(route.settings().getAcquireTimeoutMs(), TimeUnit.MILLISECONDS)) {
+        throw new IOException(String.format("Limit of %d requests in flight of client %s is reached",
+          route.settings().getMaxConcurrent(), route.name()));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for client " + route.name(), e);
+    }
+  }
+
+  private static boolean isRetried(ClientHttpResponse response) throws IOException {
+    return RETRIED_STATUSES.stream().anyMatch(status -> response.getStatusCode().isSameCodeAs(status));
+  }
+
+  private static void pause(long millis) throws IOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting to retry", e);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package org.folio.des.config.http;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the HTTP clients of the module by target service. A request is served by the client whose path prefix
+ * its path starts with after the okapi URL, other requests are served by the default client.
+ */
+@Data
+@ConfigurationProperties(prefix = "application.http-client")
+public class HttpClientProperties {
+
+  public static final String DEFAULT_CLIENT = "default";
+
+  private Map<String, Client> clients = new LinkedHashMap<>();
+
+  @Data
+  public static class Client {
+    /** First path segment of the requests of the client, e.g. refresh-presigned-url. */
+    private String pathPrefix;
+    private int connectTimeoutMs = 2000;
+    private int readTimeoutMs = 30000;
+    /** Negotiates HTTP/2 with the service and falls back to HTTP/1.1 if it is not supported. */
+    private boolean http2 = true;
+    /** Maximum number of requests in flight, requests over it wait up to acquireTimeoutMs and then fail. */
+    private int maxConcurrent = 100;
+    private int acquireTimeoutMs = 1000;
+    /** Attempts of idempotent requests failed with an I/O error or a 502, 503 or 504 status. */
+    private int maxAttempts = 1;
+    private int retryBackoffMs = 200;
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.des.config.http;
+
+import static org.folio.des.config.http.HttpClientProperties.DEFAULT_CLIENT;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+/**
+ * Routes requests to the HTTP client of their target service. Every client has its own connection pool, timeouts
+ * and limit of requests in flight, so a slow service exhausts only its own client.
+ */
+@Log4j2
+public class HttpClientRoutes implements ClientHttpRequestFactory {
+
+  private final List<Route> routes = new ArrayList<>();
+  private final Route defaultRoute;
+
+  public HttpClientRoutes(HttpClientProperties properties) {
+    properties.getClients().forEach((name, client) -> {
+      if (!DEFAULT_CLIENT.equals(name)) {
+        routes.add(route(name, client));
+      }
+    });
+    defaultRoute = route(DEFAULT_CLIENT,
+      properties.getClients().getOrDefault(DEFAULT_CLIENT, new HttpClientProperties.Client()));
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+    return resolve(uri).requestFactory().createRequest(uri, httpMethod);
+  }
+
+  /**
+   * Finds the route of the request by the first segment of its path that matches a path prefix.
+   */
+  public Route resolve(URI uri) {
+    var path = uri.getPath() == null ? "" : "/" + uri.getPath() + "/";
+    for (var route : routes) {
+      if (route.settings().getPathPrefix() != null && path.contains("/" + route.settings().getPathPrefix() + "/")) {
+        return route;
+      }
+    }
+    return defaultRoute;
+  }
+
+  private static Route route(String name, HttpClientProperties.Client settings) {
+    log.info("route:: HTTP client {} with {}.", name, settings);
+    var httpClient = HttpClient.newBuilder()
+      .version(settings.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofMillis(settings.getConnectTimeoutMs()))
+      .build();
+    var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+    requestFactory.setReadTimeout(Duration.ofMillis(settings.getReadTimeoutMs()));
+    return new Route(name, settings, requestFactory, new Semaphore(settings.getMaxConcurrent()));
+  }
+
+  public record Route(String name, HttpClientProperties.Client settings, ClientHttpRequestFactory requestFactory,
+                      Semaphore permits) {
+  }
+}
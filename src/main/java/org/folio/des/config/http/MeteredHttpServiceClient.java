@@ -0,0 +1,39 @@
+package org.folio.des.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Times the calls of the methods of HTTP service clients with the http.service.client.requests timer
+ * tagged by the client, the method and the outcome.
+ */
+@UtilityClass
+public class MeteredHttpServiceClient {
+
+  public static final String TIMER_NAME = "http.service.client.requests";
+
+  @SuppressWarnings("unchecked")
+  public static <T> T wrap(Class<T> type, T client, String clientName, MeterRegistry meterRegistry) {
+    InvocationHandler handler = (proxy, method, args) -> {
+      if (method.getDeclaringClass() == Object.class) {
+        return method.invoke(client, args);
+      }
+      var sample = Timer.start(meterRegistry);
+      var outcome = "SUCCESS";
+      try {
+        return method.invoke(client, args);
+      } catch (InvocationTargetException e) {
+        outcome = "ERROR";
+        throw e.getCause();
+      } finally {
+        sample.stop(meterRegistry.timer(TIMER_NAME, "client", clientName, "method", method.getName(),
+          "outcome", outcome));
+      }
+    };
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+  }
+}
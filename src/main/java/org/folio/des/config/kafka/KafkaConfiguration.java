@@ -10,18 +10,22 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Component
 @Configuration
@@ -30,13 +34,38 @@ public class KafkaConfiguration {
 
   private final KafkaProperties kafkaProperties;
 
+  @Value("${application.kafka.batch-listener.enabled:true}")
+  private boolean batchListener;
+  @Value("${application.kafka.listener.virtual-threads-enabled:false}")
+  private boolean virtualThreads;
+  @Value("${application.kafka.listener.retry-interval-ms:1000}")
+  private long retryIntervalMs;
+  @Value("${application.kafka.listener.retry-attempts:3}")
+  private long retryAttempts;
+
+  /**
+   * Listener containers run one consumer per concurrency unit, records of a partition are always handled by one
+   * consumer in order. Concurrency of the factory is a default, listeners override it with their own settings.
+   */
   @Bean
   public <V> ConcurrentKafkaListenerContainerFactory<String, V> kafkaListenerContainerFactory(ConsumerFactory<String, V> cf) {
     var factory = new ConcurrentKafkaListenerContainerFactory<String, V>();
     factory.setConsumerFactory(cf);
+    factory.setBatchListener(batchListener);
     if (kafkaProperties.getListener().getAckMode() != null) {
       factory.getContainerProperties().setAckMode(kafkaProperties.getListener().getAckMode());
     }
+    if (kafkaProperties.getListener().getConcurrency() != null) {
+      factory.setConcurrency(kafkaProperties.getListener().getConcurrency());
+    }
+    // a batch listener reports the failed record with BatchListenerFailedException, the records before it are
+    // committed and only the failed record and the following ones are redelivered
+    factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(retryIntervalMs, retryAttempts)));
+    if (virtualThreads) {
+      var executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+      executor.setVirtualThreads(true);
+      factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
     return factory;
   }
 
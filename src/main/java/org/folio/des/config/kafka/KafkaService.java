@@ -1,16 +1,27 @@
 package org.folio.des.config.kafka;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.folio.de.entity.JobCommand;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.tools.kafka.KafkaUtils;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.core.env.Environment;
@@ -18,22 +29,32 @@ import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 
 @Component
 @Log4j2
 @RequiredArgsConstructor
-public class KafkaService {
+public class KafkaService implements DisposableBean {
 
   public static final String EVENT_LISTENER_ID = "mod-data-export-events-listener";
 
+  private static final Map<String, String> PRODUCER_PROPERTIES = Map.of(
+    "linger-ms", ProducerConfig.LINGER_MS_CONFIG,
+    "batch-size", ProducerConfig.BATCH_SIZE_CONFIG,
+    "compression-type", ProducerConfig.COMPRESSION_TYPE_CONFIG);
+
+  private final Map<Topic, KafkaTemplate<String, Object>> topicTemplates = new ConcurrentHashMap<>();
+
   private final KafkaAdmin kafkaAdmin;
   private final KafkaTemplate<String, Object> kafkaTemplate;
   private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
   private final BeanFactory beanFactory;
   private final FolioExecutionContext folioExecutionContext;
   private final Environment springEnvironment;
+  private final MeterRegistry meterRegistry;
 
   @Value("${env:folio}")
   private String environment;
@@ -94,14 +115,89 @@ public class KafkaService {
     return KafkaUtils.getTenantTopicName(topicName, environment, tenantId);
   }
 
-  public void send(Topic topic, String key, Object data) {
-    log.info("Sending message in topic {} with key {} and data {}.", topic.getTopicName(), key, data);
+  /**
+   * Sends message to the topic of the current tenant.
+   *
+   * @return future completed when the broker acknowledges the message
+   */
+  public CompletableFuture<SendResult<String, Object>> send(Topic topic, String key, Object data) {
+    log.info("Sending message in topic {} with key {}: {}.", topic.getTopicName(), key, summary(data));
+    log.debug("send:: data {}.", data);
     String tenant = folioExecutionContext.getTenantId();
     if (StringUtils.isBlank(tenant)) {
       log.error("The tenant is blank.");
       throw new IllegalStateException("Can't send to Kafka because tenant is blank");
     }
-    kafkaTemplate.send(getTenantTopicName(topic.getTopicName(), tenant), key, data);
-    log.info("Message was sent to topic {} with key {}", topic.getTopicName(), key);
+    long start = System.nanoTime();
+    CompletableFuture<SendResult<String, Object>> result;
+    try {
+      result = template(topic).send(getTenantTopicName(topic.getTopicName(), tenant), key, data);
+    } catch (RuntimeException e) {
+      recordSend(topic, key, start, null, e);
+      throw e;
+    }
+    return result.whenComplete((sendResult, ex) -> recordSend(topic, key, start, sendResult, ex));
+  }
+
+  @Override
+  public void destroy() {
+    topicTemplates.values().stream()
+      .filter(template -> template != kafkaTemplate)
+      .map(KafkaTemplate::getProducerFactory)
+      .forEach(ProducerFactory::reset);
+  }
+
+  /**
+   * Returns template of the topic, topics with producer settings in their topic configuration get own producers.
+   */
+  private KafkaTemplate<String, Object> template(Topic topic) {
+    return topicTemplates.computeIfAbsent(topic, this::createTemplate);
+  }
+
+  private KafkaTemplate<String, Object> createTemplate(Topic topic) {
+    var prefix = String.format("application.kafka.topic-configuration.%s.producer.", topic.getTopicName());
+    Map<String, Object> overrides = new HashMap<>();
+    PRODUCER_PROPERTIES.forEach((property, producerProperty) -> {
+      var value = springEnvironment.getProperty(prefix + property);
+      if (StringUtils.isNotBlank(value)) {
+        overrides.put(producerProperty, value);
+      }
+    });
+    if (overrides.isEmpty()) {
+      return kafkaTemplate;
+    }
+    log.info("createTemplate:: producer of topic {} uses {}.", topic.getTopicName(), overrides);
+    return new KafkaTemplate<>(kafkaTemplate.getProducerFactory(), overrides);
+  }
+
+  private void recordSend(Topic topic, String key, long start, SendResult<String, Object> result, Throwable ex) {
+    Timer.builder("kafka.producer.send")
+      .description("Time to send a message until it is acknowledged by the broker")
+      .tag("topic", topic.getTopicName())
+      .tag("outcome", ex == null ? "success" : "failure")
+      .register(meterRegistry)
+      .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    if (ex != null) {
+      log.error("recordSend:: failed to send message to topic {} with key {}.", topic.getTopicName(), key, ex);
+      return;
+    }
+    DistributionSummary.builder("kafka.producer.payload.size")
+      .description("Serialized size of sent messages")
+      .baseUnit("bytes")
+      .tag("topic", topic.getTopicName())
+      .register(meterRegistry)
+      .record(result.getRecordMetadata().serializedValueSize());
+    log.debug("recordSend:: message was sent to topic {} with key {}.", topic.getTopicName(), key);
+  }
+
+  /**
+   * Short description of the payload for logs, payloads such as bursar commands carry large JSON documents.
+   */
+  static String summary(Object data) {
+    if (data instanceof JobCommand jobCommand) {
+      return String.format("JobCommand[type=%s, id=%s, exportType=%s]", jobCommand.getType(), jobCommand.getId(),
+        jobCommand.getExportType());
+    }
+    return data == null ? "null" : data.getClass().getSimpleName();
   }
 }
@@ -1,5 +1,6 @@
 package org.folio.des.config.scheduling;
 
+import org.folio.des.scheduling.quartz.ScheduledExecutionLimiter;
 import org.folio.spring.config.DataSourceFolioWrapper;
 import org.springframework.boot.quartz.autoconfigure.SchedulerFactoryBeanCustomizer;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
@@ -11,12 +12,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class QuartzSchedulerFactoryBeanCustomizer implements SchedulerFactoryBeanCustomizer {
   private final DataSourceFolioWrapper dataSourceFolioWrapper;
+  private final ScheduledExecutionLimiter scheduledExecutionLimiter;
 
   /**
-   * Use plain datasource instead of folio wrapper for quartz since it does not need tenant specific schemas logic
+   * Use plain datasource instead of folio wrapper for quartz since it does not need tenant specific schemas logic.
+   * Executions of scheduled exports are limited by {@link ScheduledExecutionLimiter}.
    */
   @Override
   public void customize(SchedulerFactoryBean schedulerFactoryBean) {
     schedulerFactoryBean.setDataSource(dataSourceFolioWrapper.getTargetDataSource());
+    schedulerFactoryBean.setGlobalTriggerListeners(scheduledExecutionLimiter);
   }
 }
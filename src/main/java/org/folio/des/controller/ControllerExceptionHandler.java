@@ -7,9 +7,12 @@ import org.folio.des.domain.dto.Error;
 import org.folio.des.domain.dto.ErrorType;
 import org.folio.des.domain.dto.Errors;
 import org.folio.des.domain.exception.RequestValidationException;
+import org.folio.des.exceptions.TooManyDownloadsException;
+import org.folio.des.exceptions.TooManySubscribersException;
 import org.folio.spring.exception.NotFoundException;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -67,12 +70,24 @@ public class ControllerExceptionHandler {
     return buildError(exception, HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  @ResponseStatus(HttpStatus.CONFLICT)
+  public Errors handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+    return buildError(exception, HttpStatus.CONFLICT);
+  }
+
   @ExceptionHandler(NotFoundException.class)
   @ResponseStatus(HttpStatus.NOT_FOUND)
   public Errors handleNotFoundException(NotFoundException exception) {
     return buildError(exception, HttpStatus.NOT_FOUND);
   }
 
+  @ExceptionHandler({TooManySubscribersException.class, TooManyDownloadsException.class})
+  @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+  public Errors handleTooManyRequestsException(RuntimeException exception) {
+    return buildError(exception, HttpStatus.TOO_MANY_REQUESTS);
+  }
+
   @ExceptionHandler(Exception.class)
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   public Errors handleException(Exception exception) {
@@ -4,24 +4,40 @@ import static java.util.Objects.isNull;
 import static org.folio.des.domain.dto.ExportType.AUTH_HEADINGS_UPDATES;
 import static org.hibernate.internal.util.StringHelper.isBlank;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.des.builder.job.JobCommandSchedulerBuilder;
+import org.folio.des.domain.JobCursor;
+import org.folio.des.domain.dto.ExportType;
 import org.folio.des.domain.dto.ExportTypeSpecificParameters;
 import org.folio.des.domain.dto.Job;
 import org.folio.des.domain.dto.JobCollection;
+import org.folio.des.domain.dto.JobStatsCollection;
+import org.folio.des.domain.dto.JobStatus;
 import org.folio.des.rest.resource.JobsApi;
+import org.folio.des.service.JobEventsService;
+import org.folio.des.service.ExportedFilesZipper;
 import org.folio.des.service.JobExecutionService;
 import org.folio.des.service.JobService;
+import org.folio.des.service.JobStatsService;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/data-export-spring")
@@ -29,9 +45,16 @@ import org.springframework.web.bind.annotation.RestController;
 @Log4j2
 public class JobsController implements JobsApi {
 
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  private static final String SUMMARY_VIEW = "summary";
+  private static final String ZIP_MEDIA_TYPE = "application/zip";
+
   private final JobService service;
   private final JobCommandSchedulerBuilder jobCommandSchedulerBuilder;
   private final JobExecutionService jobExecutionService;
+  private final JobStatsService jobStatsService;
+  private final JobEventsService jobEventsService;
+  private final ExportedFilesZipper exportedFilesZipper;
 
   @Override
   public ResponseEntity<Job> getJobById(UUID id) {
@@ -40,9 +63,36 @@ public class JobsController implements JobsApi {
   }
 
   @Override
-  public ResponseEntity<JobCollection> getJobs(Integer offset, Integer limit, String query) {
-    log.info("getJobs:: by query={} with offset={} and limit={}.", query, offset, limit);
-    return ResponseEntity.ok(service.get(offset, limit, query));
+  public ResponseEntity<JobCollection> getJobs(Integer offset, Integer limit, String query, String cursor,
+    String view, Boolean includeArchived) {
+    log.info("getJobs:: by query={} with offset={}, limit={}, cursor={}, view={} and includeArchived={}.", query,
+      offset, limit, cursor, view, includeArchived);
+    var summary = SUMMARY_VIEW.equals(view);
+    var withArchived = Boolean.TRUE.equals(includeArchived);
+    if (cursor == null) {
+      return ResponseEntity.ok(service.get(offset, limit, query, summary, withArchived));
+    }
+    var jobs = service.getAfter(cursor, limit, query, summary, withArchived);
+    var response = ResponseEntity.ok();
+    JobCursor.next(jobs, limit).ifPresent(nextCursor -> response.header(NEXT_CURSOR_HEADER, nextCursor));
+    return response.body(jobs);
+  }
+
+  @Override
+  public ResponseEntity<JobStatsCollection> getJobStats(ExportType type, JobStatus status, LocalDate from,
+    LocalDate to) {
+    log.info("getJobStats:: by type={}, status={}, from={} and to={}.", type, status, from, to);
+    return ResponseEntity.ok(jobStatsService.get(type, status, from, to));
+  }
+
+  /**
+   * Streams status and progress changes of jobs as server-sent events. Mapped outside of the generated API
+   * because the generated interface cannot return a stream.
+   */
+  @GetMapping(value = "/jobs/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter getJobEvents(@RequestParam(required = false) UUID jobId) {
+    log.info("getJobEvents:: by jobId={}.", jobId);
+    return jobEventsService.subscribe(jobId);
   }
 
   @Override
@@ -64,9 +114,27 @@ public class JobsController implements JobsApi {
   }
 
   @Override
-  public ResponseEntity<Resource> downloadExportedFileByJobId(UUID id, String key) {
-    log.info("downloadExportedFileByJobId:: with id={}, key={}.", id, key);
-    return ResponseEntity.ok(new InputStreamResource(service.downloadExportedFile(id, key)));
+  public ResponseEntity<Resource> downloadExportedFileByJobId(UUID id, String key, String range, String ifRange) {
+    log.info("downloadExportedFileByJobId:: with id={}, key={}, range={}.", id, key, range);
+    var file = service.downloadExportedFile(id, key, range, ifRange);
+    // the exact InputStreamResource type keeps the stream unread and leaves ranges to the storage
+    return ResponseEntity.status(file.status())
+      .headers(file.headers())
+      .body(new InputStreamResource(file.content()));
+  }
+
+  /**
+   * Streams the exported files of the jobs as one ZIP archive. Mapped outside of the generated API
+   * because the generated interface cannot return a stream written by the controller.
+   */
+  @GetMapping(value = "/jobs/zip", produces = ZIP_MEDIA_TYPE)
+  public ResponseEntity<StreamingResponseBody> downloadExportedFilesAsZip(@RequestParam List<UUID> ids) {
+    log.info("downloadExportedFilesAsZip:: with ids={}.", ids);
+    var body = exportedFilesZipper.zip(ids);
+    var fileName = ids.size() == 1 ? ids.get(0) + ".zip" : "exported-files.zip";
+    return ResponseEntity.ok()
+      .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+      .body(body);
   }
 
   @Override
@@ -0,0 +1,12 @@
+package org.folio.des.domain;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Projection of an expired job with the columns needed to delete it: the keyset of the deletion cursor and
+ * the files to remove from the storage.
+ */
+public record ExpiredJob(UUID id, Date updatedDate, List<String> files) {
+}
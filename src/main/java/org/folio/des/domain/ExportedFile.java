@@ -0,0 +1,13 @@
+package org.folio.des.domain;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Exported file or a range of it as streamed from the storage: the status and the content headers of the storage
+ * response and the not yet read content, that must be closed once it is copied.
+ */
+public record ExportedFile(HttpStatusCode status, HttpHeaders headers, InputStream content) {
+}
@@ -0,0 +1,65 @@
+package org.folio.des.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.folio.des.domain.dto.Job;
+import org.folio.des.domain.dto.JobCollection;
+
+/**
+ * Opaque continuation token of the job keyset pagination.
+ * Holds the sort key of the last returned job: its creation date and id.
+ */
+public record JobCursor(Date createdDate, UUID id) {
+
+  private static final String SEPARATOR = "|";
+
+  /**
+   * Creates cursor of the next page if the given page is full.
+   *
+   * @param jobs  the returned page
+   * @param limit the requested page size
+   * @return encoded cursor of the next page or empty if there are no more pages
+   */
+  public static Optional<String> next(JobCollection jobs, int limit) {
+    var records = jobs.getJobRecords();
+    if (limit <= 0 || records == null || records.size() < limit) {
+      return Optional.empty();
+    }
+    Job last = records.get(records.size() - 1);
+    return Optional.of(new JobCursor(last.getMetadata().getCreatedDate(), last.getId()).encode());
+  }
+
+  /**
+   * Decodes cursor received from a client.
+   *
+   * @param cursor encoded cursor, blank value means the first page
+   * @return decoded cursor or empty for the first page
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public static Optional<JobCursor> decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIdx = value.indexOf(SEPARATOR);
+      var createdDate = Timestamp.from(Instant.parse(value.substring(0, separatorIdx)));
+      return Optional.of(new JobCursor(createdDate, UUID.fromString(value.substring(separatorIdx + 1))));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException(String.format("Invalid cursor: %s", cursor), e);
+    }
+  }
+
+  public String encode() {
+    // Timestamp keeps microseconds of the database value, so rows created within the same millisecond are not skipped
+    var value = createdDate.toInstant() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
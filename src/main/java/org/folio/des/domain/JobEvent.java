@@ -0,0 +1,17 @@
+package org.folio.des.domain;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.JobStatus;
+import org.folio.des.domain.dto.Progress;
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * Status and progress of a job pushed to the subscribers of job events. Read from the payload the job triggers
+ * notify on every status or progress change and from the job itself for the first event of a job subscription.
+ */
+public record JobEvent(UUID id, ExportType type, JobStatus status, BatchStatus batchStatus, Progress progress,
+                       Date updatedDate) {
+}
@@ -0,0 +1,21 @@
+package org.folio.des.domain;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.JobStatus;
+
+/**
+ * Projection of the job columns shown by job lists. Selecting it directly from the job table skips the jsonb columns
+ * (export type specific parameters, progress, exit status and files).
+ * Components are named after the job entity attributes and listed in {@link #ATTRIBUTES} in the constructor order.
+ */
+public record JobSummary(UUID id, String name, ExportType type, JobStatus status, Date startTime, Date endTime,
+                         Date createdDate, UUID createdByUserId, String createdByUsername, Date updatedDate,
+                         UUID updatedByUserId, String updatedByUsername) {
+
+  public static final List<String> ATTRIBUTES = List.of("id", "name", "type", "status", "startTime", "endTime",
+    "createdDate", "createdByUserId", "createdByUsername", "updatedDate", "updatedByUserId", "updatedByUsername");
+}
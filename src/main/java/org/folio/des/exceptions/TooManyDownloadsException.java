@@ -0,0 +1,8 @@
+package org.folio.des.exceptions;
+
+public class TooManyDownloadsException extends RuntimeException {
+
+  public TooManyDownloadsException(String message) {
+    super(message);
+  }
+}
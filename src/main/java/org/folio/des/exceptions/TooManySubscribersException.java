@@ -0,0 +1,8 @@
+package org.folio.des.exceptions;
+
+public class TooManySubscribersException extends RuntimeException {
+
+  public TooManySubscribersException(String message) {
+    super(message);
+  }
+}
@@ -4,23 +4,66 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.criteria.CriteriaQuery;
 import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.cql2pgjson.exception.QueryValidationException;
 import org.folio.des.repository.criteria.CQL2JPACriteria;
+import org.folio.des.repository.criteria.CQLQueryCache;
+import org.folio.des.repository.criteria.JsonbNodeConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @Log4j2
+@RequiredArgsConstructor
 public class CQLService {
 
+  public static final String ALL_RECORDS_QUERY = "cql.allRecords=1";
+
+  private static final String ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(:table)";
+
+  /**
+   * Defines how {@code totalRecords} is calculated for a query.
+   */
+  public enum CountMode {
+    /** {@code SELECT count(*)} over all matching rows. */
+    EXACT,
+    /** Count of matching rows that stops after the configured limit. */
+    CAPPED,
+    /** Planner estimate for unfiltered queries, capped count for filtered ones. */
+    ESTIMATED
+  }
+
   @PersistenceContext
   private EntityManager entityManager;
+  private final CQLQueryCache queryCache;
+  @Value("${application.cql.jsonb-mode:CONTAINMENT}")
+  private JsonbNodeConverter.Mode jsonbMode;
 
   public <E> List<E> getByCQL(Class<E> entityCls, String cql, int offset, int limit) {
-    log.debug("getByCQL:: by cql={} with offset={} and limit={} for {}.", cql, offset, limit, entityCls);
+    return getByCQL(entityCls, entityCls, List.of(), cql, offset, limit);
+  }
+
+  /**
+   * Gets projections of records matching the query, only the given attributes are read from the database.
+   *
+   * @param entityCls     the entity class
+   * @param projectionCls the projection class with a constructor that takes the attributes in the given order
+   * @param attributes    the selected entity attributes, empty to select the entity itself
+   * @param cql           the query
+   * @param offset        the offset
+   * @param limit         the limit
+   * @return projections of the matching records
+   */
+  public <E, P> List<P> getByCQL(Class<E> entityCls, Class<P> projectionCls, List<String> attributes, String cql,
+    int offset, int limit) {
+
+    log.debug("getByCQL:: by cql={} with offset={} and limit={} for {} as {}.", cql, offset, limit, entityCls,
+      projectionCls);
     try {
-      final CQL2JPACriteria<E> cql2JPACriteria = new CQL2JPACriteria<>(entityCls, entityManager);
-      final CriteriaQuery<E> criteria = cql2JPACriteria.toCriteria(cql);
+      final CQL2JPACriteria<E> cql2JPACriteria = new CQL2JPACriteria<>(entityCls, entityManager, queryCache, jsonbMode);
+      final CriteriaQuery<P> criteria = cql2JPACriteria.toCriteria(cql, projectionCls, attributes);
       return entityManager
           .createQuery(criteria)
           .setFirstResult(offset)
@@ -32,15 +75,95 @@ public class CQLService {
     }
   }
 
+  /**
+   * Gets records matching the query using keyset pagination, see {@link CQL2JPACriteria#toKeysetCriteria}.
+   */
+  public <E, K extends Comparable<? super K>, I extends Comparable<? super I>> List<E> getByCQLAfter(
+    Class<E> entityCls, String cql, String keyAttribute, String idAttribute, K lastKey, I lastId, int limit) {
+
+    return getByCQLAfter(entityCls, entityCls, List.of(), cql, keyAttribute, idAttribute, lastKey, lastId, limit);
+  }
+
+  /**
+   * Gets projections of records matching the query using keyset pagination,
+   * see {@link #getByCQL(Class, Class, List, String, int, int)} and {@link CQL2JPACriteria#toKeysetCriteria}.
+   */
+  public <E, P, K extends Comparable<? super K>, I extends Comparable<? super I>> List<P> getByCQLAfter(
+    Class<E> entityCls, Class<P> projectionCls, List<String> attributes, String cql, String keyAttribute,
+    String idAttribute, K lastKey, I lastId, int limit) {
+
+    log.debug("getByCQLAfter:: by cql={} after {}={} and {}={} with limit={} for {} as {}.", cql, keyAttribute,
+      lastKey, idAttribute, lastId, limit, entityCls, projectionCls);
+    try {
+      final CQL2JPACriteria<E> cql2JPACriteria = new CQL2JPACriteria<>(entityCls, entityManager, queryCache, jsonbMode);
+      final CriteriaQuery<P> criteria = cql2JPACriteria.toKeysetCriteria(cql, keyAttribute, idAttribute, lastKey,
+        lastId, projectionCls, attributes);
+      return entityManager
+          .createQuery(criteria)
+          .setMaxResults(limit)
+          .getResultList();
+    } catch (QueryValidationException e) {
+      log.error("Can not invoke CQL query {} ", cql);
+      throw new IllegalArgumentException(e);
+    }
+  }
+
   public <E> Integer countByCQL(Class<E> entityCls, String cql) {
     log.debug("countByCQL:: by cql={} for {}.", cql, entityCls);
     try {
-      final CQL2JPACriteria<E> cql2JPACriteria = new CQL2JPACriteria<>(entityCls, entityManager);
-      final CriteriaQuery<E> criteria = cql2JPACriteria.toCriteria(cql);
-      return entityManager.createQuery(criteria).getResultList().size();
+      final CQL2JPACriteria<E> cql2JPACriteria = new CQL2JPACriteria<>(entityCls, entityManager, queryCache, jsonbMode);
+      final CriteriaQuery<Long> criteria = cql2JPACriteria.toCountCriteria(cql);
+      return Math.toIntExact(entityManager.createQuery(criteria).getSingleResult());
+    } catch (QueryValidationException e) {
+      log.error("Can not invoke CQL query {} ", cql);
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  /**
+   * Counts records matching the query using the given mode.
+   *
+   * @param entityCls the entity class
+   * @param table     the table of the entity, used for planner estimates
+   * @param cql       the query
+   * @param mode      the count mode
+   * @param limit     the maximum number of rows to count in {@link CountMode#CAPPED} and {@link CountMode#ESTIMATED} modes
+   * @return number of matching records, never more than {@code limit} when counting is capped
+   */
+  public <E> Integer countByCQL(Class<E> entityCls, String table, String cql, CountMode mode, int limit) {
+    log.debug("countByCQL:: by cql={} for {} with mode={} and limit={}.", cql, entityCls, mode, limit);
+    return switch (mode) {
+      case EXACT -> countByCQL(entityCls, cql);
+      case CAPPED -> cappedCountByCQL(entityCls, cql, limit);
+      case ESTIMATED -> ALL_RECORDS_QUERY.equals(cql)
+        ? estimateCount(table).orElseGet(() -> cappedCountByCQL(entityCls, cql, limit))
+        : cappedCountByCQL(entityCls, cql, limit);
+    };
+  }
+
+  private <E> Integer cappedCountByCQL(Class<E> entityCls, String cql, int limit) {
+    try {
+      final CQL2JPACriteria<E> cql2JPACriteria = new CQL2JPACriteria<>(entityCls, entityManager, queryCache, jsonbMode);
+      final CriteriaQuery<Long> criteria = cql2JPACriteria.toCappedCountCriteria(cql, limit);
+      return Math.toIntExact(entityManager.createQuery(criteria).getSingleResult());
     } catch (QueryValidationException e) {
       log.error("Can not invoke CQL query {} ", cql);
       throw new IllegalArgumentException(e);
     }
   }
+
+  /**
+   * Returns the planner row estimate of the table, empty if the table was never analyzed.
+   */
+  private Optional<Integer> estimateCount(String table) {
+    List<?> result = entityManager.createNativeQuery(ESTIMATE_SQL)
+      .setParameter("table", table)
+      .getResultList();
+    return result.stream()
+      .map(Number.class::cast)
+      .map(Number::longValue)
+      .filter(estimate -> estimate >= 0)
+      .map(estimate -> (int) Math.min(estimate, Integer.MAX_VALUE))
+      .findFirst();
+  }
 }
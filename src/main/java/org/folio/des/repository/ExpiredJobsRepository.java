@@ -0,0 +1,26 @@
+package org.folio.des.repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.folio.des.domain.ExpiredJob;
+import org.folio.des.domain.dto.ExportType;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Jobs deleted by retention in chunks, see {@link org.folio.des.service.ExpiredJobsDeleter}.
+ */
+public interface ExpiredJobsRepository {
+
+  /**
+   * Gets the first expired jobs of the type ordered by update date and id.
+   */
+  List<ExpiredJob> findExpired(ExportType type, Date updatedBefore, Limit limit);
+
+  /**
+   * Gets the expired jobs of the type that follow the given job in the update date and id order.
+   */
+  List<ExpiredJob> findExpiredAfter(ExportType type, Date updatedBefore, Date lastUpdatedDate, UUID lastId, Limit limit);
+
+  void deleteAllByIdInBatch(Iterable<UUID> ids);
+}
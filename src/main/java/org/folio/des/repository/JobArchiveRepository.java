@@ -0,0 +1,54 @@
+package org.folio.des.repository;
+
+import org.folio.de.entity.JobArchive;
+import org.folio.des.domain.ExpiredJob;
+import org.folio.des.domain.dto.ExportType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+public interface JobArchiveRepository extends JpaRepository<JobArchive, UUID>, ExpiredJobsRepository {
+
+  /**
+   * Columns of job and job_archive, listed so archiving does not depend on the column order of the tables.
+   */
+  String JOB_COLUMNS = "id, name, description, source, is_system_source, type, export_type_specific_parameters, "
+    + "status, files, file_names, start_time, end_time, created_date, created_by_user_id, created_by_username, "
+    + "updated_date, updated_by_user_id, updated_by_username, output_format, error_details, batch_status, exit_status, "
+    + "identifier_type, entity_type, progress, version";
+
+  /**
+   * Moves the oldest jobs with the given statuses that were updated before the date from the job table to the archive,
+   * jobs locked by concurrent updates are skipped.
+   *
+   * @return number of archived jobs
+   */
+  @Modifying
+  @Query(value = "WITH archived AS (DELETE FROM job WHERE id IN (SELECT id FROM job WHERE status IN (:statuses) "
+    + "AND updated_date < :updatedBefore ORDER BY updated_date LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING "
+    + JOB_COLUMNS + ") INSERT INTO job_archive (" + JOB_COLUMNS + ") SELECT " + JOB_COLUMNS + " FROM archived",
+    nativeQuery = true)
+  int archive(@Param("statuses") Collection<String> statuses, @Param("updatedBefore") Date updatedBefore,
+    @Param("limit") int limit);
+
+  @Override
+  @Query("SELECT new org.folio.des.domain.ExpiredJob(a.id, a.updatedDate, a.files) FROM JobArchive a "
+    + "WHERE a.type = :type AND a.updatedDate < :updatedBefore ORDER BY a.updatedDate, a.id")
+  List<ExpiredJob> findExpired(@Param("type") ExportType type, @Param("updatedBefore") Date updatedBefore,
+    Limit limit);
+
+  @Override
+  @Query("SELECT new org.folio.des.domain.ExpiredJob(a.id, a.updatedDate, a.files) FROM JobArchive a "
+    + "WHERE a.type = :type AND a.updatedDate < :updatedBefore "
+    + "AND (a.updatedDate > :lastUpdatedDate OR (a.updatedDate = :lastUpdatedDate AND a.id > :lastId)) "
+    + "ORDER BY a.updatedDate, a.id")
+  List<ExpiredJob> findExpiredAfter(@Param("type") ExportType type, @Param("updatedBefore") Date updatedBefore,
+    @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastId") UUID lastId, Limit limit);
+}
@@ -0,0 +1,43 @@
+package org.folio.des.repository;
+
+import org.folio.de.entity.JobCommandOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface JobCommandOutboxRepository extends JpaRepository<JobCommandOutboxEntity, UUID> {
+
+  /**
+   * Locks the oldest unsent commands that are not claimed by an instance, rows locked by another instance
+   * are skipped so instances claim disjoint batches.
+   */
+  @Query(value = "SELECT * FROM job_command_outbox WHERE sent_date IS NULL "
+    + "AND (claimed_until IS NULL OR claimed_until < :now) ORDER BY created_date LIMIT :limit "
+    + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<JobCommandOutboxEntity> lockUnclaimed(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Modifying
+  @Query("UPDATE JobCommandOutboxEntity o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+  int claim(@Param("ids") Collection<UUID> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+  @Modifying
+  @Query("UPDATE JobCommandOutboxEntity o SET o.sentDate = :sentDate, o.claimedUntil = null WHERE o.id IN :ids")
+  int markSent(@Param("ids") Collection<UUID> ids, @Param("sentDate") LocalDateTime sentDate);
+
+  /**
+   * Releases the claim of commands that were not sent, so they are claimed again by the next relay.
+   */
+  @Modifying
+  @Query("UPDATE JobCommandOutboxEntity o SET o.claimedUntil = null WHERE o.id IN :ids")
+  int release(@Param("ids") Collection<UUID> ids);
+
+  @Modifying
+  @Query("DELETE FROM JobCommandOutboxEntity o WHERE o.sentDate < :sentDate")
+  int deleteSentBefore(@Param("sentDate") LocalDateTime sentDate);
+}
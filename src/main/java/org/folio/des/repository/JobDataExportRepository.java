@@ -1,19 +1,52 @@
 package org.folio.des.repository;
 
 import org.folio.de.entity.Job;
+import org.folio.des.domain.ExpiredJob;
 import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.Progress;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
-public interface JobDataExportRepository extends JpaRepository<Job, UUID> {
+public interface JobDataExportRepository extends JpaRepository<Job, UUID>, ExpiredJobsRepository {
 
   @Query(value = "SELECT nextval('job-number')", nativeQuery = true)
   Integer getNextJobNumber();
 
-  List<Job> findByTypeAndUpdatedDateBefore(ExportType type, Date updatedDate);
+  @Override
+  @Query("SELECT new org.folio.des.domain.ExpiredJob(j.id, j.updatedDate, j.files) FROM Job j "
+    + "WHERE j.type = :type AND j.updatedDate < :updatedBefore ORDER BY j.updatedDate, j.id")
+  List<ExpiredJob> findExpired(@Param("type") ExportType type, @Param("updatedBefore") Date updatedBefore,
+    Limit limit);
+
+  @Override
+  @Query("SELECT new org.folio.des.domain.ExpiredJob(j.id, j.updatedDate, j.files) FROM Job j "
+    + "WHERE j.type = :type AND j.updatedDate < :updatedBefore "
+    + "AND (j.updatedDate > :lastUpdatedDate OR (j.updatedDate = :lastUpdatedDate AND j.id > :lastId)) "
+    + "ORDER BY j.updatedDate, j.id")
+  List<ExpiredJob> findExpiredAfter(@Param("type") ExportType type, @Param("updatedBefore") Date updatedBefore,
+    @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastId") UUID lastId, Limit limit);
+
+  /**
+   * Updates progress of the job unless the job is already finished, so buffered progress never overrides
+   * the final one. The version of the job is incremented, the bulk update bypasses optimistic locking of the entity.
+   *
+   * @return number of updated jobs
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE Job j SET j.progress = :progress, j.version = j.version + 1 WHERE j.id = :id "
+    + "AND (j.batchStatus IS NULL OR j.batchStatus NOT IN :terminalStatuses)")
+  int updateProgress(@Param("id") UUID id, @Param("progress") Progress progress,
+    @Param("terminalStatuses") Collection<BatchStatus> terminalStatuses);
 
 }
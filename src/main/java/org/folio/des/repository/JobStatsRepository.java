@@ -0,0 +1,41 @@
+package org.folio.des.repository;
+
+import org.folio.de.entity.JobStatsEntity;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface JobStatsRepository extends JpaRepository<JobStatsEntity, JobStatsEntity.Key> {
+
+  /**
+   * Finds non-zero job counts, null arguments do not filter.
+   */
+  @Query("SELECT s FROM JobStatsEntity s WHERE s.jobCount > 0 "
+    + "AND (:type IS NULL OR s.type = :type) AND (:status IS NULL OR s.status = :status) "
+    + "AND (:from IS NULL OR s.day >= :from) AND (:to IS NULL OR s.day <= :to) "
+    + "ORDER BY s.day DESC, s.type, s.status")
+  List<JobStatsEntity> find(@Param("type") ExportType type, @Param("status") JobStatus status,
+    @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  /**
+   * Adds the count changes appended by the job triggers to the counts and removes them. Changes of transactions that
+   * commit while the fold runs are not visible to it and stay for the next fold.
+   *
+   * @return number of changed counts
+   */
+  @Modifying
+  @Query(value = "WITH deltas AS (DELETE FROM job_stats_delta RETURNING type, status, day, job_count) "
+    + "INSERT INTO job_stats AS s (type, status, day, job_count) "
+    + "SELECT type, status, day, sum(job_count) FROM deltas GROUP BY 1, 2, 3 HAVING sum(job_count) <> 0 "
+    + "ORDER BY 1, 2, 3 ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count",
+    nativeQuery = true)
+  int fold();
+}
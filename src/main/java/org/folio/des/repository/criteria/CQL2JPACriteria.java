@@ -1,6 +1,7 @@
 package org.folio.des.repository.criteria;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
@@ -10,6 +11,7 @@ import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 
 import java.io.IOException;
 import java.sql.Timestamp;
@@ -17,8 +19,10 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -28,6 +32,10 @@ import org.folio.cql2pgjson.model.CqlModifiers;
 import org.folio.cql2pgjson.model.CqlSort;
 import org.folio.cql2pgjson.model.CqlTermFormat;
 import org.folio.cql2pgjson.util.Cql2SqlUtil;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaDerivedRoot;
+import org.hibernate.query.criteria.JpaSubQuery;
 import org.z3950.zing.cql.CQLAndNode;
 import org.z3950.zing.cql.CQLBooleanNode;
 import org.z3950.zing.cql.CQLNode;
@@ -46,17 +54,47 @@ public class CQL2JPACriteria<E> {
 
   private final CriteriaBuilder builder;
   private final JsonbNodeConverter jsonbNodeConverter;
-  public final Root<E> root;
+  private final Class<E> entityCls;
+  private final CQLQueryCache queryCache;
   public static final String NOT_EQUALS_OPERATOR = "<>";
-  public final CriteriaQuery<E> criteria;
   private static final String ASTERISKS_SIGN = "*";
   public static final String CRITERIA_JSONB_START = "jsonb";
+  private static final Set<String> EQUALITY_OPERATORS = Set.of("=", "==", NOT_EQUALS_OPERATOR);
+  private static final String ID_ALIAS = "id";
+
+  /**
+   * Root of the query that is currently being built, every to*Criteria method binds its own root.
+   */
+  private Root<E> root;
+  private boolean fetchJoins;
+  /**
+   * Query that is currently being converted, its terms are bound to the term nodes of a possibly shared tree.
+   */
+  private CQLQuery query;
 
   public CQL2JPACriteria(Class<E> entityCls, EntityManager entityManager) {
+    this(entityCls, entityManager, null);
+  }
+
+  /**
+   * Translates equality of jsonb fields in the default {@link JsonbNodeConverter.Mode#CONTAINMENT} mode.
+   *
+   * @param queryCache cache of parsed queries, null to parse every query
+   */
+  public CQL2JPACriteria(Class<E> entityCls, EntityManager entityManager, CQLQueryCache queryCache) {
+    this(entityCls, entityManager, queryCache, JsonbNodeConverter.Mode.CONTAINMENT);
+  }
+
+  /**
+   * @param queryCache cache of parsed queries, null to parse every query
+   * @param jsonbMode translation of equality of jsonb fields
+   */
+  public CQL2JPACriteria(Class<E> entityCls, EntityManager entityManager, CQLQueryCache queryCache,
+    JsonbNodeConverter.Mode jsonbMode) {
     this.builder = entityManager.getCriteriaBuilder();
-    this.jsonbNodeConverter = new JsonbNodeConverter();
-    criteria = builder.createQuery(entityCls);
-    root = criteria.from(entityCls);
+    this.jsonbNodeConverter = new JsonbNodeConverter(jsonbMode);
+    this.entityCls = entityCls;
+    this.queryCache = queryCache;
   }
 
   /**
@@ -66,30 +104,138 @@ public class CQL2JPACriteria<E> {
    * @return SQL query
    */
   public CriteriaQuery<E> toCriteria(String cql) throws QueryValidationException {
+    return toCriteria(cql, entityCls, List.of());
+  }
+
+  /**
+   * Convert the CQL query into a SQL query that selects only the given attributes into a projection.
+   *
+   * @param cql the query to convert
+   * @param resultCls the projection class with a constructor that takes the attributes in the given order
+   * @param attributes the selected attributes, empty to select the entity
+   * @return SQL query
+   */
+  public <R> CriteriaQuery<R> toCriteria(String cql, Class<R> resultCls, List<String> attributes)
+    throws QueryValidationException {
+
+    CQLNode node = parse(cql);
+    CriteriaQuery<R> criteria = createQuery(resultCls, attributes);
+
+    if (node instanceof CQLSortNode cqlSortNode) {
+      criteria.orderBy(processSort(cqlSortNode));
+      node = cqlSortNode.getSubtree();
+    }
+    return criteria.where(process(node));
+  }
+
+  /**
+   * Convert the CQL query into a {@code SELECT count(*)} query with the same WHERE clause.
+   * Sorting is dropped and joins are not fetched, so no entity is loaded.
+   *
+   * @param cql the query to convert
+   * @return SQL count query
+   */
+  public CriteriaQuery<Long> toCountCriteria(String cql) throws QueryValidationException {
+    CriteriaQuery<Long> criteria = builder.createQuery(Long.class);
+    bindRoot(criteria, false);
+    return criteria.select(builder.count(root)).where(process(withoutSort(parse(cql))));
+  }
+
+  /**
+   * Convert the CQL query into {@code SELECT count(*) FROM (SELECT id ... LIMIT n)}, the database stops reading
+   * matching rows after the limit and only the count is returned.
+   *
+   * @param cql the query to convert
+   * @param limit the maximum number of rows to count
+   * @return SQL count query with an upper bound
+   */
+  public CriteriaQuery<Long> toCappedCountCriteria(String cql, int limit) throws QueryValidationException {
+    var hibernateBuilder = (HibernateCriteriaBuilder) builder;
+    JpaCriteriaQuery<Long> criteria = hibernateBuilder.createQuery(Long.class);
+    JpaSubQuery<Tuple> ids = criteria.subquery(Tuple.class);
+    this.root = ids.from(entityCls);
+    this.fetchJoins = false;
+    var entityType = root.getModel();
+    ids.multiselect(root.get(entityType.getId(entityType.getIdType().getJavaType())).alias(ID_ALIAS))
+      .where(process(withoutSort(parse(cql))));
+    ids.fetch(limit);
+    JpaDerivedRoot<Tuple> rows = criteria.from(ids);
+    return criteria.select(builder.count(rows.get(ID_ALIAS)));
+  }
+
+  /**
+   * Convert the CQL query into a keyset (seek) query: rows are sorted descending by the key and the id attributes
+   * and only rows that follow the given last key and id are selected. Sorting of the CQL query is ignored.
+   *
+   * @param cql the query to convert
+   * @param keyAttribute the attribute of the sort key
+   * @param idAttribute the unique attribute that breaks ties of the sort key
+   * @param lastKey the sort key of the last row of the previous page, null for the first page
+   * @param lastId the id of the last row of the previous page, null for the first page
+   * @return SQL query
+   */
+  public <K extends Comparable<? super K>, I extends Comparable<? super I>> CriteriaQuery<E> toKeysetCriteria(
+    String cql, String keyAttribute, String idAttribute, K lastKey, I lastId) throws QueryValidationException {
+
+    return toKeysetCriteria(cql, keyAttribute, idAttribute, lastKey, lastId, entityCls, List.of());
+  }
+
+  /**
+   * Convert the CQL query into a keyset (seek) query that selects only the given attributes into a projection,
+   * see {@link #toKeysetCriteria(String, String, String, Comparable, Comparable)}.
+   */
+  public <R, K extends Comparable<? super K>, I extends Comparable<? super I>> CriteriaQuery<R> toKeysetCriteria(
+    String cql, String keyAttribute, String idAttribute, K lastKey, I lastId, Class<R> resultCls,
+    List<String> attributes) throws QueryValidationException {
+
+    CriteriaQuery<R> criteria = createQuery(resultCls, attributes);
+    Path<K> key = root.get(keyAttribute);
+    Path<I> id = root.get(idAttribute);
+
+    Predicate predicate = process(withoutSort(parse(cql)));
+    if (lastKey != null && lastId != null) {
+      predicate = builder.and(predicate, builder.or(
+        builder.lessThan(key, lastKey),
+        builder.and(builder.equal(key, lastKey), builder.lessThan(id, lastId))));
+    }
+    return criteria.where(predicate).orderBy(builder.desc(key), builder.desc(id));
+  }
+
+  private CQLNode parse(String cql) throws QueryValidationException {
     try {
-      CQLParser parser = new CQLParser();
-      CQLNode node = parser.parse(cql);
-      return toCriteria(node);
+      query = queryCache == null ? CQLQuery.of(new CQLParser().parse(cql)) : queryCache.parse(cql);
+      return query.node();
     } catch (IOException | CQLParseException e) {
       throw new QueryValidationException(e);
     }
   }
 
-  private CriteriaQuery<E> toCriteria(CQLNode node)
-    throws QueryValidationException {
-    Predicate predicates;
-
-    if (node instanceof CQLSortNode cqlSortNode) {
-      processSort(cqlSortNode);
-      predicates = process(cqlSortNode.getSubtree());
-    } else {
-      predicates = process(node);
+  /**
+   * Creates a query selecting either the entity, with its joins fetched, or a constructor projection of the attributes.
+   * Joins are not fetched for projections because the fetched associations are not part of the selection.
+   */
+  private <R> CriteriaQuery<R> createQuery(Class<R> resultCls, List<String> attributes) {
+    CriteriaQuery<R> criteria = builder.createQuery(resultCls);
+    if (attributes.isEmpty()) {
+      bindRoot(criteria, true);
+      return criteria;
     }
+    bindRoot(criteria, false);
+    return criteria.select(builder.construct(resultCls, attributes.stream()
+      .map(root::get)
+      .toArray(Selection[]::new)));
+  }
+
+  private void bindRoot(CriteriaQuery<?> criteria, boolean fetchJoins) {
+    this.root = criteria.from(entityCls);
+    this.fetchJoins = fetchJoins;
+  }
 
-    return criteria.where(predicates);
+  private static CQLNode withoutSort(CQLNode node) {
+    return node instanceof CQLSortNode cqlSortNode ? cqlSortNode.getSubtree() : node;
   }
 
-  private void processSort(CQLSortNode node) throws CQLFeatureUnsupportedException {
+  private List<Order> processSort(CQLSortNode node) throws CQLFeatureUnsupportedException {
     List<Order> orders = new ArrayList<>();
 
     for (ModifierSet sortIndex : node.getSortIndexes()) {
@@ -104,7 +250,7 @@ public class CQL2JPACriteria<E> {
       orders.add(getOrder(field, modifiers));
     }
 
-    criteria.orderBy(orders);
+    return orders;
   }
 
   private Order getOrder(Expression<String> field, CqlModifiers modifiers) {
@@ -115,7 +261,7 @@ public class CQL2JPACriteria<E> {
 
   private Predicate process(CQLNode node) throws QueryValidationException {
     if (node instanceof CQLTermNode cqlTermNode) {
-      return processTerm(cqlTermNode);
+      return processTerm(query.bind(cqlTermNode));
     }
     if (node instanceof CQLBooleanNode cqlBooleanNode) {
       return processBoolean(cqlBooleanNode);
@@ -134,7 +280,7 @@ public class CQL2JPACriteria<E> {
       if (node.getRightOperand().getClass() == CQLTermNode.class) {
         // special case for the query the UI uses most often, before the user has
         // typed in anything: title=* OR contributors*= OR identifier=*
-        CQLTermNode r = (CQLTermNode) (node.getRightOperand());
+        CQLTermNode r = query.bind((CQLTermNode) node.getRightOperand());
         if (ASTERISKS_SIGN.equals(r.getTerm()) && "=".equals(r.getRelation().getBase())) {
           log.debug("pgFT(): Simplifying =* OR =* ");
           return process(node.getLeftOperand());
@@ -167,7 +313,9 @@ public class CQL2JPACriteria<E> {
       final int dotIdx = fieldName.indexOf(".");
       final String attributeName = fieldName.substring(0, dotIdx);
       Join<E, Object> children = root.join(attributeName, JoinType.LEFT);
-      root.fetch(attributeName);
+      if (fetchJoins) {
+        root.fetch(attributeName);
+      }
       return children.get(fieldName.substring(dotIdx + 1));
     } else {
       return root.get(fieldName);
@@ -223,7 +371,10 @@ public class CQL2JPACriteria<E> {
     }
   }
 
-  /** Create an SQL expression using LIKE query syntax. */
+  /**
+   * Create an SQL expression using LIKE query syntax. Substring searches of job name, description, source
+   * and creator are served by the pg_trgm GIN indexes of these columns, which support LIKE with leading wildcards.
+   */
   private Predicate queryByLike(Path<String> field, CQLTermNode node, String comparator) {
 
     if (NOT_EQUALS_OPERATOR.equals(comparator)) {
@@ -250,9 +401,27 @@ public class CQL2JPACriteria<E> {
       LocalDateTime dateTime = LocalDateTime.parse((String) val);
       val = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
     } else if (javaType.isEnum()) {
-      field = field.as(String.class);
+      var constant = EQUALITY_OPERATORS.contains(comparator) ? toEnumConstant(javaType, (String) val) : null;
+      if (constant != null) {
+        // compares the column itself, so indexes of enum columns stay usable
+        val = constant;
+      } else {
+        field = field.as(String.class);
+      }
     }
 
     return toPredicate(field, val, comparator);
   }
+
+  /**
+   * Finds the enum constant stored as the given term, enums are stored by name.
+   *
+   * @return the constant or null if the term is not a name of a constant
+   */
+  private static Enum<?> toEnumConstant(Class<?> enumCls, String term) {
+    return Arrays.stream((Enum<?>[]) enumCls.getEnumConstants())
+      .filter(constant -> constant.name().equals(term))
+      .findFirst()
+      .orElse(null);
+  }
 }
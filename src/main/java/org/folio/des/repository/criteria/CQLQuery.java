@@ -0,0 +1,27 @@
+package org.folio.des.repository.criteria;
+
+import java.util.Map;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLTermNode;
+
+/**
+ * Parsed CQL query: a tree that may be shared by all queries of the same shape and the terms of this query
+ * bound to the term nodes of the tree.
+ *
+ * @param node the parsed tree, must not be modified
+ * @param terms terms of this query by the term nodes of the tree, nodes without a term here keep their own term
+ */
+public record CQLQuery(CQLNode node, Map<CQLTermNode, String> terms) {
+
+  public static CQLQuery of(CQLNode node) {
+    return new CQLQuery(node, Map.of());
+  }
+
+  /**
+   * Returns the term node with the term of this query.
+   */
+  public CQLTermNode bind(CQLTermNode termNode) {
+    var term = terms.get(termNode);
+    return term == null ? termNode : new CQLTermNode(termNode.getIndex(), termNode.getRelation(), term);
+  }
+}
@@ -0,0 +1,122 @@
+package org.folio.des.repository.criteria;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.map.LRUMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.z3950.zing.cql.CQLBooleanNode;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLParseException;
+import org.z3950.zing.cql.CQLParser;
+import org.z3950.zing.cql.CQLSortNode;
+import org.z3950.zing.cql.CQLTermNode;
+
+/**
+ * Bounded LRU cache of parsed CQL queries keyed by the {@link CQLQueryShape shape} of the query, so queries that
+ * differ only in the searched values share one parsed tree. On a hit the terms of the query are bound to the term
+ * nodes of the cached tree instead of parsing the query again.
+ * Parsed trees are only read while building criteria, so they are shared between queries and threads.
+ */
+@Component
+@Log4j2
+public class CQLQueryCache {
+
+  /**
+   * Parsed tree of a shape with the placeholder slot of every replaced term node, no tree if the shape cannot be
+   * shared because its placeholders do not match the terms of the parsed query.
+   */
+  private record Shape(CQLNode node, Map<CQLTermNode, Integer> slots) {
+
+    private static final Shape NOT_SHARED = new Shape(null, Map.of());
+  }
+
+  private final Map<String, Shape> cache;
+  private final Counter hits;
+  private final Counter misses;
+
+  public CQLQueryCache(@Value("${application.cql.cache-size:1000}") int maxSize, MeterRegistry meterRegistry) {
+    log.info("CQLQueryCache:: parsed CQL queries cache size={}.", maxSize);
+    this.cache = meterRegistry.gaugeMapSize("cql.parse.cache.size", Tags.empty(),
+      Collections.synchronizedMap(new LRUMap<>(maxSize)));
+    this.hits = meterRegistry.counter("cql.parse.cache.requests", "result", "hit");
+    this.misses = meterRegistry.counter("cql.parse.cache.requests", "result", "miss");
+  }
+
+  /**
+   * Returns the parsed query with the cached tree of its shape, parses and caches the shape on a miss.
+   *
+   * @param cql the query to parse
+   * @return parsed query, its tree must not be modified
+   */
+  public CQLQuery parse(String cql) throws IOException, CQLParseException {
+    var shape = CQLQueryShape.of(cql);
+    var cached = cache.get(shape.key());
+    if (cached != null && cached.node() != null) {
+      hits.increment();
+      Map<CQLTermNode, String> terms = new IdentityHashMap<>(cached.slots().size());
+      cached.slots().forEach((node, slot) -> terms.put(node, shape.terms().get(slot)));
+      return new CQLQuery(cached.node(), terms);
+    }
+    misses.increment();
+    var node = new CQLParser().parse(cql);
+    if (cached == null) {
+      cache.put(shape.key(), share(shape, node));
+    }
+    return CQLQuery.of(node);
+  }
+
+  private static Shape share(CQLQueryShape shape, CQLNode parsed) {
+    if (shape.terms().isEmpty()) {
+      return new Shape(parsed, Map.of());
+    }
+    try {
+      var node = new CQLParser().parse(shape.key());
+      Map<CQLTermNode, Integer> slots = new IdentityHashMap<>();
+      if (bindSlots(shape, node, parsed, slots) && new HashSet<>(slots.values()).size() == shape.terms().size()) {
+        return new Shape(node, slots);
+      }
+    } catch (IOException | CQLParseException e) {
+      log.debug("share:: shape {} of query {} is not parsed: {}", shape.key(), parsed, e.getMessage());
+    }
+    log.debug("share:: shape {} is not shared, its placeholders do not match the terms of the query.", shape.key());
+    return Shape.NOT_SHARED;
+  }
+
+  /**
+   * Walks the tree of the shape and the tree of the parsed query together and records the slot of every term node
+   * of the shape that holds a placeholder. The trees must have the same structure and every placeholder must stand
+   * for the term the query was parsed with.
+   */
+  private static boolean bindSlots(CQLQueryShape shape, CQLNode node, CQLNode parsed,
+    Map<CQLTermNode, Integer> slots) {
+
+    if (node instanceof CQLTermNode term && parsed instanceof CQLTermNode parsedTerm) {
+      if (!term.getIndex().equals(parsedTerm.getIndex())) {
+        return false;
+      }
+      var slot = shape.slot(term.getTerm());
+      if (slot < 0) {
+        return term.getTerm().equals(parsedTerm.getTerm());
+      }
+      slots.put(term, slot);
+      return shape.terms().get(slot).equals(parsedTerm.getTerm());
+    }
+    if (node instanceof CQLBooleanNode bool && parsed instanceof CQLBooleanNode parsedBool
+      && bool.getClass() == parsedBool.getClass()) {
+      return bindSlots(shape, bool.getLeftOperand(), parsedBool.getLeftOperand(), slots)
+        && bindSlots(shape, bool.getRightOperand(), parsedBool.getRightOperand(), slots);
+    }
+    if (node instanceof CQLSortNode sort && parsed instanceof CQLSortNode parsedSort) {
+      return bindSlots(shape, sort.getSubtree(), parsedSort.getSubtree(), slots);
+    }
+    return false;
+  }
+}
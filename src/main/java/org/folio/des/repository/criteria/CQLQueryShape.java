@@ -0,0 +1,165 @@
+package org.folio.des.repository.criteria;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Shape of a CQL query: the query text with the terms of search clauses replaced by numbered placeholders
+ * ({@code $0}, {@code $1}, ...) and whitespace normalized, so queries that differ only in the searched values
+ * have the same shape. Indexes, relations, modifiers and sort keys stay in the shape.
+ * Terms with escapes and terms that are CQL keywords are not replaced, they are kept in the shape as written.
+ */
+final class CQLQueryShape {
+
+  static final String PLACEHOLDER_PREFIX = "$";
+
+  private static final Set<String> RELATION_WORDS = Set.of("any", "all", "adj", "within", "encloses", "exact");
+  private static final Set<String> KEYWORDS = Set.of("and", "or", "not", "prox", "sortby");
+  private static final String SORT_BY = "sortby";
+  private static final String MODIFIER = "/";
+
+  private enum Kind { WORD, STRING, RELATION, SYMBOL }
+
+  private enum ModifierState { NONE, NAME, COMPARATOR, VALUE }
+
+  private record Token(Kind kind, String text) {
+  }
+
+  private final String key;
+  private final List<String> terms;
+
+  private CQLQueryShape(String key, List<String> terms) {
+    this.key = key;
+    this.terms = terms;
+  }
+
+  /**
+   * @return the query text with placeholders instead of terms
+   */
+  String key() {
+    return key;
+  }
+
+  /**
+   * @return the replaced terms in the order of their placeholders, quotes are removed
+   */
+  List<String> terms() {
+    return terms;
+  }
+
+  /**
+   * @return the index of the placeholder, -1 if the term is not a placeholder of this shape
+   */
+  int slot(String term) {
+    if (term == null || !term.startsWith(PLACEHOLDER_PREFIX)) {
+      return -1;
+    }
+    try {
+      var slot = Integer.parseInt(term.substring(PLACEHOLDER_PREFIX.length()));
+      return slot >= 0 && slot < terms.size() ? slot : -1;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  static CQLQueryShape of(String cql) {
+    var key = new StringJoiner(" ");
+    List<String> terms = new ArrayList<>();
+    var sortKeys = false;
+    var expectTerm = false;
+    var afterIndex = false;
+    var modifier = ModifierState.NONE;
+
+    for (Token token : tokenize(cql)) {
+      if (sortKeys) {
+        key.add(token.text());
+        continue;
+      }
+      if (modifier == ModifierState.COMPARATOR && token.kind() != Kind.RELATION) {
+        modifier = ModifierState.NONE;
+      }
+      if (modifier != ModifierState.NONE) {
+        modifier = switch (modifier) {
+          case NAME -> ModifierState.COMPARATOR;
+          case COMPARATOR -> ModifierState.VALUE;
+          default -> ModifierState.NONE;
+        };
+        key.add(token.text());
+        continue;
+      }
+      if (MODIFIER.equals(token.text())) {
+        modifier = ModifierState.NAME;
+        key.add(token.text());
+        continue;
+      }
+      if (expectTerm && isReplaceableTerm(token)) {
+        key.add(PLACEHOLDER_PREFIX + terms.size());
+        terms.add(token.kind() == Kind.STRING ? token.text().substring(1, token.text().length() - 1) : token.text());
+        expectTerm = false;
+        afterIndex = false;
+        continue;
+      }
+      var word = token.kind() == Kind.WORD ? token.text().toLowerCase(Locale.ROOT) : "";
+      sortKeys = SORT_BY.equals(word);
+      expectTerm = token.kind() == Kind.RELATION || afterIndex && RELATION_WORDS.contains(word);
+      afterIndex = token.kind() == Kind.STRING || token.kind() == Kind.WORD && !KEYWORDS.contains(word);
+      key.add(token.text());
+    }
+    return new CQLQueryShape(key.toString(), List.copyOf(terms));
+  }
+
+  private static boolean isReplaceableTerm(Token token) {
+    var text = token.text();
+    if (text.indexOf('\\') >= 0) {
+      return false;
+    }
+    return switch (token.kind()) {
+      case STRING -> text.length() >= 2 && text.endsWith("\"");
+      case WORD -> !KEYWORDS.contains(text.toLowerCase(Locale.ROOT))
+        && !RELATION_WORDS.contains(text.toLowerCase(Locale.ROOT));
+      default -> false;
+    };
+  }
+
+  private static List<Token> tokenize(String cql) {
+    List<Token> tokens = new ArrayList<>();
+    var length = cql.length();
+    var i = 0;
+    while (i < length) {
+      var c = cql.charAt(i);
+      var end = i + 1;
+      if (Character.isWhitespace(c)) {
+        i = end;
+        continue;
+      }
+      if (c == '"') {
+        while (end < length && cql.charAt(end) != '"') {
+          end += cql.charAt(end) == '\\' ? 2 : 1;
+        }
+        end = Math.min(end + 1, length);
+        tokens.add(new Token(Kind.STRING, cql.substring(i, end)));
+      } else if (c == '(' || c == ')' || c == '/') {
+        tokens.add(new Token(Kind.SYMBOL, String.valueOf(c)));
+      } else if (c == '=' || c == '<' || c == '>') {
+        if (end < length && (cql.charAt(end) == '=' || c == '<' && cql.charAt(end) == '>')) {
+          end++;
+        }
+        tokens.add(new Token(Kind.RELATION, cql.substring(i, end)));
+      } else {
+        while (end < length && !isDelimiter(cql.charAt(end))) {
+          end++;
+        }
+        tokens.add(new Token(Kind.WORD, cql.substring(i, end)));
+      }
+      i = end;
+    }
+    return tokens;
+  }
+
+  private static boolean isDelimiter(char c) {
+    return Character.isWhitespace(c) || "()=<>\"/".indexOf(c) >= 0;
+  }
+}
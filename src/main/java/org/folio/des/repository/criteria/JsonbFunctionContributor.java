@@ -0,0 +1,27 @@
+package org.folio.des.repository.criteria;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers functions of jsonb operators, so criteria queries can use them. Operators, unlike functions of the same
+ * semantics, can be served by indexes. Registered through {@code META-INF/services}.
+ */
+public class JsonbFunctionContributor implements FunctionContributor {
+
+  /** {@code jsonb_contains(column, document)} is rendered as {@code column @> document}. */
+  public static final String JSONB_CONTAINS_FUNC = "jsonb_contains";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    var booleanType = functionContributions.getTypeConfiguration()
+      .getBasicTypeRegistry()
+      .resolve(StandardBasicTypes.BOOLEAN);
+    functionContributions.getFunctionRegistry()
+      .patternDescriptorBuilder(JSONB_CONTAINS_FUNC, "(?1 @> cast(?2 as jsonb))")
+      .setInvariantType(booleanType)
+      .setExactArgumentCount(2)
+      .register();
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.des.repository.criteria;
 
 import static org.folio.des.repository.criteria.CQL2JPACriteria.CRITERIA_JSONB_START;
+import static org.folio.des.repository.criteria.JsonbFunctionContributor.JSONB_CONTAINS_FUNC;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
@@ -10,42 +11,74 @@ import jakarta.validation.constraints.NotNull;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.z3950.zing.cql.CQLTermNode;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
 public class JsonbNodeConverter {
 
   public static final String JSONB_EXTRACT_PATH_TEXT_FUNC = "jsonb_extract_path_text";
 
+  private static final Set<String> EQUALITY_RELATIONS = Set.of("=", "==");
+  private static final Set<String> JSON_LITERALS = Set.of("true", "false", "null");
+  private static final Pattern JSON_NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+  /**
+   * Defines how equality of a jsonb field is translated.
+   */
+  public enum Mode {
+    /** {@code jsonb_extract_path_text(column, 'a', 'b') IN ('X')}, no index of job applies. */
+    EXTRACT_PATH,
+    /** {@code column @> '{"a":{"b":"X"}}'}, a GIN index of the column applies to any path. */
+    CONTAINMENT
+  }
+
+  private final Mode mode;
+
+  /**
+   * Creates a converter of the default {@link Mode#CONTAINMENT} mode of the application.
+   */
+  public JsonbNodeConverter() {
+    this(Mode.CONTAINMENT);
+  }
+
+  public JsonbNodeConverter(Mode mode) {
+    this.mode = mode;
+  }
+
   public Expression<String> convertToExpression(Root<?> root, String jsonPath, CriteriaBuilder cb){
     List<String> fieldNames = getFieldNames(jsonPath);
-    int fieldsNumber = fieldNames.size();
-
-    if (fieldsNumber > 0) {
-      String rootFieldName = fieldNames.get(0);
-      Expression<String> expression = cb.function(JSONB_EXTRACT_PATH_TEXT_FUNC, String.class, root.<String>get(rootFieldName));
-
-      if (fieldsNumber == 2) {
-        expression = cb.function(JSONB_EXTRACT_PATH_TEXT_FUNC, String.class, root.<String>get(rootFieldName),
-          cb.literal(fieldNames.get(1)));
-      } else if (fieldsNumber == 3) {
-        expression = cb.function(JSONB_EXTRACT_PATH_TEXT_FUNC, String.class, root.<String>get(rootFieldName),
-          cb.literal(fieldNames.get(1)), cb.literal(fieldNames.get(2)));
-      } else if (fieldsNumber == 4) {
-        expression = cb.function(JSONB_EXTRACT_PATH_TEXT_FUNC, String.class, root.<String>get(rootFieldName),
-          cb.literal(fieldNames.get(1)), cb.literal(fieldNames.get(2)), cb.literal(fieldNames.get(3)));
-      }
-
-    return expression;
-    } else {
+    if (fieldNames.isEmpty()) {
       throw new IllegalArgumentException(String.format("Wrong JSONB criteria: %s", jsonPath));
     }
+    Expression<?>[] arguments = Stream.concat(Stream.of(root.get(fieldNames.get(0))),
+        fieldNames.stream().skip(1).map(cb::literal))
+      .toArray(Expression[]::new);
+    return cb.function(JSONB_EXTRACT_PATH_TEXT_FUNC, String.class, arguments);
   }
 
+  /**
+   * Converts the jsonb term to a predicate. In {@link Mode#CONTAINMENT} mode equality of a nested field is translated
+   * to a containment check when the term is a JSON string, terms that look like other JSON values are compared as text
+   * because containment compares JSON types as well.
+   */
   public Predicate convertToPredicate(CQLTermNode node, CriteriaBuilder cb, Root<?> root) {
     String jsonPath = node.getIndex();
+    List<String> fieldNames = getFieldNames(jsonPath);
+    String term = node.getTerm();
+    if (mode == Mode.CONTAINMENT && fieldNames.size() > 1
+      && EQUALITY_RELATIONS.contains(node.getRelation().getBase()) && isJsonString(term)) {
+      var document = toContainmentDocument(fieldNames.subList(1, fieldNames.size()), term);
+      return cb.isTrue(cb.function(JSONB_CONTAINS_FUNC, Boolean.class, root.get(fieldNames.get(0)),
+        cb.literal(document.toString())));
+    }
     Expression<String> expression = convertToExpression(root, jsonPath, cb);
-    return expression.in(node.getTerm());
+    return expression.in(term);
   }
 
   @NotNull
@@ -55,4 +88,18 @@ public class JsonbNodeConverter {
       .toList();
   }
 
+  /**
+   * Builds the document of nested objects that holds the value at the given path, e.g. {@code {"a":{"b":"X"}}}.
+   */
+  static JsonNode toContainmentDocument(List<String> path, String value) {
+    JsonNode document = JsonNodeFactory.instance.textNode(value);
+    for (int i = path.size() - 1; i >= 0; i--) {
+      document = JsonNodeFactory.instance.objectNode().set(path.get(i), document);
+    }
+    return document;
+  }
+
+  private static boolean isJsonString(String term) {
+    return !JSON_LITERALS.contains(term) && !JSON_NUMBER.matcher(term).matches();
+  }
 }
@@ -9,4 +9,5 @@ public final class QuartzConstants {
   public static final String EDIFACT_ORDERS_EXPORT_GROUP_NAME = "edifactOrdersExport";
   public static final String BURSAR_EXPORT_GROUP_NAME = "bursarExport";
   public static final String OLD_JOB_DELETE_GROUP_NAME = "oldJobDelete";
+  public static final String TRIGGER_FINGERPRINT_PARAM = "fingerprint";
 }
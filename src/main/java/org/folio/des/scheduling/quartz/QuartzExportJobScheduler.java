@@ -1,6 +1,14 @@
 package org.folio.des.scheduling.quartz;
 
+import static org.folio.des.scheduling.quartz.QuartzConstants.TRIGGER_FINGERPRINT_PARAM;
+
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -75,14 +83,74 @@ public class QuartzExportJobScheduler implements ExportJobScheduler {
     if (exportTrigger.isDisabled()) {
       scheduler.deleteJob(jobKey);
       log.info("rescheduleJob:: job {} deleted for config id '{}'", jobKey, exportConfig.getId());
-    } else {
-      // remove existing and schedule updated job
+    } else if (CollectionUtils.isEmpty(exportTrigger.triggers())) {
       scheduler.deleteJob(jobKey);
-      scheduleJob(jobKey, exportTrigger, exportConfig);
+      log.info("rescheduleJob:: job {} without triggers deleted for config id '{}'", jobKey, exportConfig.getId());
+    } else {
+      updateJob(jobKey, exportConfig);
+      updateTriggers(jobKey, exportTrigger.triggers());
       log.info("rescheduleJob:: job '{}' rescheduled for config id '{}'", jobKey, exportConfig.getId());
     }
   }
 
+  /**
+   * Replaces the stored job if its data is changed, the triggers of the job are kept.
+   */
+  private void updateJob(JobKey jobKey, ExportConfig exportConfig) throws SchedulerException {
+    JobDetail jobDetail = jobDetailConverter.convert(exportConfig, jobKey);
+    JobDetail existingJobDetail = scheduler.getJobDetail(jobKey);
+    if (existingJobDetail == null || !existingJobDetail.getJobClass().equals(jobDetail.getJobClass())
+      || !existingJobDetail.getJobDataMap().equals(jobDetail.getJobDataMap())) {
+      scheduler.addJob(jobDetail, true, true);
+      log.info("updateJob:: job '{}' data updated", jobKey);
+    }
+  }
+
+  /**
+   * Matches the existing triggers of the job with the new ones by fingerprint. Triggers with the same fingerprint
+   * are kept with their fire times and misfire state, changed triggers are replaced one by one, the rest
+   * are scheduled or unscheduled. Triggers without a fingerprint are treated as changed and triggers
+   * of queued executions are left as is.
+   */
+  private void updateTriggers(JobKey jobKey, Set<Trigger> triggers) throws SchedulerException {
+    Map<String, Trigger> addedTriggers = new LinkedHashMap<>();
+    triggers.forEach(trigger -> addedTriggers.put(fingerprint(trigger), trigger));
+    List<Trigger> staleTriggers = new ArrayList<>();
+    for (Trigger existingTrigger : scheduler.getTriggersOfJob(jobKey)) {
+      if (existingTrigger.getJobDataMap().containsKey(ScheduledExecutionLimiter.OVERFLOW_TRIGGER_PARAM)) {
+        continue;
+      }
+      String fingerprint = existingTrigger.getJobDataMap().getString(TRIGGER_FINGERPRINT_PARAM);
+      if (fingerprint == null || addedTriggers.remove(fingerprint) == null) {
+        staleTriggers.add(existingTrigger);
+      }
+    }
+
+    Iterator<Trigger> added = addedTriggers.values().iterator();
+    // replacements go first, so the job keeps at least one trigger and is not deleted as non-durable
+    for (Trigger staleTrigger : staleTriggers) {
+      if (added.hasNext()) {
+        Trigger trigger = added.next();
+        scheduler.rescheduleJob(staleTrigger.getKey(), trigger);
+        log.info("updateTriggers:: trigger '{}' of job '{}' replaced with '{}'", staleTrigger.getKey(), jobKey,
+          trigger.getKey());
+      } else {
+        scheduler.unscheduleJob(staleTrigger.getKey());
+        log.info("updateTriggers:: trigger '{}' of job '{}' unscheduled", staleTrigger.getKey(), jobKey);
+      }
+    }
+    while (added.hasNext()) {
+      Trigger trigger = added.next().getTriggerBuilder().forJob(jobKey).build();
+      scheduler.scheduleJob(trigger);
+      log.info("updateTriggers:: job '{}' was scheduled with trigger '{}'", jobKey, trigger.getKey());
+    }
+  }
+
+  private static String fingerprint(Trigger trigger) {
+    return Optional.ofNullable(trigger.getJobDataMap().getString(TRIGGER_FINGERPRINT_PARAM))
+      .orElseGet(() -> trigger.getKey().toString());
+  }
+
   private boolean scheduleExists(JobKey jobKey) throws SchedulerException {
     return scheduler.checkExists(jobKey);
   }
@@ -0,0 +1,121 @@
+package org.folio.des.scheduling.quartz;
+
+import static org.folio.des.scheduling.quartz.QuartzConstants.TENANT_ID_PARAM;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Limits the number of scheduled exports executed at the same time by this instance, in total and per tenant.
+ * An execution over a limit is vetoed and queued as a one-shot trigger of the same job fired after the overflow
+ * delay, so waiting executions do not hold threads of the quartz thread pool.
+ */
+@Log4j2
+@Component
+public class ScheduledExecutionLimiter implements TriggerListener {
+
+  public static final String OVERFLOW_TRIGGER_PARAM = "overflow";
+
+  private static final Set<String> LIMITED_GROUPS = Set.of(QuartzConstants.EDIFACT_ORDERS_EXPORT_GROUP_NAME,
+    QuartzConstants.BURSAR_EXPORT_GROUP_NAME);
+
+  private final Semaphore permits;
+  private final int maxConcurrentPerTenant;
+  private final long overflowDelayMs;
+  private final Map<String, Semaphore> tenantPermits = new ConcurrentHashMap<>();
+  private final Map<String, String> runningTenants = new ConcurrentHashMap<>();
+
+  public ScheduledExecutionLimiter(@Value("${folio.quartz.schedule.maxConcurrent:5}") int maxConcurrent,
+                                   @Value("${folio.quartz.schedule.maxConcurrentPerTenant:2}") int maxConcurrentPerTenant,
+                                   @Value("${folio.quartz.schedule.overflowDelayMs:30000}") long overflowDelayMs) {
+    log.info("ScheduledExecutionLimiter:: scheduled exports maxConcurrent={}, maxConcurrentPerTenant={}, "
+      + "overflowDelayMs={}.", maxConcurrent, maxConcurrentPerTenant, overflowDelayMs);
+    this.permits = new Semaphore(maxConcurrent);
+    this.maxConcurrentPerTenant = maxConcurrentPerTenant;
+    this.overflowDelayMs = overflowDelayMs;
+  }
+
+  @Override
+  public String getName() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public void triggerFired(Trigger trigger, JobExecutionContext context) {
+    // permits are taken in vetoJobExecution
+  }
+
+  @Override
+  public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+    if (!isLimited(trigger)) {
+      return false;
+    }
+    String tenant = context.getMergedJobDataMap().getString(TENANT_ID_PARAM);
+    if (tenant == null) {
+      return false;
+    }
+    if (permits.tryAcquire()) {
+      if (tenantPermits.computeIfAbsent(tenant, t -> new Semaphore(maxConcurrentPerTenant)).tryAcquire()) {
+        runningTenants.put(context.getFireInstanceId(), tenant);
+        return false;
+      }
+      permits.release();
+    }
+    queue(trigger, context);
+    return true;
+  }
+
+  @Override
+  public void triggerMisfired(Trigger trigger) {
+    // misfires are handled by the misfire instructions of the triggers
+  }
+
+  @Override
+  public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                              Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+    String tenant = runningTenants.remove(context.getFireInstanceId());
+    if (tenant != null) {
+      tenantPermits.get(tenant).release();
+      permits.release();
+    }
+  }
+
+  private void queue(Trigger trigger, JobExecutionContext context) {
+    var jobKey = context.getJobDetail().getKey();
+    var startTime = new Date(System.currentTimeMillis() + overflowDelayMs);
+    var overflowTrigger = TriggerBuilder.newTrigger()
+      .withIdentity(UUID.randomUUID().toString(), trigger.getKey().getGroup())
+      .forJob(jobKey)
+      .usingJobData(trigger.getJobDataMap())
+      .usingJobData(OVERFLOW_TRIGGER_PARAM, true)
+      .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+      .startAt(startTime)
+      .build();
+    try {
+      context.getScheduler().scheduleJob(overflowTrigger);
+      log.info("queue:: execution of job '{}' is over the limit and queued until {}", jobKey, startTime);
+    } catch (SchedulerException e) {
+      log.warn("queue:: execution of job '{}' is over the limit and could not be queued", jobKey, e);
+    }
+  }
+
+  private static boolean isLimited(Trigger trigger) {
+    String group = trigger.getKey().getGroup();
+    return LIMITED_GROUPS.stream().anyMatch(group::endsWith);
+  }
+}
@@ -1,5 +1,8 @@
 package org.folio.des.scheduling.quartz.converter;
 
+import static org.folio.des.scheduling.quartz.QuartzConstants.TRIGGER_FINGERPRINT_PARAM;
+
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.util.Collections;
 import java.util.Date;
@@ -18,6 +21,7 @@ import org.quartz.DateBuilder;
 import org.quartz.DateBuilder.IntervalUnit;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.log4j.Log4j2;
@@ -25,6 +29,15 @@ import lombok.extern.log4j.Log4j2;
 @Component
 @Log4j2
 public class ScheduleParametersToTriggerConverterImpl implements ScheduleParametersToTriggerConverter {
+  private static final long SECONDS_PER_HOUR = 3600;
+
+  /**
+   * Start times are shifted by a deterministic offset within the window, so schedules with the same time
+   * do not fire in the same second. The offset depends on the schedule and stays the same across reschedules.
+   */
+  @Value("${folio.quartz.schedule.spreadWindowSeconds:0}")
+  private long spreadWindowSeconds;
+
   @Override
   public Set<Trigger> convert(ScheduleParameters scheduleParameters, String triggerGroup) {
 
@@ -58,37 +71,71 @@ public class ScheduleParametersToTriggerConverterImpl implements ScheduleParamet
     return getDaysOfWeek(parameters).stream()
       .map(dayOfWeek -> {
         Date startTime = ScheduleDateTimeUtil.convertScheduleTimeForWeekDayToDate(parameters, dayOfWeek);
-        return buildTrigger(parameters, startTime, IntervalUnit.WEEK, triggerGroup);
+        return buildTrigger(parameters, startTime, IntervalUnit.WEEK, triggerGroup, dayOfWeek.name());
       })
       .collect(Collectors.toSet());
   }
 
   private Set<Trigger> buildMonthlyTrigger(ScheduleParameters parameters, String triggerGroup) {
     Date startTime = ScheduleDateTimeUtil.convertScheduleTimeForMonthDayToDate(parameters);
-    return Set.of(buildTrigger(parameters, startTime, IntervalUnit.MONTH, triggerGroup));
+    return Set.of(buildTrigger(parameters, startTime, IntervalUnit.MONTH, triggerGroup,
+      String.valueOf(parameters.getScheduleDay())));
   }
 
   private Trigger buildTrigger(ScheduleParameters parameters, DateBuilder.IntervalUnit intervalUnit,
                                String triggerGroup) {
 
     Date startTime = ScheduleDateTimeUtil.convertScheduleTimeToDate(parameters);
-    return buildTrigger(parameters, startTime, intervalUnit, triggerGroup);
+    return buildTrigger(parameters, startTime, intervalUnit, triggerGroup, "");
   }
 
   private Trigger buildTrigger(ScheduleParameters parameters, Date startTime, IntervalUnit intervalUnit,
-                               String triggerGroup) {
+                               String triggerGroup, String dayInInterval) {
+    long offsetSeconds = spreadOffsetSeconds(parameters, intervalUnit, triggerGroup);
+    startTime = new Date(startTime.getTime() + offsetSeconds * 1000);
     log.debug("buildTrigger:: Start Time is:{}", startTime);
+    int frequency = Objects.requireNonNullElse(parameters.getScheduleFrequency(), 1);
+    TimeZone timeZone = TimeZone.getTimeZone(parameters.getTimeZone());
+    String fingerprint = fingerprint(parameters, frequency, intervalUnit, timeZone, dayInInterval, offsetSeconds);
     return TriggerBuilder.newTrigger()
       .withSchedule(CalendarIntervalScheduleBuilder.calendarIntervalSchedule()
-        .withInterval(Objects.requireNonNullElse(parameters.getScheduleFrequency(), 1), intervalUnit)
-        .inTimeZone(TimeZone.getTimeZone(parameters.getTimeZone()))
+        .withInterval(frequency, intervalUnit)
+        .inTimeZone(timeZone)
         .preserveHourOfDayAcrossDaylightSavings(true)
         .withMisfireHandlingInstructionDoNothing())
       .withIdentity(UUID.randomUUID().toString(), triggerGroup)
+      .usingJobData(TRIGGER_FINGERPRINT_PARAM, fingerprint)
       .startAt(startTime)
       .build();
   }
 
+  /**
+   * Identifies the schedule of the trigger by the schedule parameters it is built from: the interval, the time zone,
+   * the schedule time, the day of the trigger within the interval and the spread offset. The start time is not a part
+   * of the fingerprint, it is computed from the current time when the schedule time is not set, so the same schedule
+   * parameters give the same fingerprint until they are changed.
+   */
+  private static String fingerprint(ScheduleParameters parameters, int frequency, IntervalUnit intervalUnit,
+                                    TimeZone timeZone, String dayInInterval, long offsetSeconds) {
+    String schedule = String.join("|", intervalUnit.name(), String.valueOf(frequency), timeZone.getID(),
+      Objects.toString(parameters.getScheduleTime(), ""), dayInInterval, String.valueOf(offsetSeconds));
+    return UUID.nameUUIDFromBytes(schedule.getBytes(StandardCharsets.UTF_8)).toString();
+  }
+
+  private long spreadOffsetSeconds(ScheduleParameters parameters, IntervalUnit intervalUnit, String triggerGroup) {
+    long window = spreadWindowSeconds;
+    if (intervalUnit == IntervalUnit.HOUR) {
+      // an hourly schedule is not shifted past its next fire time
+      window = Math.min(window, SECONDS_PER_HOUR * Objects.requireNonNullElse(parameters.getScheduleFrequency(), 1) - 1);
+    }
+    if (window <= 0) {
+      return 0;
+    }
+    String key = parameters.getId() != null ? parameters.getId().toString() : triggerGroup;
+    return Math.floorMod(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).getLeastSignificantBits(),
+      window + 1);
+  }
+
   private List<DayOfWeek> getDaysOfWeek(ScheduleParameters scheduleParameters) {
     return Optional.ofNullable(scheduleParameters.getWeekDays())
       .orElse(Collections.emptyList())
@@ -23,9 +23,10 @@ public class OldDeleteJob implements org.quartz.Job {
     String tenantId = getTenantId(jobExecutionContext);
     executionService.executeSystemUserScoped(tenantId, () -> {
       jobService.deleteOldJobs();
+      jobService.archiveOldJobs();
       return null;
     });
-    log.info("execute:: deleteOldJobs executed for tenant: {}", tenantId);
+    log.info("execute:: deleteOldJobs and archiveOldJobs executed for tenant: {}", tenantId);
   }
 
   private String getTenantId(JobExecutionContext jobExecutionContext) {
@@ -0,0 +1,73 @@
+package org.folio.des.scheduling.quartz.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.des.builder.job.JobCommandSchedulerBuilder;
+import org.folio.des.client.DataExportSpringClient;
+import org.folio.des.domain.dto.Job;
+import org.folio.des.service.JobExecutionService;
+import org.folio.des.service.JobService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.service.SystemUserProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates and sends the jobs of scheduled exports. The jobs are run in the system user scoped execution context,
+ * in {@link Mode#IN_PROCESS} mode the services are called directly in this context, in {@link Mode#HTTP} mode
+ * the module's API is called through Okapi. The API can be called only with the system user enabled,
+ * otherwise the services are called directly in both modes.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobDispatcher {
+
+  public enum Mode {
+    IN_PROCESS,
+    HTTP
+  }
+
+  private final JobService jobService;
+  private final JobExecutionService jobExecutionService;
+  private final JobCommandSchedulerBuilder jobCommandSchedulerBuilder;
+  private final DataExportSpringClient dataExportSpringClient;
+  private final SystemUserProperties systemUserProperties;
+  private final FolioExecutionContext folioExecutionContext;
+
+  @Value("${job.scheduled.dispatchMode:IN_PROCESS}")
+  private Mode mode;
+
+  /**
+   * Saves the job and sends its command to kafka, same as POST /data-export-spring/jobs.
+   *
+   * @param job the job to save
+   * @return the saved job
+   */
+  public Job upsertJob(Job job) {
+    if (isHttp()) {
+      return dataExportSpringClient.upsertJob(job);
+    }
+    job.setTenant(folioExecutionContext.getTenantId());
+    log.info("upsertJob:: with job={}.", job);
+    return jobService.upsertAndSendToKafka(job, true);
+  }
+
+  /**
+   * Sends the command of the saved job to kafka, same as POST /data-export-spring/jobs/send.
+   *
+   * @param job the saved job
+   */
+  public void sendJob(Job job) {
+    if (isHttp()) {
+      dataExportSpringClient.sendJob(job);
+      return;
+    }
+    log.info("sendJob:: with job={}.", job);
+    jobExecutionService.sendJobCommand(jobCommandSchedulerBuilder.buildJobCommand(job));
+  }
+
+  private boolean isHttp() {
+    return mode == Mode.HTTP && systemUserProperties.isEnabled();
+  }
+}
@@ -3,16 +3,13 @@ package org.folio.des.scheduling.quartz.job.acquisition;
 import static org.folio.des.scheduling.quartz.QuartzConstants.EXPORT_CONFIG_ID_PARAM;
 import static org.folio.des.scheduling.quartz.QuartzConstants.TENANT_ID_PARAM;
 
-import org.folio.des.builder.job.JobCommandSchedulerBuilder;
-import org.folio.des.client.DataExportSpringClient;
 import org.folio.des.domain.dto.ExportConfig;
 import org.folio.des.domain.dto.Job;
 import org.folio.des.exceptions.SchedulingException;
-import org.folio.des.service.JobExecutionService;
+import org.folio.des.scheduling.quartz.job.ScheduledJobDispatcher;
 import org.folio.des.service.JobService;
 import org.folio.des.service.config.impl.ExportTypeBasedConfigManager;
 import org.folio.spring.exception.NotFoundException;
-import org.folio.spring.service.SystemUserProperties;
 import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobKey;
@@ -26,11 +23,8 @@ public class EdifactJob implements org.quartz.Job {
   private static final String PARAM_NOT_FOUND_MESSAGE = "'%s' param is missing in the jobExecutionContext";
   private final ExportTypeBasedConfigManager exportTypeBasedConfigManager;
   private final JobService jobService;
-  private final JobCommandSchedulerBuilder jobCommandSchedulerBuilder;
-  private final JobExecutionService jobExecutionService;
   private final SystemUserScopedExecutionService executionService;
-  private final SystemUserProperties systemUserProperties;
-  private final DataExportSpringClient dataExportSpringClient;
+  private final ScheduledJobDispatcher scheduledJobDispatcher;
 
   @Override
   public void execute(JobExecutionContext jobExecutionContext) {
@@ -41,14 +35,7 @@ public class EdifactJob implements org.quartz.Job {
         Job resultJob = jobService.upsertAndSendToKafka(job, false, false);
         log.info("execute:: configured task saved in DB jobId: {}", resultJob.getId());
         if (resultJob.getId() != null) {
-          // To support RTR the job is calling job execution service via module's API /jobs/send.
-          // This doesn't work for Eureka. Solution is to call the service directly in case of system user functionality
-          // is disabled (Eureka mode) and call the API in another case
-          if (systemUserProperties.isEnabled()) {
-            dataExportSpringClient.sendJob(resultJob);
-          } else {
-            jobExecutionService.sendJobCommand(jobCommandSchedulerBuilder.buildJobCommand(resultJob));
-          }
+          scheduledJobDispatcher.sendJob(resultJob);
           log.info("execute:: configured task scheduled and sent to kafka for jobId: {}", resultJob.getId());
         }
         return null;
@@ -5,10 +5,10 @@ import static org.folio.des.scheduling.quartz.QuartzConstants.TENANT_ID_PARAM;
 
 import java.util.Date;
 
-import org.folio.des.client.DataExportSpringClient;
 import org.folio.des.domain.dto.ExportConfig;
 import org.folio.des.domain.dto.Job;
 import org.folio.des.exceptions.SchedulingException;
+import org.folio.des.scheduling.quartz.job.ScheduledJobDispatcher;
 import org.folio.des.service.config.impl.ExportTypeBasedConfigManager;
 import org.folio.spring.exception.NotFoundException;
 import org.folio.spring.service.SystemUserScopedExecutionService;
@@ -24,7 +24,7 @@ import lombok.extern.log4j.Log4j2;
 public class BursarJob implements org.quartz.Job {
   private final SystemUserScopedExecutionService executionService;
   private final ExportTypeBasedConfigManager exportTypeBasedConfigManager;
-  private final DataExportSpringClient dataExportSpringClient;
+  private final ScheduledJobDispatcher scheduledJobDispatcher;
   private static final String PARAM_NOT_FOUND_MESSAGE = "'%s' param is missing in the jobExecutionContext";
 
   @Override
@@ -35,7 +35,7 @@ public class BursarJob implements org.quartz.Job {
 
     executionService.executeSystemUserScoped(tenantId, () -> {
       Job scheduledJob = getJob(jobExecutionContext);
-      Job resultJob = dataExportSpringClient.upsertJob(scheduledJob);
+      Job resultJob = scheduledJobDispatcher.upsertJob(scheduledJob);
       log.info("execute:: configureTasks executed for jobId: {} at: {}", resultJob.getId(), current);
       return null;
     });
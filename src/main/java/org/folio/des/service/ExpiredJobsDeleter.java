@@ -0,0 +1,88 @@
+package org.folio.des.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.des.domain.ExpiredJob;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.repository.ExpiredJobsRepository;
+import org.folio.des.repository.JobArchiveRepository;
+import org.folio.des.repository.JobDataExportRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes expired jobs in chunks. Every chunk reads only ids, update dates and files of the jobs and is deleted
+ * in its own transaction together with enqueueing the command that deletes its files from the storage,
+ * so an interrupted run leaves no orphan files and the next run continues with the remaining jobs.
+ * Expired jobs are deleted from the job table and from the archive.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ExpiredJobsDeleter {
+
+  private final JobDataExportRepository repository;
+  private final JobArchiveRepository archiveRepository;
+  private final JobExecutionService jobExecutionService;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${job.deletion.chunkSize:500}")
+  private int chunkSize;
+
+  /**
+   * Deletes jobs of the type that were updated before the given date.
+   *
+   * @return number of deleted jobs
+   */
+  public int delete(ExportType type, Date updatedBefore) {
+    var deletedCounter = Counter.builder("jobs.expired.deleted")
+      .description("Number of deleted expired jobs")
+      .tag("type", type.getValue())
+      .register(meterRegistry);
+    return delete(repository, type, updatedBefore, deletedCounter)
+      + delete(archiveRepository, type, updatedBefore, deletedCounter);
+  }
+
+  private int delete(ExpiredJobsRepository jobs, ExportType type, Date updatedBefore, Counter deletedCounter) {
+    var deleted = 0;
+    ExpiredJob last = null;
+    while (true) {
+      var cursor = last;
+      List<ExpiredJob> chunk = Objects.requireNonNull(
+        transactionTemplate.execute(status -> deleteChunk(jobs, type, updatedBefore, cursor)));
+      if (chunk.isEmpty()) {
+        break;
+      }
+      deleted += chunk.size();
+      deletedCounter.increment(chunk.size());
+      log.info("delete:: deleted {} expired jobs of type {}.", deleted, type);
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+      last = chunk.get(chunk.size() - 1);
+    }
+    return deleted;
+  }
+
+  private List<ExpiredJob> deleteChunk(ExpiredJobsRepository jobs, ExportType type, Date updatedBefore,
+    ExpiredJob last) {
+    var chunk = last == null
+      ? jobs.findExpired(type, updatedBefore, Limit.of(chunkSize))
+      : jobs.findExpiredAfter(type, updatedBefore, last.updatedDate(), last.id(), Limit.of(chunkSize));
+    if (chunk.isEmpty()) {
+      return chunk;
+    }
+    jobs.deleteAllByIdInBatch(chunk.stream().map(ExpiredJob::id).toList());
+    jobExecutionService.deleteJobFiles(chunk.stream().map(ExpiredJob::files).toList());
+    log.debug("deleteChunk:: deleted expired jobs {}.", () -> chunk.stream().map(ExpiredJob::id).toList());
+    return chunk;
+  }
+}
@@ -0,0 +1,220 @@
+package org.folio.des.service;
+
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
+import static org.springframework.http.HttpHeaders.RANGE;
+
+import jakarta.annotation.PreDestroy;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.log4j.Log4j2;
+import org.folio.des.domain.ExportedFile;
+import org.folio.des.exceptions.FileDownloadException;
+import org.folio.des.exceptions.TooManyDownloadsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams exported files from the storage through one HTTP client that keeps connections to the storage open between
+ * downloads. Range requests are passed to the storage and its length, type and range headers are passed back, so
+ * interrupted downloads of large files can be resumed. The content is not buffered, it is copied to the client with
+ * a fixed-size buffer while it is read. The number of concurrent downloads is limited, a download holds its permit
+ * until its content is closed or no data is read for the read timeout.
+ */
+@Component
+@Log4j2
+public class ExportedFileDownloader {
+
+  private static final List<String> PASSED_HEADERS = List.of(CONTENT_LENGTH, CONTENT_TYPE, CONTENT_RANGE,
+    CONTENT_DISPOSITION, ACCEPT_RANGES, ETAG, LAST_MODIFIED);
+
+  private final HttpClient httpClient;
+  private final Duration readTimeout;
+  private final Semaphore permits;
+  private final ScheduledThreadPoolExecutor watchdog;
+
+  public ExportedFileDownloader(@Value("${job.downloadFileConnectionTimeoutMs}") int connectionTimeoutMs,
+                                @Value("${job.download.readTimeoutMs:30000}") int readTimeoutMs,
+                                @Value("${job.download.maxConcurrent:20}") int maxConcurrent) {
+    this.httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofMillis(connectionTimeoutMs))
+      .followRedirects(HttpClient.Redirect.NORMAL)
+      .build();
+    this.readTimeout = Duration.ofMillis(readTimeoutMs);
+    this.permits = new Semaphore(maxConcurrent);
+    var threadFactory = new CustomizableThreadFactory("download-watchdog-");
+    threadFactory.setDaemon(true);
+    this.watchdog = new ScheduledThreadPoolExecutor(1, threadFactory);
+    this.watchdog.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Starts downloading of the file.
+   *
+   * @param url     presigned URL of the file in the storage
+   * @param range   value of the Range header to request a part of the file, the whole file is requested if null
+   * @param ifRange value of the If-Range header, the whole file is returned if it changed since the validator
+   * @return the response of the storage, a range that cannot be satisfied is returned with its 416 status
+   * @throws TooManyDownloadsException if the limit of concurrent downloads is reached
+   * @throws FileDownloadException     if the storage cannot be reached or responds with an error
+   */
+  public ExportedFile download(String url, String range, String ifRange) {
+    if (!permits.tryAcquire()) {
+      throw new TooManyDownloadsException("Limit of concurrent file downloads is reached, try again later");
+    }
+    try {
+      var request = HttpRequest.newBuilder(URI.create(url))
+        .timeout(readTimeout)
+        .GET();
+      if (range != null) {
+        request.header(RANGE, range);
+      }
+      if (ifRange != null) {
+        request.header(IF_RANGE, ifRange);
+      }
+      var response = httpClient.send(request.build(), BodyHandlers.ofInputStream());
+      var status = HttpStatusCode.valueOf(response.statusCode());
+      if (status.isError() && !status.isSameCodeAs(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)) {
+        response.body().close();
+        throw new FileDownloadException(String.format("Storage responded with status %s", status));
+      }
+      var headers = new HttpHeaders();
+      PASSED_HEADERS.forEach(name -> response.headers().firstValue(name).ifPresent(value -> headers.set(name, value)));
+      log.debug("download:: storage responded with status {} and headers {}.", status, headers);
+      return new ExportedFile(status, headers, new PermitReleasingInputStream(response.body()));
+    } catch (IOException | IllegalArgumentException e) {
+      permits.release();
+      throw new FileDownloadException(String.format("Error downloading a file: %s", e));
+    } catch (InterruptedException e) {
+      permits.release();
+      Thread.currentThread().interrupt();
+      throw new FileDownloadException(String.format("Error downloading a file: %s", e));
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    watchdog.shutdownNow();
+  }
+
+  /**
+   * Content of a download that releases its permit once closed. A download where no data is read for the read timeout,
+   * because the storage stalls in the middle of the body or the client stops reading, is closed by the watchdog, so
+   * it does not hold its permit forever. {@link HttpRequest#timeout} bounds only the wait for the response headers.
+   */
+  private class PermitReleasingInputStream extends FilterInputStream {
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ScheduledFuture<?> idleCheck;
+    private volatile long lastReadNanos = System.nanoTime();
+    private volatile boolean timedOut;
+    private Thread reader;
+
+    private PermitReleasingInputStream(InputStream in) {
+      super(in);
+      var period = Math.max(readTimeout.toMillis() / 2, 1);
+      idleCheck = watchdog.scheduleWithFixedDelay(this::closeIfIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int read() throws IOException {
+      startRead();
+      try {
+        return super.read();
+      } catch (IOException e) {
+        throw timedOut ? timeoutException(e) : e;
+      } finally {
+        endRead();
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      startRead();
+      try {
+        return super.read(b, off, len);
+      } catch (IOException e) {
+        throw timedOut ? timeoutException(e) : e;
+      } finally {
+        endRead();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed.compareAndSet(false, true)) {
+        idleCheck.cancel(false);
+        try {
+          super.close();
+        } finally {
+          permits.release();
+        }
+      }
+    }
+
+    private synchronized void startRead() {
+      reader = Thread.currentThread();
+      lastReadNanos = System.nanoTime();
+    }
+
+    private synchronized void endRead() {
+      reader = null;
+      lastReadNanos = System.nanoTime();
+      if (timedOut) {
+        // clears the interrupt of the watchdog, the thread goes on serving other requests
+        Thread.interrupted();
+      }
+    }
+
+    private void closeIfIdle() {
+      if (System.nanoTime() - lastReadNanos < readTimeout.toNanos()) {
+        return;
+      }
+      timedOut = true;
+      log.warn("closeIfIdle:: closing download without data read for {} ms.", readTimeout.toMillis());
+      try {
+        close();
+      } catch (IOException e) {
+        log.debug("closeIfIdle:: failed to close download.", e);
+      }
+      // a read blocked in the response body is not always woken up by closing it
+      synchronized (this) {
+        if (reader != null) {
+          reader.interrupt();
+        }
+      }
+    }
+
+    private IOException timeoutException(IOException cause) {
+      var exception = new SocketTimeoutException(String.format("No data read for %d ms", readTimeout.toMillis()));
+      exception.initCause(cause);
+      return exception;
+    }
+  }
+}
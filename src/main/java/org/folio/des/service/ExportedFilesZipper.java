@@ -0,0 +1,178 @@
+package org.folio.des.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.des.client.ExportWorkerClient;
+import org.folio.des.domain.dto.PresignedUrl;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.exception.NotFoundException;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streams the exported files of jobs as one ZIP archive built while it is sent. Files are looked up before
+ * the response starts, their presigned URLs are then refreshed ahead with bounded concurrency on a pool shared by all
+ * archives and the files are downloaded one by one through {@link ExportedFileDownloader}, so only a copy buffer of a file is held in memory.
+ * An error after the first bytes are sent can only abort the response, the client gets a truncated archive.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ExportedFilesZipper {
+
+  private static final Pattern UNSAFE_CHARACTERS = Pattern.compile("[/\\\\:*?\"<>|\\p{Cntrl}]");
+
+  private final JobService jobService;
+  private final ExportWorkerClient exportWorkerClient;
+  private final PresignedUrlCache presignedUrlCache;
+  private final ExportedFileDownloader fileDownloader;
+  private final FolioExecutionContext context;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  @Value("${job.download.zip.maxJobs:100}")
+  private int maxJobs;
+  @Value("${job.download.zip.urlConcurrency:4}")
+  private int urlConcurrency;
+  @Value("${job.download.zip.urlThreads:8}")
+  private int urlThreads;
+  private ExecutorService urlExecutor;
+
+  /**
+   * Prepares the archive of the exported files of the jobs, the jobs are read in the current tenant.
+   *
+   * @param jobIds ids of the jobs, looked up in the archive as well
+   * @return writer of the archive to the response
+   * @throws IllegalArgumentException if there are no ids or more than the limit
+   * @throws NotFoundException        if a job does not exist or the jobs have no exported files
+   */
+  public StreamingResponseBody zip(List<UUID> jobIds) {
+    if (CollectionUtils.isEmpty(jobIds) || jobIds.size() > maxJobs) {
+      throw new IllegalArgumentException(String.format("Number of job ids must be from 1 to %d", maxJobs));
+    }
+    var entries = toEntries(jobIds);
+    if (entries.isEmpty()) {
+      throw new NotFoundException(String.format("Exported files are missing for jobs: %s", jobIds));
+    }
+    // the archive is written on another thread, the okapi headers of the request are passed to it
+    Map<String, Object> headers = new HashMap<>();
+    context.getOkapiHeaders().forEach((name, values) -> values.stream().findFirst()
+      .ifPresent(value -> headers.put(name, value)));
+    return out -> write(entries, headers, out);
+  }
+
+  private List<Entry> toEntries(List<UUID> jobIds) {
+    var entries = new ArrayList<Entry>();
+    Set<String> names = new HashSet<>();
+    for (var jobId : jobIds.stream().distinct().toList()) {
+      var job = jobService.get(jobId);
+      if (CollectionUtils.isEmpty(job.getFileNames())) {
+        continue;
+      }
+      var folder = jobIds.size() > 1 ? safeName(job.getName(), jobId.toString()) + "/" : "";
+      for (var fileName : job.getFileNames()) {
+        var name = safeName(StringUtils.substringAfterLast("/" + fileName, "/"), jobId.toString());
+        entries.add(new Entry(fileName, uniqueName(names, folder + name)));
+      }
+    }
+    return entries;
+  }
+
+  @PostConstruct
+  void start() {
+    // refreshes that do not fit the queue run on the thread writing the archive
+    urlExecutor = new ThreadPoolExecutor(urlThreads, urlThreads, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(maxJobs), new CustomizableThreadFactory("zip-url-"), new CallerRunsPolicy());
+  }
+
+  @PreDestroy
+  void stop() {
+    urlExecutor.shutdownNow();
+  }
+
+  private void write(List<Entry> entries, Map<String, Object> headers, OutputStream out) throws IOException {
+    Deque<CompletableFuture<PresignedUrl>> urls = new ArrayDeque<>();
+    var next = 0;
+    try (var zip = new ZipOutputStream(out)) {
+      for (var entry : entries) {
+        // urls of the next files are refreshed while the current file is streamed
+        for (; next < entries.size() && urls.size() < urlConcurrency; next++) {
+          var key = entries.get(next).key();
+          urls.add(CompletableFuture.supplyAsync(() -> refreshUrl(key, headers), urlExecutor));
+        }
+        var url = urls.remove().join();
+        try (var content = fileDownloader.download(url.getUrl(), null, null).content()) {
+          zip.putNextEntry(new ZipEntry(entry.name()));
+          content.transferTo(zip);
+          zip.closeEntry();
+        }
+      }
+      log.info("write:: streamed {} exported files.", entries.size());
+    } catch (IOException e) {
+      log.error("write:: streaming of exported files failed: {}.", e.getMessage(), e);
+      throw e;
+    } catch (RuntimeException e) {
+      log.error("write:: streaming of exported files failed: {}.", e.getMessage(), e);
+      throw new IOException(e);
+    } finally {
+      urls.forEach(url -> url.cancel(true));
+    }
+  }
+
+  private PresignedUrl refreshUrl(String key, Map<String, Object> headers) {
+    var requestContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata, headers);
+    try (var contextSetter = new FolioExecutionContextSetter(requestContext)) {
+      return presignedUrlCache.get(key, () -> exportWorkerClient.getRefreshedPresignedUrl(key));
+    }
+  }
+
+  /**
+   * Turns a job or file name into a single path segment of the archive, so an entry can not be extracted outside
+   * the target folder. Separators and characters not allowed in file names are replaced, leading and trailing dots
+   * and spaces are removed.
+   */
+  static String safeName(String name, String fallback) {
+    var safeName = StringUtils.strip(UNSAFE_CHARACTERS.matcher(StringUtils.defaultString(name)).replaceAll("_"), ". ");
+    return safeName.isEmpty() ? fallback : safeName;
+  }
+
+  private static String uniqueName(Set<String> names, String name) {
+    var uniqueName = name;
+    for (int i = 1; !names.add(uniqueName); i++) {
+      uniqueName = StringUtils.substringBeforeLast(name, ".") + " (" + i + ")"
+        + (name.contains(".") ? "." + StringUtils.substringAfterLast(name, ".") : "");
+    }
+    return uniqueName;
+  }
+
+  private record Entry(String key, String name) {
+  }
+}
@@ -16,6 +16,7 @@ import org.folio.spring.liquibase.FolioSpringLiquibase;
 import org.folio.spring.service.PrepareSystemUserService;
 import org.folio.spring.service.TenantService;
 import org.folio.tenant.domain.dto.TenantAttributes;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,7 @@ import lombok.extern.log4j.Log4j2;
 public class FolioTenantService extends TenantService {
 
   private static final String TENANT_NAME_PARAMETER = "tenantname";
+  private static final String JOB_PARTITIONING_PARAMETER = "jobPartitioningEnabled";
 
   private final KafkaService kafka;
   private final EdifactScheduledJobInitializer edifactScheduledJobInitializer;
@@ -41,6 +43,10 @@ public class FolioTenantService extends TenantService {
   private final BursarFeesFinesExportConfigService bursarFeesFinesExportConfigService;
   private final FolioExecutionContext folioExecutionContext;
   private final ConfigurationMigrationService configurationMigrationService;
+  private final JobPartitionManager jobPartitionManager;
+
+  @Value("${job.partitioning.enabled:false}")
+  private boolean jobPartitioningEnabled;
 
   public FolioTenantService(JdbcTemplate jdbcTemplate, FolioExecutionContext context, FolioSpringLiquibase folioSpringLiquibase,
                             PrepareSystemUserService prepareSystemUserService, KafkaService kafka,
@@ -48,7 +54,8 @@ public class FolioTenantService extends TenantService {
                             BursarScheduledJobInitializer bursarScheduledJobInitializer, OldJobDeleteScheduler oldJobDeleteScheduler,
                             BursarExportLegacyJobService bursarExportLegacyJobService, JobService jobService,
                             BursarMigrationService bursarMigrationService, BursarFeesFinesExportConfigService bursarFeesFinesExportConfigService,
-                            FolioExecutionContext folioExecutionContext, ConfigurationMigrationService configurationMigrationService) {
+                            FolioExecutionContext folioExecutionContext, ConfigurationMigrationService configurationMigrationService,
+                            JobPartitionManager jobPartitionManager) {
     super(jdbcTemplate, context, folioSpringLiquibase);
     this.prepareSystemUserService = prepareSystemUserService;
     this.kafka = kafka;
@@ -62,11 +69,13 @@ public class FolioTenantService extends TenantService {
     this.bursarFeesFinesExportConfigService = bursarFeesFinesExportConfigService;
     this.folioExecutionContext = folioExecutionContext;
     this.configurationMigrationService = configurationMigrationService;
+    this.jobPartitionManager = jobPartitionManager;
   }
 
   @Override
   protected void beforeLiquibaseUpdate(TenantAttributes tenantAttributes) {
-    var params = Map.of(TENANT_NAME_PARAMETER, folioExecutionContext.getTenantId());
+    var params = Map.of(TENANT_NAME_PARAMETER, folioExecutionContext.getTenantId(),
+      JOB_PARTITIONING_PARAMETER, String.valueOf(jobPartitioningEnabled));
     folioSpringLiquibase.setChangeLogParameters(params);
     log.info("Set ChangeLog parameters: {}", params);
   }
@@ -76,6 +85,8 @@ public class FolioTenantService extends TenantService {
     try {
       prepareSystemUserService.setupSystemUser();
       configurationMigrationService.migrateConfigurationData(tenantAttributes, context.getTenantId());
+      // partitions are checked even if partitioning is disabled now, a table partitioned before still needs them
+      jobPartitionManager.createPartitionsIfPartitioned();
       bursarMigrationService.updateLegacyBursarIfNeeded(tenantAttributes, bursarFeesFinesExportConfigService,
           bursarExportLegacyJobService, jobService);
       bursarScheduledJobInitializer.initAllScheduledJob(tenantAttributes);
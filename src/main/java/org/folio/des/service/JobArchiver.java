@@ -0,0 +1,63 @@
+package org.folio.des.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.des.domain.dto.JobStatus;
+import org.folio.des.repository.JobArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves finished jobs past the configured age from the job table to the compressed archive table,
+ * so the job table read and updated by running jobs stays small. Jobs are moved in chunks, each in its own transaction.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class JobArchiver {
+
+  private static final List<String> ARCHIVED_STATUSES = List.of(JobStatus.SUCCESSFUL.getValue(),
+    JobStatus.FAILED.getValue());
+
+  private final JobArchiveRepository archiveRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${job.archive.enabled:false}")
+  private boolean enabled;
+  @Value("${job.archive.afterDays:7}")
+  private int afterDays;
+  @Value("${job.deletion.chunkSize:500}")
+  private int chunkSize;
+
+  /**
+   * Archives finished jobs that were not updated for the configured number of days.
+   *
+   * @return number of archived jobs
+   */
+  public int archive() {
+    if (!enabled) {
+      return 0;
+    }
+    var updatedBefore = Date.from(LocalDate.now().minusDays(afterDays).atStartOfDay()
+      .atZone(ZoneId.systemDefault()).toInstant());
+    var archivedCounter = meterRegistry.counter("jobs.archived");
+    var archived = 0;
+    int chunk;
+    do {
+      chunk = Objects.requireNonNull(transactionTemplate.execute(status ->
+        archiveRepository.archive(ARCHIVED_STATUSES, updatedBefore, chunkSize)));
+      archived += chunk;
+      archivedCounter.increment(chunk);
+    } while (chunk == chunkSize);
+    log.info("archive:: archived {} jobs updated before {}.", archived, updatedBefore);
+    return archived;
+  }
+}
@@ -0,0 +1,115 @@
+package org.folio.des.service;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.des.domain.JobEvent;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Listens to the job changes the job triggers notify and hands them to {@link JobEventsService}. Every instance
+ * listens, so subscribers receive the changes made by any instance. The listening connection is held for the lifetime
+ * of the module, so it is opened outside of the connection pool and reopened after failures,
+ * changes notified while it is reopened are not delivered.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class JobChangeListener implements SmartLifecycle {
+
+  static final String CHANNEL = "data_export_spring_job_changes";
+  private static final String SCHEMA_FIELD = "schema";
+
+  private final JobEventsService eventsService;
+  private final ObjectMapper objectMapper;
+
+  @Value("${spring.datasource.url}")
+  private String url;
+  @Value("${spring.datasource.username}")
+  private String username;
+  @Value("${spring.datasource.password}")
+  private String password;
+  @Value("${job.events.enabled:true}")
+  private boolean enabled;
+  @Value("${job.events.pollTimeoutMs:1000}")
+  private int pollTimeoutMs;
+  @Value("${job.events.reconnectDelayMs:5000}")
+  private long reconnectDelayMs;
+
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      log.info("start:: job events are disabled.");
+      return;
+    }
+    running = true;
+    listenerThread = Thread.ofPlatform().name("job-change-listener").daemon().start(this::listen);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void listen() {
+    while (running) {
+      try (var connection = DriverManager.getConnection(url, username, password)) {
+        try (var statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("listen:: listening to {}.", CHANNEL);
+        var pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          var notifications = pgConnection.getNotifications(pollTimeoutMs);
+          if (notifications != null) {
+            for (var notification : notifications) {
+              publish(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (running) {
+          log.error("listen:: listening to {} failed, reconnecting in {} ms.", CHANNEL, reconnectDelayMs, e);
+          pause();
+        }
+      }
+    }
+  }
+
+  void publish(String payload) {
+    try {
+      var notification = objectMapper.readTree(payload);
+      eventsService.publish(notification.path(SCHEMA_FIELD).asText(),
+        objectMapper.treeToValue(notification, JobEvent.class));
+    } catch (JsonProcessingException e) {
+      log.warn("publish:: skipping malformed job change {}.", payload, e);
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(reconnectDelayMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package org.folio.des.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.toList;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.de.entity.JobCommand;
+import org.folio.de.entity.JobCommandOutboxEntity;
+import org.folio.des.config.kafka.KafkaService;
+import org.folio.des.repository.JobCommandOutboxRepository;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Transactional outbox of job commands. Commands are stored in the tenant schema within the transaction that
+ * writes the job and are relayed to Kafka by a scheduled task, so a job is never saved without its command
+ * and a command is never sent for a job that was rolled back.
+ * The relay claims a batch of commands in a short transaction, sends them without holding locks or a connection
+ * and marks the sent ones in another short transaction. A claim expires, so commands claimed by an instance that
+ * stopped are sent by another one.
+ * Delivery is at least once: a command can be sent again if the instance stops before the row is marked as sent.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class JobCommandOutboxService {
+
+  private static final String TENANT_SCHEMAS_SQL = "SELECT nspname FROM pg_namespace WHERE right(nspname, ?) = ? "
+    + "AND to_regclass(quote_ident(nspname) || '.job_command_outbox') IS NOT NULL";
+  private static final String OUTBOX_EXISTS_SQL =
+    "SELECT to_regclass(quote_ident(?) || '.job_command_outbox') IS NOT NULL";
+  /**
+   * Headers of the request stored with the command, the command is sent with the system user token.
+   */
+  private static final Set<String> STORED_HEADERS =
+    Set.of(XOkapiHeaders.TENANT, XOkapiHeaders.USER_ID, XOkapiHeaders.REQUEST_ID);
+
+  private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+  private final JobCommandOutboxRepository repository;
+  private final KafkaService kafka;
+  private final FolioExecutionContext context;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final TransactionTemplate transactionTemplate;
+  private final JdbcTemplate jdbcTemplate;
+  private final SystemUserScopedExecutionService executionService;
+
+  @Value("${application.outbox.batch-size:100}")
+  private int batchSize;
+  @Value("${application.outbox.send-timeout-ms:10000}")
+  private long sendTimeoutMs;
+  @Value("${application.outbox.claim-timeout-ms:60000}")
+  private long claimTimeoutMs;
+  @Value("${application.outbox.retention-hours:24}")
+  private long retentionHours;
+
+  /**
+   * Stores the command in the outbox, joins the transaction of the caller if there is one.
+   * Only the tenant, user id and request id of the current request are stored with the command.
+   */
+  @Transactional
+  public void enqueue(KafkaService.Topic topic, String key, JobCommand jobCommand) {
+    repository.save(new JobCommandOutboxEntity()
+      .setTopic(topic)
+      .setMessageKey(key)
+      .setPayload(jobCommand)
+      .setOkapiHeaders(storedHeaders(context.getOkapiHeaders()))
+      .setCreatedDate(LocalDateTime.now()));
+    tenants.add(context.getTenantId());
+    log.debug("enqueue:: job command {} with key {} was stored in outbox.", jobCommand.getId(), key);
+  }
+
+  /**
+   * Finds tenants enabled for the module, so commands left unsent before a restart are relayed.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void discoverTenants() {
+    var suffix = folioModuleMetadata.getDBSchemaName("x").substring(1);
+    try {
+      jdbcTemplate.queryForList(TENANT_SCHEMAS_SQL, String.class, suffix.length(), suffix)
+        .forEach(schema -> tenants.add(schema.substring(0, schema.length() - suffix.length())));
+      log.info("discoverTenants:: relaying job commands of tenants {}.", tenants);
+    } catch (Exception e) {
+      log.error("discoverTenants:: failed to find tenants with job command outbox.", e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${application.outbox.relay-interval-ms:1000}")
+  public void relay() {
+    tenants.forEach(tenant -> {
+      try {
+        int sent;
+        do {
+          sent = relayBatch(tenant);
+        } while (sent == batchSize);
+      } catch (Exception e) {
+        handleFailure("relay", tenant, e);
+      }
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${application.outbox.purge-interval-ms:3600000}")
+  public void purge() {
+    var sentBefore = LocalDateTime.now().minusHours(retentionHours);
+    tenants.forEach(tenant -> {
+      try {
+        int deleted = inTenantTransaction(tenant, () -> repository.deleteSentBefore(sentBefore));
+        log.debug("purge:: deleted {} sent job commands of tenant {}.", deleted, tenant);
+      } catch (Exception e) {
+        handleFailure("purge", tenant, e);
+      }
+    });
+  }
+
+  private int relayBatch(String tenant) {
+    List<JobCommandOutboxEntity> commands = inTenantTransaction(tenant, this::claim);
+    if (commands.isEmpty()) {
+      return 0;
+    }
+    Map<UUID, CompletableFuture<?>> results = new LinkedHashMap<>();
+    commands.forEach(command -> results.put(command.getId(), send(command, tenant)));
+    try {
+      CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new)).get(sendTimeoutMs, MILLISECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      log.warn("relayBatch:: not all job commands were sent, they will be sent again.", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    Map<Boolean, List<UUID>> sent = results.entrySet().stream()
+      .collect(partitioningBy(result -> result.getValue().isDone() && !result.getValue().isCompletedExceptionally(),
+        mapping(Map.Entry::getKey, toList())));
+    var sentIds = sent.get(true);
+    var unsentIds = sent.get(false);
+    inTenantTransaction(tenant, () -> {
+      if (!sentIds.isEmpty()) {
+        repository.markSent(sentIds, LocalDateTime.now());
+      }
+      if (!unsentIds.isEmpty()) {
+        repository.release(unsentIds);
+      }
+      return null;
+    });
+    log.debug("relayBatch:: sent {} of {} job commands.", sentIds.size(), commands.size());
+    return sentIds.size();
+  }
+
+  private List<JobCommandOutboxEntity> claim() {
+    var now = LocalDateTime.now();
+    var commands = repository.lockUnclaimed(now, batchSize);
+    if (!commands.isEmpty()) {
+      repository.claim(commands.stream().map(JobCommandOutboxEntity::getId).toList(),
+        now.plus(claimTimeoutMs, ChronoUnit.MILLIS));
+    }
+    return commands;
+  }
+
+  /**
+   * Sends the command with the system user context of the tenant, the user id and request id of the request that
+   * created the command are kept.
+   */
+  private CompletableFuture<?> send(JobCommandOutboxEntity command, String tenant) {
+    try {
+      return executionService.executeSystemUserScoped(tenant, () -> {
+        Map<String, Object> headers = new HashMap<>();
+        context.getOkapiHeaders().forEach((name, values) -> values.stream().findFirst()
+          .ifPresent(value -> headers.put(name, value)));
+        Objects.requireNonNullElse(command.getOkapiHeaders(), Map.<String, String>of()).forEach((name, value) -> {
+          if (STORED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+            headers.put(name, value);
+          }
+        });
+        headers.put(XOkapiHeaders.TENANT, tenant);
+        var commandContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata, headers);
+        try (var contextSetter = new FolioExecutionContextSetter(commandContext)) {
+          return kafka.send(command.getTopic(), command.getMessageKey(), command.getPayload());
+        }
+      });
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Stops relaying commands of a tenant whose schema is removed, e.g. the module was disabled with purge.
+   */
+  private void handleFailure(String operation, String tenant, Exception e) {
+    var schema = folioModuleMetadata.getDBSchemaName(tenant);
+    try {
+      if (Boolean.FALSE.equals(jdbcTemplate.queryForObject(OUTBOX_EXISTS_SQL, Boolean.class, schema))) {
+        tenants.remove(tenant);
+        log.info("{}:: job command outbox of tenant {} does not exist, the tenant is not relayed anymore.",
+          operation, tenant);
+        return;
+      }
+    } catch (Exception checkFailure) {
+      e.addSuppressed(checkFailure);
+    }
+    log.error("{}:: failed to process job commands of tenant {}.", operation, tenant, e);
+  }
+
+  private static Map<String, String> storedHeaders(Map<String, Collection<String>> okapiHeaders) {
+    Map<String, String> headers = new HashMap<>();
+    okapiHeaders.forEach((name, values) -> {
+      if (STORED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+        values.stream().findFirst().ifPresent(value -> headers.put(name, value));
+      }
+    });
+    return headers;
+  }
+
+  private <T> T inTenantTransaction(String tenant, Supplier<T> action) {
+    var tenantContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata,
+      Map.of(XOkapiHeaders.TENANT, tenant));
+    try (var contextSetter = new FolioExecutionContextSetter(tenantContext)) {
+      return transactionTemplate.execute(status -> action.get());
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package org.folio.des.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.de.entity.Job;
+import org.folio.des.domain.JobEvent;
+import org.folio.des.exceptions.TooManySubscribersException;
+import org.folio.des.repository.JobDataExportRepository;
+import org.folio.des.service.util.BatchStatusUtil;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pushes status and progress changes of jobs to server-sent event subscribers. Subscribers are kept per tenant schema
+ * and receive the changes of all jobs of the tenant or of a single job, a job subscription starts with the current
+ * state of the job and is completed once the job finishes. The number of subscribers is bounded in total and per
+ * tenant, heartbeat comments keep idle streams open and drop the ones closed by clients. Changes are queued per
+ * subscriber and sent by a bounded pool of send threads, a subscriber that does not keep up is dropped.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class JobEventsService {
+
+  private static final String EVENT_NAME = "job";
+  private static final String HEARTBEAT_COMMENT = "heartbeat";
+  private static final Message HEARTBEAT = new Message(null, false);
+
+  private final Map<String, Set<Subscriber>> subscribersBySchema = new ConcurrentHashMap<>();
+  private int subscriberCount;
+  private ExecutorService sendExecutor;
+
+  private final JobDataExportRepository repository;
+  private final JobProgressBuffer progressBuffer;
+  private final FolioExecutionContext context;
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final ObjectMapper objectMapper;
+
+  @Value("${job.events.maxSubscribers:1000}")
+  private int maxSubscribers;
+  @Value("${job.events.maxSubscribersPerTenant:100}")
+  private int maxSubscribersPerTenant;
+  @Value("${job.events.timeoutMs:1800000}")
+  private long timeoutMs;
+  @Value("${job.events.queueSize:100}")
+  private int queueSize;
+  @Value("${job.events.sendThreads:4}")
+  private int sendThreads;
+
+  /**
+   * Subscribes to the changes of jobs of the current tenant.
+   *
+   * @param jobId job to follow, changes of all jobs of the tenant are sent if null
+   * @throws TooManySubscribersException if the total or the tenant limit of subscribers is reached
+   * @throws NotFoundException if the job to follow does not exist
+   */
+  public SseEmitter subscribe(UUID jobId) {
+    var schema = folioModuleMetadata.getDBSchemaName(context.getTenantId());
+    var subscriber = new Subscriber(createEmitter(), jobId, queueSize);
+    register(schema, subscriber);
+    var emitter = subscriber.emitter;
+    emitter.onCompletion(() -> unregister(schema, subscriber));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(e -> unregister(schema, subscriber));
+
+    if (jobId != null) {
+      // the subscriber is registered before the job is read, so changes made in between are not lost
+      var job = repository.findById(jobId);
+      if (job.isEmpty()) {
+        unregister(schema, subscriber);
+        throw new NotFoundException(String.format("Job %s not found", jobId));
+      }
+      toMessage(toEvent(job.get())).ifPresent(message -> enqueue(schema, subscriber, message));
+    }
+    log.info("subscribe:: subscribed to jobs of {} with jobId={}, {} subscribers in total.", schema, jobId,
+      subscriberCount);
+    return emitter;
+  }
+
+  /**
+   * Queues the change of a job to the subscribers of the schema the job belongs to, the change is sent by the send
+   * threads so a slow client never blocks the caller.
+   */
+  public void publish(String schema, JobEvent event) {
+    var subscribers = subscribersBySchema.get(schema);
+    if (subscribers == null) {
+      return;
+    }
+    // the event is serialized once for all subscribers
+    toMessage(event).ifPresent(message -> subscribers.stream()
+      .filter(subscriber -> subscriber.jobId == null || subscriber.jobId.equals(event.id()))
+      .forEach(subscriber -> enqueue(schema, subscriber, message)));
+  }
+
+  @Scheduled(fixedDelayString = "${job.events.heartbeatIntervalMs:15000}")
+  public void heartbeat() {
+    subscribersBySchema.forEach((schema, subscribers) ->
+      subscribers.forEach(subscriber -> enqueue(schema, subscriber, HEARTBEAT)));
+  }
+
+  @PostConstruct
+  void start() {
+    // every subscriber has at most one drain task queued or running
+    sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(maxSubscribers), new CustomizableThreadFactory("job-events-"));
+  }
+
+  @PreDestroy
+  void stop() {
+    sendExecutor.shutdownNow();
+  }
+
+  SseEmitter createEmitter() {
+    return new SseEmitter(timeoutMs);
+  }
+
+  /**
+   * Queues the message to the subscriber, a subscriber whose queue is full does not keep up with the changes and is
+   * dropped, the client reconnects and starts with the current state of the jobs.
+   */
+  private void enqueue(String schema, Subscriber subscriber, Message message) {
+    if (!subscriber.messages.offer(message)) {
+      log.warn("enqueue:: dropping subscriber of {} that does not keep up with job events.", schema);
+      close(schema, subscriber);
+    }
+    drainLater(schema, subscriber);
+  }
+
+  private void drainLater(String schema, Subscriber subscriber) {
+    if (!subscriber.draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      sendExecutor.execute(() -> drain(schema, subscriber));
+    } catch (RejectedExecutionException e) {
+      // nothing drains the subscriber, its stream is closed by the timeout
+      log.warn("drainLater:: dropping subscriber of {}, send threads are busy.", schema);
+      subscriber.draining.set(false);
+      close(schema, subscriber);
+    }
+  }
+
+  private void drain(String schema, Subscriber subscriber) {
+    try {
+      Message message;
+      while (!subscriber.closed && (message = subscriber.messages.poll()) != null) {
+        subscriber.emitter.send(message.toSseEvent());
+        if (subscriber.jobId != null && message.terminal()) {
+          close(schema, subscriber);
+        }
+      }
+      if (subscriber.closed) {
+        subscriber.messages.clear();
+        subscriber.emitter.complete();
+      }
+    } catch (IOException | IllegalStateException e) {
+      log.debug("drain:: dropping closed subscriber of {}.", schema);
+      close(schema, subscriber);
+    } finally {
+      subscriber.draining.set(false);
+    }
+    // a message queued after the last poll and before the flag is reset is drained by another run
+    if (!subscriber.messages.isEmpty() && !subscriber.closed) {
+      drainLater(schema, subscriber);
+    }
+  }
+
+  /**
+   * Unregisters the subscriber, the emitter is completed by the drain so the caller never waits for a blocked send.
+   */
+  private void close(String schema, Subscriber subscriber) {
+    subscriber.closed = true;
+    unregister(schema, subscriber);
+  }
+
+  private synchronized void register(String schema, Subscriber subscriber) {
+    var subscribers = subscribersBySchema.computeIfAbsent(schema, key -> ConcurrentHashMap.newKeySet());
+    if (subscriberCount >= maxSubscribers || subscribers.size() >= maxSubscribersPerTenant) {
+      throw new TooManySubscribersException(String.format(
+        "Limit of job event subscribers is reached: %d in total, %d of the tenant", subscriberCount,
+        subscribers.size()));
+    }
+    subscribers.add(subscriber);
+    subscriberCount++;
+  }
+
+  private synchronized void unregister(String schema, Subscriber subscriber) {
+    var subscribers = subscribersBySchema.get(schema);
+    if (subscribers != null && subscribers.remove(subscriber)) {
+      subscriberCount--;
+    }
+  }
+
+  private JobEvent toEvent(Job job) {
+    var progress = progressBuffer.get(job.getId()).orElse(job.getProgress());
+    return new JobEvent(job.getId(), job.getType(), job.getStatus(), job.getBatchStatus(), progress,
+      job.getUpdatedDate());
+  }
+
+  private Optional<Message> toMessage(JobEvent event) {
+    try {
+      return Optional.of(new Message(objectMapper.writeValueAsString(event),
+        BatchStatusUtil.isTerminal(event.batchStatus())));
+    } catch (JsonProcessingException e) {
+      log.error("toMessage:: failed to serialize event of job {}.", event.id(), e);
+      return Optional.empty();
+    }
+  }
+
+  private static final class Subscriber {
+
+    private final SseEmitter emitter;
+    private final UUID jobId;
+    private final BlockingQueue<Message> messages;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private Subscriber(SseEmitter emitter, UUID jobId, int queueSize) {
+      this.emitter = emitter;
+      this.jobId = jobId;
+      this.messages = new ArrayBlockingQueue<>(queueSize);
+    }
+  }
+
+  /**
+   * Serialized job event or a heartbeat comment if the data is null.
+   */
+  private record Message(String data, boolean terminal) {
+
+    private SseEmitter.SseEventBuilder toSseEvent() {
+      return data == null ? SseEmitter.event().comment(HEARTBEAT_COMMENT) : SseEmitter.event().name(EVENT_NAME).data(data);
+    }
+  }
+}
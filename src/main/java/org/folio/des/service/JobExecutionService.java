@@ -44,6 +44,7 @@ public class  JobExecutionService {
   private final JobCommandBuilderResolver jobCommandBuilderResolver;
   private final ExportConfigService defaultExportConfigService;
   private final ObjectMapper objectMapper;
+  private final JobCommandOutboxService outbox;
 
   public JobCommand prepareStartJobCommand(Job job) {
     log.info("prepareStartJobCommand:: job={}.", job);
@@ -91,13 +92,24 @@ public class  JobExecutionService {
     kafka.send(KafkaService.Topic.JOB_COMMAND, jobCommand.getId().toString(), jobCommand);
   }
 
-  public void deleteJobs(List<Job> jobs) {
-    List<String> files = jobs.stream()
-        .map(Job::getFiles)
+  /**
+   * Stores the command in the outbox within the current transaction, it is sent to Kafka after the commit.
+   */
+  public void enqueueJobCommand(JobCommand jobCommand) {
+    outbox.enqueue(KafkaService.Topic.JOB_COMMAND, jobCommand.getId().toString(), jobCommand);
+  }
+
+  /**
+   * Enqueues the command that deletes the files of deleted jobs from the storage, see {@link #enqueueJobCommand}.
+   *
+   * @param files files of the deleted jobs, jobs without files are ignored
+   */
+  public void deleteJobFiles(List<List<String>> files) {
+    List<String> storageFiles = files.stream()
         .filter(CollectionUtils::isNotEmpty)
         .flatMap(Collection::stream)
         .toList();
-    if (CollectionUtils.isEmpty(files)) {
+    if (CollectionUtils.isEmpty(storageFiles)) {
       return;
     }
 
@@ -105,8 +117,8 @@ public class  JobExecutionService {
     jobCommand.setType(JobCommand.Type.DELETE);
     jobCommand.setId(UUID.randomUUID());
     jobCommand.setJobParameters(new JobParameters(Collections.singleton(
-      new JobParameter<>(JobParameterNames.OUTPUT_FILES_IN_STORAGE, StringUtils.join(files, ';'), String.class))));
-    sendJobCommand(jobCommand);
+      new JobParameter<>(JobParameterNames.OUTPUT_FILES_IN_STORAGE, StringUtils.join(storageFiles, ';'), String.class))));
+    enqueueJobCommand(jobCommand);
   }
 
   protected void validateIncomingExportConfig(Job job) {
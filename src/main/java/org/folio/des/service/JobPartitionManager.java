@@ -0,0 +1,283 @@
+package org.folio.des.service;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains monthly partitions of the job table when it is partitioned by creation date, see
+ * {@code 18_10_2026_partition_job_table.sql}. Creates partitions ahead of time and drops partitions where every
+ * job is expired, which replaces deleting their rows one by one.
+ * Partitions are created on tenant upgrade, at startup and on a fixed interval for every tenant with a partitioned job
+ * table, so jobs can be created even if the retention job of a tenant does not run.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class JobPartitionManager {
+
+  private static final String JOB_TABLE = "job";
+  private static final String JOB_STATS_DELTA_TABLE = "job_stats_delta";
+  private static final String JOB_ID_TABLE = "job_id";
+  private static final String PARTITION_PREFIX = "job_p";
+  private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+  private static final String IS_PARTITIONED_SQL =
+    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))";
+  private static final String PARTITIONED_SCHEMAS_SQL = "SELECT n.nspname FROM pg_partitioned_table p "
+    + "JOIN pg_class c ON c.oid = p.partrelid JOIN pg_namespace n ON n.oid = c.relnamespace "
+    + "WHERE c.relname = 'job' AND right(n.nspname, ?) = ?";
+  // monthly partitions and tables of partitions left detached by a failed drop
+  private static final String PARTITIONS_SQL = "SELECT c.relname, c.relispartition, coalesce(i.inhdetachpending, false) "
+    + "FROM pg_class c LEFT JOIN pg_inherits i ON i.inhrelid = c.oid "
+    + "WHERE c.relnamespace = to_regnamespace(?) AND c.relkind = 'r' AND c.relname ~ '^job_p[0-9]{4}_[0-9]{2}$' "
+    + "ORDER BY c.relname";
+  private static final RowMapper<Partition> PARTITION_MAPPER = (rs, rowNum) ->
+    new Partition(rs.getString(1), rs.getBoolean(2), rs.getBoolean(3));
+  // dropping a partition fires no delete triggers, so its jobs are subtracted from the job counts explicitly
+  private static final String SUBTRACT_STATS_SQL = "INSERT INTO %s (type, status, day, job_count) "
+    + "SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, -count(*) FROM %s GROUP BY 1, 2, 3";
+
+  private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final JobExecutionService jobExecutionService;
+  private final FolioExecutionContext context;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  @Value("${job.partitioning.monthsAhead:2}")
+  private int monthsAhead;
+  @Value("${job.deletion.chunkSize:500}")
+  private int chunkSize;
+
+  public boolean isPartitioned() {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, qualified(JOB_TABLE)));
+  }
+
+  /**
+   * Creates partitions of the current month and the configured number of months ahead. The job table has no default
+   * partition, see {@code 18_10_2026_partitioned_job_ids.sql}, a job created in a month without a partition fails.
+   */
+  public void createPartitions() {
+    var month = YearMonth.now();
+    for (int i = 0; i <= monthsAhead; i++) {
+      createPartition(month.plusMonths(i));
+    }
+  }
+
+  /**
+   * Creates partitions of the current tenant if its job table is partitioned and adds the tenant to the tenants whose
+   * partitions are created on the fixed interval.
+   *
+   * @return true if the job table is partitioned
+   */
+  public boolean createPartitionsIfPartitioned() {
+    var tenant = context.getTenantId();
+    if (!isPartitioned()) {
+      tenants.remove(tenant);
+      return false;
+    }
+    tenants.add(tenant);
+    createPartitions();
+    return true;
+  }
+
+  /**
+   * Finds tenants with a partitioned job table and creates their partitions, so partitions missed while the module was
+   * stopped are created at startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void discoverTenants() {
+    var suffix = folioModuleMetadata.getDBSchemaName("x").substring(1);
+    try {
+      jdbcTemplate.queryForList(PARTITIONED_SCHEMAS_SQL, String.class, suffix.length(), suffix)
+        .forEach(schema -> tenants.add(schema.substring(0, schema.length() - suffix.length())));
+      log.info("discoverTenants:: creating job partitions of tenants {}.", tenants);
+    } catch (Exception e) {
+      log.error("discoverTenants:: failed to find tenants with partitioned job table.", e);
+    }
+    createPartitionsOfTenants();
+  }
+
+  @Scheduled(fixedDelayString = "${job.partitioning.intervalMs:3600000}",
+    initialDelayString = "${job.partitioning.intervalMs:3600000}")
+  public void createPartitionsOfTenants() {
+    tenants.forEach(tenant -> {
+      var tenantContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata,
+        Map.of(XOkapiHeaders.TENANT, tenant));
+      try (var contextSetter = new FolioExecutionContextSetter(tenantContext)) {
+        createPartitionsIfPartitioned();
+      } catch (Exception e) {
+        log.error("createPartitionsOfTenants:: failed to create job partitions of tenant {}.", tenant, e);
+      }
+    });
+  }
+
+  /**
+   * Drops partitions where every job is expired. Files of the dropped jobs are deleted from the storage with
+   * commands enqueued in the transaction that drops the detached partition.
+   *
+   * @param expirationDates update date before which jobs of each type are expired, jobs of other types never expire
+   * @return number of dropped partitions
+   */
+  public int dropExpiredPartitions(Map<ExportType, Date> expirationDates) {
+    if (expirationDates.isEmpty()) {
+      return 0;
+    }
+    var latestExpirationDate = Collections.max(expirationDates.values());
+    var dropped = 0;
+    var schema = folioModuleMetadata.getDBSchemaName(context.getTenantId());
+    for (var partition : jdbcTemplate.query(PARTITIONS_SQL, PARTITION_MAPPER, schema)) {
+      // jobs are updated after they are created, so jobs created after the latest expiration date are not expired
+      var month = YearMonth.parse(partition.name().substring(PARTITION_PREFIX.length()), PARTITION_MONTH);
+      if (toDate(month.plusMonths(1)).after(latestExpirationDate)) {
+        continue;
+      }
+      try {
+        if (dropIfExpired(partition, month, expirationDates)) {
+          dropped++;
+        }
+      } catch (DataAccessException e) {
+        log.error("dropExpiredPartitions:: failed to drop partition {}.", partition.name(), e);
+      }
+    }
+    return dropped;
+  }
+
+  /**
+   * Detaches the partition concurrently, so reads and writes of other partitions are not blocked, and drops it with
+   * its files if every job is still expired after the detach. A partition left detached or pending detach by a failed
+   * run is dropped by the next one.
+   */
+  private boolean dropIfExpired(Partition partition, YearMonth month, Map<ExportType, Date> expirationDates) {
+    var table = qualified(partition.name());
+    if (partition.attached() && !partition.detachPending()) {
+      if (hasActiveJobs(table, expirationDates)) {
+        return false;
+      }
+      detach(table, "CONCURRENTLY");
+    } else if (partition.attached()) {
+      detach(table, "FINALIZE");
+    }
+    // a job can be updated before the detach completes
+    if (hasActiveJobs(table, expirationDates)) {
+      jdbcTemplate.execute(String.format("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+        qualified(JOB_TABLE), table, month.atDay(1), month.plusMonths(1).atDay(1)));
+      log.info("dropIfExpired:: attached partition {} back, it has jobs that are not expired.", partition.name());
+      return false;
+    }
+    var files = transactionTemplate.execute(status -> drop(table));
+    log.info("dropIfExpired:: dropped partition {} with {} files of expired jobs.", partition.name(), files);
+    return true;
+  }
+
+  private boolean hasActiveJobs(String table, Map<ExportType, Date> expirationDates) {
+    var expired = new StringBuilder("coalesce(CASE type");
+    List<Object> args = new ArrayList<>();
+    expirationDates.forEach((type, date) -> {
+      expired.append(" WHEN ? THEN updated_date < ?");
+      args.add(type.getValue());
+      args.add(new Timestamp(date.getTime()));
+    });
+    expired.append(" ELSE false END, false)");
+    return !Boolean.FALSE.equals(jdbcTemplate.queryForObject(
+      "SELECT EXISTS (SELECT 1 FROM " + table + " WHERE NOT " + expired + ")", Boolean.class, args.toArray()));
+  }
+
+  /**
+   * DETACH PARTITION CONCURRENTLY can not run in a transaction, the detach runs with a connection in auto-commit mode.
+   */
+  private void detach(String table, String mode) {
+    var withoutTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+    withoutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    withoutTransaction.executeWithoutResult(status ->
+      jdbcTemplate.execute("ALTER TABLE " + qualified(JOB_TABLE) + " DETACH PARTITION " + table + " " + mode));
+  }
+
+  /**
+   * Deletes files of the jobs of the detached partition in chunks while the keys are read with a cursor, removes the
+   * jobs from the counts and the ids and drops the partition.
+   *
+   * @return number of deleted files
+   */
+  private int drop(String table) {
+    var chunk = new ArrayList<String>(chunkSize);
+    var deleted = new MutableInt();
+    RowCallbackHandler deleteInChunks = rs -> {
+      chunk.add(rs.getString(1));
+      if (chunk.size() == chunkSize) {
+        deleted.add(deleteFiles(chunk));
+      }
+    };
+    jdbcTemplate.query(connection -> {
+      var statement = connection.prepareStatement("SELECT jsonb_array_elements_text(files) FROM " + table
+        + " WHERE jsonb_typeof(files) = 'array'");
+      statement.setFetchSize(chunkSize);
+      return statement;
+    }, deleteInChunks);
+    deleted.add(deleteFiles(chunk));
+
+    jdbcTemplate.update(String.format(SUBTRACT_STATS_SQL, qualified(JOB_STATS_DELTA_TABLE), table));
+    jdbcTemplate.update("DELETE FROM " + qualified(JOB_ID_TABLE) + " WHERE id IN (SELECT id FROM " + table + ")");
+    jdbcTemplate.execute("DROP TABLE " + table);
+    return deleted.intValue();
+  }
+
+  private int deleteFiles(List<String> chunk) {
+    var size = chunk.size();
+    if (size > 0) {
+      jobExecutionService.deleteJobFiles(List.of(List.copyOf(chunk)));
+      chunk.clear();
+    }
+    return size;
+  }
+
+  private void createPartition(YearMonth month) {
+    var partition = qualified(PARTITION_PREFIX + month.format(PARTITION_MONTH));
+    try {
+      jdbcTemplate.execute(String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+        partition, qualified(JOB_TABLE), month.atDay(1), month.plusMonths(1).atDay(1)));
+    } catch (DataAccessException e) {
+      log.error("createPartition:: failed to create partition {}.", partition, e);
+    }
+  }
+
+  private String qualified(String table) {
+    return folioModuleMetadata.getDBSchemaName(context.getTenantId()) + "." + table;
+  }
+
+  private record Partition(String name, boolean attached, boolean detachPending) {
+  }
+
+  private static Date toDate(YearMonth month) {
+    return Date.from(month.atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+  }
+}
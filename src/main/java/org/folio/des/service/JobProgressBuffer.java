@@ -0,0 +1,122 @@
+package org.folio.des.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.des.domain.dto.Progress;
+import org.folio.des.repository.JobDataExportRepository;
+import org.folio.des.service.util.BatchStatusUtil;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Write-behind buffer of job progress. Keeps the latest progress of running jobs per tenant in memory and writes it
+ * to the database on a fixed interval, so frequent progress updates do not rewrite job rows one by one.
+ * Progress received with a terminal batch status bypasses the buffer and is saved with the job.
+ * Progress is removed from the buffer only after it is written, so it is not lost if the write fails and readers see
+ * the buffered progress until the write commits.
+ * Writing the progress increments the version of the job, so a concurrent update of the job loaded before the write
+ * fails with an optimistic lock error instead of overwriting the progress with a stale one.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class JobProgressBuffer {
+
+  private final Map<String, Map<UUID, Progress>> progressByTenant = new ConcurrentHashMap<>();
+
+  private final JobDataExportRepository repository;
+  private final FolioExecutionContext context;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  public void put(UUID jobId, Progress progress) {
+    progressByTenant.computeIfAbsent(context.getTenantId(), tenant -> new ConcurrentHashMap<>()).put(jobId, progress);
+  }
+
+  /**
+   * Buffers progress of the job of the current tenant after the current transaction commits, so progress of an update
+   * that is rolled back is never written. Buffers it at once if there is no transaction.
+   */
+  public void putAfterCommit(UUID jobId, Progress progress) {
+    var tenant = context.getTenantId();
+    afterCommit(() -> progressByTenant.computeIfAbsent(tenant, t -> new ConcurrentHashMap<>()).put(jobId, progress));
+  }
+
+  /**
+   * Removes buffered progress of the job of the current tenant after the current transaction commits, so the buffered
+   * progress stays if the update of the job is rolled back. Removes it at once if there is no transaction.
+   */
+  public void removeAfterCommit(UUID jobId) {
+    var tenant = context.getTenantId();
+    afterCommit(() -> Optional.ofNullable(progressByTenant.get(tenant)).ifPresent(progress -> progress.remove(jobId)));
+  }
+
+  /**
+   * Removes buffered progress of the job of the current tenant.
+   *
+   * @return the removed progress or empty if there is no progress buffered
+   */
+  public Optional<Progress> remove(UUID jobId) {
+    return Optional.ofNullable(progressByTenant.get(context.getTenantId())).map(progress -> progress.remove(jobId));
+  }
+
+  /**
+   * Returns buffered progress of the job of the current tenant that is not written to the database yet.
+   */
+  public Optional<Progress> get(UUID jobId) {
+    return Optional.ofNullable(progressByTenant.get(context.getTenantId())).map(progress -> progress.get(jobId));
+  }
+
+  @Scheduled(fixedDelayString = "${job.progress.flushIntervalMs:2000}")
+  public void flush() {
+    progressByTenant.forEach((tenant, progress) -> {
+      if (progress.isEmpty()) {
+        return;
+      }
+      var tenantContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata,
+        Map.of(XOkapiHeaders.TENANT, tenant));
+      try (var contextSetter = new FolioExecutionContextSetter(tenantContext)) {
+        flush(tenant, progress);
+      }
+    });
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private void flush(String tenant, Map<UUID, Progress> progress) {
+    var flushed = 0;
+    for (var entry : progress.entrySet()) {
+      try {
+        flushed += repository.updateProgress(entry.getKey(), entry.getValue(), BatchStatusUtil.TERMINAL_STATUSES);
+      } catch (Exception e) {
+        // the progress stays buffered and is written by the next flush
+        log.error("flush:: failed to write progress of job {} for tenant {}.", entry.getKey(), tenant, e);
+        continue;
+      }
+      // progress that is replaced in the meantime stays buffered until the next flush
+      progress.remove(entry.getKey(), entry.getValue());
+    }
+    log.debug("flush:: wrote progress of {} jobs for tenant {}.", flushed, tenant);
+  }
+}
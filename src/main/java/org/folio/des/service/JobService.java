@@ -1,15 +1,15 @@
 package org.folio.des.service;
 
+import org.folio.des.domain.ExportedFile;
 import org.folio.des.domain.dto.Job;
 import org.folio.des.domain.dto.JobCollection;
 
-import java.io.InputStream;
 import java.util.UUID;
 
 public interface JobService {
 
   /**
-   * Gets job by id.
+   * Gets job by id, the job is looked up in the archive if it is not active.
    *
    * @param id the job id
    * @return job by id
@@ -22,9 +22,25 @@ public interface JobService {
    * @param offset the offset
    * @param limit the limit
    * @param query the query
+   * @param summary if true - only summary fields of jobs are read, see {@link org.folio.des.domain.JobSummary}
+   * @param includeArchived if true - archived jobs are searched too
    * @return job collection
    */
-  JobCollection get(Integer offset, Integer limit, String query);
+  JobCollection get(Integer offset, Integer limit, String query, boolean summary, boolean includeArchived);
+
+  /**
+   * Gets job collection by search query using keyset pagination.
+   * Jobs are sorted by creation date and id descending, sorting of the query is ignored.
+   * The total number of records is counted only for the first page.
+   *
+   * @param cursor the cursor of the page returned by the previous call, blank for the first page
+   * @param limit the limit
+   * @param query the query
+   * @param summary if true - only summary fields of jobs are read, see {@link org.folio.des.domain.JobSummary}
+   * @param includeArchived if true - archived jobs are searched too
+   * @return job collection
+   */
+  JobCollection getAfter(String cursor, Integer limit, String query, boolean summary, boolean includeArchived);
 
   /**
    * Inserts or updates job, validates job's config presence, if @withJobCommandSend enabled - send job to kafka
@@ -53,6 +69,12 @@ public interface JobService {
    */
   void deleteOldJobs();
 
+  /**
+   * Moves finished jobs that were not updated for the configured period to the archive.
+   * Archived jobs are still returned by id and by searches that include archived jobs.
+   */
+  void archiveOldJobs();
+
   /**
    * Resending the exported file. A job can have only one exported file.
    * @param jobId the job id
@@ -63,8 +85,10 @@ public interface JobService {
    * Downloading the exported file. A job can have only one exported file.
    * @param jobId the job id
    * @param key the key of the file in the storage
-   * @return Input stream of exported file.
+   * @param range the Range header of the request or null to download the whole file
+   * @param ifRange the If-Range header of the request or null
+   * @return the exported file or its range streamed from the storage.
    */
-  InputStream downloadExportedFile(UUID jobId, String key);
+  ExportedFile downloadExportedFile(UUID jobId, String key, String range, String ifRange);
 
 }
@@ -0,0 +1,63 @@
+package org.folio.des.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.des.repository.JobStatsRepository;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Folds the count changes appended by the job triggers into the job counts on a fixed interval, see
+ * {@code 18_10_2026_create_job_stats_deltas.sql}. Writers of jobs only append changes, so they do not wait for each
+ * other on the count of a type, status and day. Only the fold updates the counts.
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class JobStatsFolder {
+
+  private static final String TENANT_SCHEMAS_SQL = "SELECT nspname FROM pg_namespace WHERE right(nspname, ?) = ? "
+    + "AND to_regclass(quote_ident(nspname) || '.job_stats_delta') IS NOT NULL";
+
+  private final JobStatsRepository repository;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  /**
+   * Folds the count changes of every tenant, tenants are looked up on every run, so tenants enabled or purged in the
+   * meantime need no registration.
+   */
+  @Scheduled(fixedDelayString = "${job.stats.foldIntervalMs:60000}")
+  public void fold() {
+    var suffix = folioModuleMetadata.getDBSchemaName("x").substring(1);
+    List<String> schemas;
+    try {
+      schemas = jdbcTemplate.queryForList(TENANT_SCHEMAS_SQL, String.class, suffix.length(), suffix);
+    } catch (Exception e) {
+      log.error("fold:: failed to find tenants with job count changes.", e);
+      return;
+    }
+    schemas.forEach(schema -> fold(schema.substring(0, schema.length() - suffix.length())));
+  }
+
+  private void fold(String tenant) {
+    var tenantContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata,
+      Map.of(XOkapiHeaders.TENANT, tenant));
+    try (var contextSetter = new FolioExecutionContextSetter(tenantContext)) {
+      int folded = Objects.requireNonNull(transactionTemplate.execute(status -> repository.fold()));
+      log.debug("fold:: changed {} job counts of tenant {}.", folded, tenant);
+    } catch (Exception e) {
+      log.error("fold:: failed to fold job count changes of tenant {}.", tenant, e);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package org.folio.des.service;
+
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.JobStatsCollection;
+import org.folio.des.domain.dto.JobStatus;
+
+import java.time.LocalDate;
+
+public interface JobStatsService {
+
+  /**
+   * Gets numbers of jobs by type, status and day of creation. Counts are read from the summary table kept up to date
+   * by the database, so the time does not depend on the number of jobs.
+   *
+   * @param type   export type, null for all types
+   * @param status job status, null for all statuses
+   * @param from   first day, null for no lower bound
+   * @param to     last day, null for no upper bound
+   * @return job counts, the latest days first
+   */
+  JobStatsCollection get(ExportType type, JobStatus status, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,89 @@
+package org.folio.des.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.de.entity.Job;
+import org.folio.des.config.kafka.KafkaService;
+import org.folio.des.service.util.OptimisticLockRetryUtil;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Service;
+
+/**
+ * Receives job execution updates polled from Kafka in batches.
+ * Updates are grouped by tenant and applied to the jobs of every tenant in one transaction.
+ * A failure of one tenant does not stop the updates of the other tenants, the batch is reported as failed from the
+ * first update of the failed tenants, so the error handler retries only that update and the ones after it.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.kafka.batch-listener.enabled", havingValue = "true", matchIfMissing = true)
+public class JobUpdatesBatchListenerService {
+  private final FolioModuleMetadata folioModuleMetadata;
+
+  private final JobUpdatesService jobUpdatesService;
+
+  @Value("${application.kafka.job-updates-max-attempts:3}")
+  private int maxAttempts;
+
+  @KafkaListener(
+    id = KafkaService.EVENT_LISTENER_ID,
+    containerFactory = "kafkaListenerContainerFactory",
+    topicPattern = "${application.kafka.topic-pattern}",
+    groupId = "${application.kafka.group-id}",
+    concurrency = "${application.kafka.listener.job-updates.concurrency:2}")
+  public void receiveJobExecutionUpdates(List<Message<Job>> jobExecutionUpdates) {
+    log.info("receiveJobExecutionUpdates:: received {} job updates.", jobExecutionUpdates.size());
+    Map<String, List<Integer>> tenantUpdates = IntStream.range(0, jobExecutionUpdates.size()).boxed()
+      .collect(groupingBy(i -> getTenant(jobExecutionUpdates.get(i).getHeaders()), LinkedHashMap::new, toList()));
+    var failedIndex = -1;
+    RuntimeException failure = null;
+    for (var indexes : tenantUpdates.values()) {
+      try {
+        receiveTenantJobExecutionUpdates(indexes.stream().map(jobExecutionUpdates::get).toList());
+      } catch (RuntimeException e) {
+        log.error("receiveJobExecutionUpdates:: failed to apply {} job updates of tenant {}.", indexes.size(),
+          getTenant(jobExecutionUpdates.get(indexes.get(0)).getHeaders()), e);
+        if (failure == null || indexes.get(0) < failedIndex) {
+          failedIndex = indexes.get(0);
+          failure = e;
+        }
+      }
+    }
+    if (failure != null) {
+      // updates before the first failed one are committed, the error handler redelivers the rest of the batch
+      throw new BatchListenerFailedException("Failed to apply job updates", failure, failedIndex);
+    }
+  }
+
+  private void receiveTenantJobExecutionUpdates(List<Message<Job>> jobExecutionUpdates) {
+    var defaultFolioExecutionContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata,
+      jobExecutionUpdates.get(0).getHeaders());
+    try (var context = new FolioExecutionContextSetter(defaultFolioExecutionContext)) {
+      var jobs = jobExecutionUpdates.stream().map(Message::getPayload).toList();
+      OptimisticLockRetryUtil.runWithRetry(() -> jobUpdatesService.receiveJobExecutionUpdates(jobs), maxAttempts);
+    }
+  }
+
+  private static String getTenant(MessageHeaders headers) {
+    var tenant = headers.get(XOkapiHeaders.TENANT);
+    return tenant instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(tenant);
+  }
+}
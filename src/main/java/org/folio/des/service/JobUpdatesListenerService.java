@@ -5,31 +5,45 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.de.entity.Job;
 import org.folio.des.config.kafka.KafkaService;
+import org.folio.des.service.util.OptimisticLockRetryUtil;
 import org.folio.spring.DefaultFolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Headers;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
+/**
+ * Receives job execution updates from Kafka one by one, used when the batch listener is disabled.
+ *
+ * @see JobUpdatesBatchListenerService
+ */
 @Service
 @Log4j2
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.kafka.batch-listener.enabled", havingValue = "false")
 public class JobUpdatesListenerService {
   private final FolioModuleMetadata folioModuleMetadata;
 
   private final JobUpdatesService jobUpdatesService;
 
+  @Value("${application.kafka.job-updates-max-attempts:3}")
+  private int maxAttempts;
+
   @KafkaListener(
     id = KafkaService.EVENT_LISTENER_ID,
     containerFactory = "kafkaListenerContainerFactory",
     topicPattern = "${application.kafka.topic-pattern}",
-    groupId = "${application.kafka.group-id}")
+    groupId = "${application.kafka.group-id}",
+    concurrency = "${application.kafka.listener.job-updates.concurrency:2}")
   public void receiveJobExecutionUpdate(@Payload Job jobExecutionUpdate, @Headers Map<String, Object> messageHeaders) {
     var defaultFolioExecutionContext = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata, messageHeaders);
     try (var context = new FolioExecutionContextSetter(defaultFolioExecutionContext)) {
-      jobUpdatesService.receiveJobExecutionUpdate(jobExecutionUpdate);
+      OptimisticLockRetryUtil.runWithRetry(() -> jobUpdatesService.receiveJobExecutionUpdate(jobExecutionUpdate),
+        maxAttempts);
     }
   }
 
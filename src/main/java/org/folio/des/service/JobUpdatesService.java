@@ -2,16 +2,25 @@ package org.folio.des.service;
 
 import static java.util.Objects.nonNull;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.de.entity.Job;
 import org.folio.des.domain.dto.JobStatus;
+import org.folio.des.domain.dto.Progress;
 import org.folio.des.repository.JobDataExportRepository;
+import org.folio.des.service.util.BatchStatusUtil;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +44,7 @@ public class JobUpdatesService {
   }
 
   private final JobDataExportRepository repository;
+  private final JobProgressBuffer progressBuffer;
 
   @Transactional
   public void receiveJobExecutionUpdate(Job jobExecutionUpdate) {
@@ -47,15 +57,62 @@ public class JobUpdatesService {
     }
     var job = jobOptional.get();
 
-    if (updateJobPropsIfChanged(jobExecutionUpdate, job)) {
+    if (updateJobPropsIfChanged(jobExecutionUpdate, job, new HashMap<>())) {
       job.setUpdatedDate(new Date());
-      log.info("Updating {}.", job);
+      log.debug("Updating {}.", job);
       job = repository.save(job);
-      log.info("Updated {}.", job);
+      log.info("Updated job {} with status {}.", job.getId(), job.getStatus());
     }
   }
 
-  private boolean updateJobPropsIfChanged(Job jobExecutionUpdate, Job job) {
+  /**
+   * Applies a batch of job execution updates in one transaction. Updates of the same job are applied in the received
+   * order to the job loaded once, so only the net change of every job is flushed.
+   *
+   * @param jobExecutionUpdates updates of jobs of the current tenant in the received order
+   */
+  @Transactional
+  public void receiveJobExecutionUpdates(List<Job> jobExecutionUpdates) {
+    var updatesByJobId = jobExecutionUpdates.stream()
+      .collect(Collectors.groupingBy(Job::getId, LinkedHashMap::new, Collectors.toList()));
+    var jobs = repository.findAllById(updatesByJobId.keySet())
+      .stream()
+      .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+    List<Job> changedJobs = new ArrayList<>();
+    Map<UUID, Progress> pendingProgress = new HashMap<>();
+    updatesByJobId.forEach((id, jobUpdates) -> {
+      var job = jobs.get(id);
+      if (job == null) {
+        log.error("Update for unknown job {}.", id);
+        return;
+      }
+      var changed = false;
+      for (var jobExecutionUpdate : jobUpdates) {
+        log.debug("Received {}.", jobExecutionUpdate);
+        changed |= updateJobPropsIfChanged(jobExecutionUpdate, job, pendingProgress);
+      }
+      if (changed) {
+        job.setUpdatedDate(new Date());
+        changedJobs.add(job);
+      }
+    });
+
+    repository.saveAll(changedJobs);
+    log.info("receiveJobExecutionUpdates:: applied {} updates of {} jobs, {} jobs changed.", jobExecutionUpdates.size(),
+      updatesByJobId.size(), changedJobs.size());
+  }
+
+  /**
+   * Applies the update to the job. Running progress is buffered only after the transaction commits,
+   * pendingProgress keeps it for the following updates of the same transaction.
+   */
+  private boolean updateJobPropsIfChanged(Job jobExecutionUpdate, Job job, Map<UUID, Progress> pendingProgress) {
+    if (BatchStatusUtil.isRegression(job.getBatchStatus(), jobExecutionUpdate.getBatchStatus())) {
+      log.warn("Ignoring out-of-order update of job {}: {} received after {}.", job.getId(),
+        jobExecutionUpdate.getBatchStatus(), job.getBatchStatus());
+      return false;
+    }
     var result = false;
     if (jobExecutionUpdate.getDescription() != null && !jobExecutionUpdate.getDescription().equals(job.getDescription())) {
       job.setDescription(jobExecutionUpdate.getDescription());
@@ -104,8 +161,16 @@ public class JobUpdatesService {
         // Execute next job only after the previous one is completed.
       }
     }
-    if (nonNull(jobExecutionUpdate.getProgress())) {
-      job.setProgress(jobExecutionUpdate.getProgress());
+    if (BatchStatusUtil.isTerminal(jobExecutionUpdate.getBatchStatus())) {
+      // the final progress is saved with the job, buffered one is outdated
+      var bufferedProgress = Optional.ofNullable(pendingProgress.remove(job.getId()))
+        .or(() -> progressBuffer.get(job.getId()));
+      progressBuffer.removeAfterCommit(job.getId());
+      var progress = nonNull(jobExecutionUpdate.getProgress()) ? Optional.of(jobExecutionUpdate.getProgress()) : bufferedProgress;
+      progress.ifPresent(job::setProgress);
+    } else if (nonNull(jobExecutionUpdate.getProgress())) {
+      pendingProgress.put(job.getId(), jobExecutionUpdate.getProgress());
+      progressBuffer.putAfterCommit(job.getId(), jobExecutionUpdate.getProgress());
     }
     if (jobExecutionUpdate.getExitStatus() != null && !jobExecutionUpdate.getExitStatus().equals(job.getExitStatus())) {
       job.setExitStatus(jobExecutionUpdate.getExitStatus());
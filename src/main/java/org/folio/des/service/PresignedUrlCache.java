@@ -0,0 +1,149 @@
+package org.folio.des.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.map.LRUMap;
+import org.folio.des.domain.dto.PresignedUrl;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Bounded LRU cache of refreshed presigned URLs of exported files keyed by tenant and file path.
+ * An entry expires the margin before its URL does: the expiry is read from the signature parameters of the URL
+ * (X-Amz-Date and X-Amz-Expires or Expires) and the TTL is used for URLs without them. Concurrent requests of
+ * a missing entry wait for one refresh, a failed refresh is not cached.
+ */
+@Component
+@Log4j2
+public class PresignedUrlCache {
+
+  private static final DateTimeFormatter AMZ_DATE_FORMAT =
+    DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+  private final Map<Key, CompletableFuture<CachedUrl>> cache;
+  private final Counter hits;
+  private final Counter misses;
+  private final FolioExecutionContext context;
+  private final Clock clock;
+  private final Duration ttl;
+  private final Duration expiryMargin;
+
+  public PresignedUrlCache(@Value("${job.presignedUrl.cache.size:1000}") int maxSize,
+                           @Value("${job.presignedUrl.cache.ttlSeconds:600}") long ttlSeconds,
+                           @Value("${job.presignedUrl.cache.expiryMarginSeconds:60}") long expiryMarginSeconds,
+                           FolioExecutionContext context, MeterRegistry meterRegistry) {
+    this(maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(expiryMarginSeconds), context, meterRegistry,
+      Clock.systemUTC());
+  }
+
+  PresignedUrlCache(int maxSize, Duration ttl, Duration expiryMargin, FolioExecutionContext context,
+                    MeterRegistry meterRegistry, Clock clock) {
+    log.info("PresignedUrlCache:: presigned URLs cache size={}, ttl={}, expiry margin={}.", maxSize, ttl, expiryMargin);
+    this.cache = meterRegistry.gaugeMapSize("presigned.url.cache.size", Tags.empty(),
+      Collections.synchronizedMap(new LRUMap<>(maxSize)));
+    this.hits = meterRegistry.counter("presigned.url.cache.requests", "result", "hit");
+    this.misses = meterRegistry.counter("presigned.url.cache.requests", "result", "miss");
+    this.context = context;
+    this.ttl = ttl;
+    this.expiryMargin = expiryMargin;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the cached presigned URL of the file of the current tenant, refreshes and caches it on a miss.
+   *
+   * @param filePath path of the file in the storage
+   * @param refresh  requests a new presigned URL of the file
+   * @return presigned URL valid for at least the expiry margin
+   */
+  public PresignedUrl get(String filePath, Supplier<PresignedUrl> refresh) {
+    var key = new Key(context.getTenantId(), filePath);
+    CompletableFuture<CachedUrl> entry;
+    var refreshing = false;
+    synchronized (cache) {
+      entry = cache.get(key);
+      if (entry == null || isExpired(entry)) {
+        entry = new CompletableFuture<>();
+        cache.put(key, entry);
+        refreshing = true;
+      }
+    }
+    if (!refreshing) {
+      hits.increment();
+      return await(entry);
+    }
+    misses.increment();
+    try {
+      var url = refresh.get();
+      var cachedUrl = new CachedUrl(url, cachedUntil(url));
+      entry.complete(cachedUrl);
+      if (!cachedUrl.cachedUntil().isAfter(clock.instant())) {
+        cache.remove(key, entry);
+      }
+      return url;
+    } catch (RuntimeException e) {
+      cache.remove(key, entry);
+      entry.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private boolean isExpired(CompletableFuture<CachedUrl> entry) {
+    return entry.isDone() && !entry.isCompletedExceptionally()
+      && !entry.join().cachedUntil().isAfter(clock.instant());
+  }
+
+  private Instant cachedUntil(PresignedUrl url) {
+    var now = clock.instant();
+    var cachedUntil = now.plus(ttl);
+    try {
+      var parameters = UriComponentsBuilder.fromUriString(url.getUrl()).build().getQueryParams();
+      var amzDate = parameters.getFirst("X-Amz-Date");
+      var amzExpires = parameters.getFirst("X-Amz-Expires");
+      var expires = parameters.getFirst("Expires");
+      Instant expiresAt = null;
+      if (amzDate != null && amzExpires != null) {
+        expiresAt = AMZ_DATE_FORMAT.parse(amzDate, Instant::from).plusSeconds(Long.parseLong(amzExpires));
+      } else if (expires != null) {
+        expiresAt = Instant.ofEpochSecond(Long.parseLong(expires));
+      }
+      if (expiresAt != null && expiresAt.minus(expiryMargin).isBefore(cachedUntil)) {
+        cachedUntil = expiresAt.minus(expiryMargin);
+      }
+    } catch (RuntimeException e) {
+      log.warn("cachedUntil:: cannot read expiry of the presigned URL, caching it for {}.", ttl);
+    }
+    return cachedUntil;
+  }
+
+  private static PresignedUrl await(CompletableFuture<CachedUrl> entry) {
+    try {
+      return entry.join().url();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record Key(String tenant, String filePath) {
+  }
+
+  private record CachedUrl(PresignedUrl url, Instant cachedUntil) {
+  }
+}
@@ -2,25 +2,25 @@ package org.folio.des.service.impl;
 
 import static java.util.Objects.nonNull;
 
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.de.entity.Job;
+import org.folio.de.entity.JobArchive;
+import org.folio.de.entity.JobWithArchive;
 import org.folio.des.client.ExportWorkerClient;
+import org.folio.des.domain.ExportedFile;
+import org.folio.des.domain.JobCursor;
+import org.folio.des.domain.JobSummary;
 import org.folio.des.domain.dto.ExportType;
 import org.folio.des.domain.dto.ExportTypeSpecificParameters;
 import org.folio.des.domain.dto.JobCollection;
@@ -31,12 +31,21 @@ import org.folio.des.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.des.domain.dto.delete_interval.JobDeletionInterval;
 import org.folio.des.exceptions.FileDownloadException;
 import org.folio.des.repository.CQLService;
+import org.folio.des.repository.CQLService.CountMode;
+import org.folio.des.repository.JobArchiveRepository;
 import org.folio.des.repository.JobDataExportRepository;
 import org.folio.des.security.JWTokenUtils;
+import org.folio.des.service.ExpiredJobsDeleter;
+import org.folio.des.service.ExportedFileDownloader;
+import org.folio.des.service.JobArchiver;
 import org.folio.des.service.JobDeletionIntervalService;
 import org.folio.des.service.JobExecutionService;
+import org.folio.des.service.JobPartitionManager;
+import org.folio.des.service.JobProgressBuffer;
 import org.folio.des.service.JobService;
+import org.folio.des.service.PresignedUrlCache;
 import org.folio.des.service.config.ExportConfigService;
+import org.folio.des.service.util.BatchStatusUtil;
 import org.folio.des.service.util.JobMapperUtil;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
@@ -57,8 +66,15 @@ public class JobServiceImpl implements JobService {
 
   @Value("${job.expirationPeriodDays}")
   private int jobExpirationPeriod;
-  @Value("${job.downloadFileConnectionTimeoutMs}")
-  private int jobDownloadFileConnectionTimeout;
+  @Value("${job.count.mode:EXACT}")
+  private CountMode jobCountMode;
+  @Value("${job.count.limit:10000}")
+  private int jobCountLimit;
+
+  private static final String JOB_TABLE = "job";
+  private static final String JOB_WITH_ARCHIVE_VIEW = "job_with_archive";
+  private static final String CREATED_DATE_ATTRIBUTE = "createdDate";
+  private static final String ID_ATTRIBUTE = "id";
 
   private static final Map<ExportType, String> OUTPUT_FORMATS = new EnumMap<>(ExportType.class);
 
@@ -75,40 +91,123 @@ public class JobServiceImpl implements JobService {
   private final CQLService cqlService;
   private final JobDeletionIntervalService deletionIntervalService;
   private final ExportConfigService defaultExportConfigService;
+  private final JobProgressBuffer progressBuffer;
+  private final ExpiredJobsDeleter expiredJobsDeleter;
+  private final JobPartitionManager partitionManager;
+  private final JobArchiveRepository archiveRepository;
+  private final JobArchiver jobArchiver;
+  private final ExportedFileDownloader fileDownloader;
+  private final PresignedUrlCache presignedUrlCache;
 
   @Transactional(readOnly = true)
   @Override
   public org.folio.des.domain.dto.Job get(UUID id) {
     log.debug("get:: by id={}.", id);
-    return entityToDto(getJobEntity(id));
+    var job = entityToDto(getJobEntity(id));
+    progressBuffer.get(id).ifPresent(job::setProgress);
+    return job;
   }
 
   public Job getJobEntity(UUID id) {
     log.debug("getJobEntity:: by id={}.", id);
-    return repository.findById(id).orElseThrow(() -> new NotFoundException(String.format("Job %s not found", id)));
+    return repository.findById(id)
+      .or(() -> archiveRepository.findById(id).map(JobMapperUtil::toJob))
+      .orElseThrow(() -> new NotFoundException(String.format("Job %s not found", id)));
   }
 
   @Transactional(readOnly = true)
   @Override
-  public JobCollection get(Integer offset, Integer limit, String query) {
-    log.debug("get:: by query={} with offset={} and limit={}.", query, offset, limit);
+  public JobCollection get(Integer offset, Integer limit, String query, boolean summary, boolean includeArchived) {
+    log.debug("get:: by query={} with offset={}, limit={}, summary={} and includeArchived={}.", query, offset, limit,
+      summary, includeArchived);
     var result = new JobCollection();
-    if (StringUtils.isBlank(query)) {
+    if (includeArchived) {
+      var cql = StringUtils.defaultIfBlank(query, CQLService.ALL_RECORDS_QUERY);
+      result.setJobRecords(summary
+          ? cqlService.getByCQL(JobWithArchive.class, JobSummary.class, JobSummary.ATTRIBUTES, cql, offset, limit)
+              .stream()
+              .map(JobMapperUtil::summaryToDto)
+              .toList()
+          : cqlService.getByCQL(JobWithArchive.class, cql, offset, limit)
+              .stream()
+              .map(JobServiceImpl::archivedEntityToDto)
+              .toList());
+      var totalRecords = cqlService.countByCQL(JobWithArchive.class, JOB_WITH_ARCHIVE_VIEW, cql,
+        archiveCountMode(), jobCountLimit);
+      result.setTotalRecords(Math.max(totalRecords, offset + result.getJobRecords().size()));
+    } else if (!summary && StringUtils.isBlank(query) && jobCountMode == CountMode.EXACT) {
       log.info("get:: get all since query is absent.");
       Page<Job> page = repository.findAll(new OffsetRequest(offset, limit));
       result.setJobRecords(page.map(JobServiceImpl::entityToDto).getContent());
       result.setTotalRecords((int) page.getTotalElements());
     } else {
-      result.setJobRecords(cqlService.getByCQL(Job.class, query, offset, limit)
-          .stream()
-          .map(JobServiceImpl::entityToDto)
-          .toList());
-      result.setTotalRecords(cqlService.countByCQL(Job.class, query));
+      var cql = StringUtils.defaultIfBlank(query, CQLService.ALL_RECORDS_QUERY);
+      result.setJobRecords(summary
+          ? cqlService.getByCQL(Job.class, JobSummary.class, JobSummary.ATTRIBUTES, cql, offset, limit)
+              .stream()
+              .map(JobMapperUtil::summaryToDto)
+              .toList()
+          : cqlService.getByCQL(Job.class, cql, offset, limit)
+              .stream()
+              .map(JobServiceImpl::entityToDto)
+              .toList());
+      var totalRecords = cqlService.countByCQL(Job.class, JOB_TABLE, cql, jobCountMode, jobCountLimit);
+      // a capped or estimated total must not be less than the records already returned
+      result.setTotalRecords(Math.max(totalRecords, offset + result.getJobRecords().size()));
     }
     log.info("get:: result={}", result);
     return result;
   }
 
+  @Transactional(readOnly = true)
+  @Override
+  public JobCollection getAfter(String cursor, Integer limit, String query, boolean summary,
+    boolean includeArchived) {
+    log.debug("getAfter:: by query={} after cursor={} with limit={}, summary={} and includeArchived={}.", query, cursor,
+      limit, summary, includeArchived);
+    var lastJob = JobCursor.decode(cursor);
+    var lastCreatedDate = lastJob.map(JobCursor::createdDate).orElse(null);
+    var lastId = lastJob.map(JobCursor::id).orElse(null);
+    var cql = StringUtils.defaultIfBlank(query, CQLService.ALL_RECORDS_QUERY);
+    var result = new JobCollection();
+    if (includeArchived) {
+      result.setJobRecords(summary
+          ? cqlService.getByCQLAfter(JobWithArchive.class, JobSummary.class, JobSummary.ATTRIBUTES, cql,
+                CREATED_DATE_ATTRIBUTE, ID_ATTRIBUTE, lastCreatedDate, lastId, limit)
+              .stream()
+              .map(JobMapperUtil::summaryToDto)
+              .toList()
+          : cqlService.getByCQLAfter(JobWithArchive.class, cql, CREATED_DATE_ATTRIBUTE, ID_ATTRIBUTE, lastCreatedDate,
+                lastId, limit)
+              .stream()
+              .map(JobServiceImpl::archivedEntityToDto)
+              .toList());
+      if (lastJob.isEmpty()) {
+        result.setTotalRecords(cqlService.countByCQL(JobWithArchive.class, JOB_WITH_ARCHIVE_VIEW, cql,
+          archiveCountMode(), jobCountLimit));
+      }
+      log.info("getAfter:: returned {} jobs of {} including archived.", result.getJobRecords().size(),
+        result.getTotalRecords());
+      return result;
+    }
+    result.setJobRecords(summary
+        ? cqlService.getByCQLAfter(Job.class, JobSummary.class, JobSummary.ATTRIBUTES, cql, CREATED_DATE_ATTRIBUTE,
+              ID_ATTRIBUTE, lastCreatedDate, lastId, limit)
+            .stream()
+            .map(JobMapperUtil::summaryToDto)
+            .toList()
+        : cqlService.getByCQLAfter(Job.class, cql, CREATED_DATE_ATTRIBUTE, ID_ATTRIBUTE, lastCreatedDate, lastId, limit)
+            .stream()
+            .map(JobServiceImpl::entityToDto)
+            .toList());
+    // the total is counted only for the first page, the following pages are read by the cursor without a count
+    if (lastJob.isEmpty()) {
+      result.setTotalRecords(cqlService.countByCQL(Job.class, JOB_TABLE, cql, jobCountMode, jobCountLimit));
+    }
+    log.info("getAfter:: returned {} jobs of {}.", result.getJobRecords().size(), result.getTotalRecords());
+    return result;
+  }
+
   @Transactional
   @Override
   public org.folio.des.domain.dto.Job upsertAndSendToKafka(org.folio.des.domain.dto.Job jobDto, boolean withJobCommandSend) {
@@ -142,6 +241,11 @@ public class JobServiceImpl implements JobService {
         });
     }
     Job result = dtoToEntity(jobDto);
+    if (result.getId() != null) {
+      var target = result;
+      repository.findById(result.getId()).ifPresentOrElse(existing -> keepExecutionState(existing, target),
+        () -> archiveRepository.findById(target.getId()).ifPresent(archived -> restore(archived, target)));
+    }
 
     if (StringUtils.isBlank(result.getName())) {
       result.setName(String.format("%06d", repository.getNextJobNumber()));
@@ -185,31 +289,41 @@ public class JobServiceImpl implements JobService {
 
     if (withJobCommandSend) {
       var jobCommand = jobExecutionService.prepareStartJobCommand(result);
-      jobExecutionService.sendJobCommand(jobCommand);
+      jobExecutionService.enqueueJobCommand(jobCommand);
     }
 
     return entityToDto(result);
   }
 
-  @Transactional
   @Override
   public void deleteOldJobs() {
+    boolean partitioned = partitionManager.createPartitionsIfPartitioned();
     List<JobDeletionInterval> jobDeletionIntervals = deletionIntervalService.getAll().getJobDeletionIntervals();
     if (CollectionUtils.isEmpty(jobDeletionIntervals)) {
       log.info("deleteOldJobs:: No job deletion intervals found, skipping.");
       return;
     }
-    List<Job> jobsToDelete = new ArrayList<>();
 
+    if (partitioned) {
+      Map<ExportType, Date> expirationDates = new EnumMap<>(ExportType.class);
+      jobDeletionIntervals.forEach(interval ->
+        expirationDates.put(interval.getExportType(), createExpirationDate(interval.getRetentionDays())));
+      int dropped = partitionManager.dropExpiredPartitions(expirationDates);
+      log.info("deleteOldJobs:: Dropped {} partitions of old jobs.", dropped);
+    }
+    // jobs of partially expired partitions and of a table without partitions are deleted row by row
     jobDeletionIntervals.forEach(interval -> {
       log.info("deleteOldJobs:: Deleting old jobs for export type: {} with retention days: {}.", interval.getExportType(), interval.getRetentionDays());
       var expirationDate = createExpirationDate(interval.getRetentionDays());
-      List<Job> expiredJobs = repository.findByTypeAndUpdatedDateBefore(interval.getExportType(), expirationDate);
-      log.info("deleteOldJobs:: Found {} old jobs for export type: {} for deletion.", expiredJobs.size(), interval.getExportType());
-      jobsToDelete.addAll(expiredJobs);
+      int deleted = expiredJobsDeleter.delete(interval.getExportType(), expirationDate);
+      log.info("deleteOldJobs:: Deleted {} old jobs for export type: {}.", deleted, interval.getExportType());
     });
+  }
 
-    deleteJobs(jobsToDelete);
+  @Override
+  public void archiveOldJobs() {
+    int archived = jobArchiver.archive();
+    log.info("archiveOldJobs:: Archived {} old jobs.", archived);
   }
 
   @Transactional
@@ -229,26 +343,8 @@ public class JobServiceImpl implements JobService {
     return Date.from(LocalDate.now().minusDays(days).atStartOfDay().atZone(ZoneId.systemDefault()).toInstant());
   }
 
-  public void deleteJobs(List<Job> jobs) {
-    if (CollectionUtils.isEmpty(jobs)) {
-      log.info("deleteJobs:: No old jobs were found.");
-      return;
-    }
-
-    repository.deleteAllInBatch(jobs);
-    log.info("deleteJobs:: Deleted {} old jobs [{}].", jobs.size(), jobs.stream()
-      .map(job -> String.format("ID: %s, Name: %s, Type: %s, Status: %s",
-        job.getId(),
-        job.getName(),
-        job.getType(),
-        job.getStatus()))
-      .collect(Collectors.joining("; ")));
-
-    jobExecutionService.deleteJobs(jobs);
-  }
-
   @Override
-  public InputStream downloadExportedFile(UUID jobId, String key) {
+  public ExportedFile downloadExportedFile(UUID jobId, String key, String range, String ifRange) {
     log.debug("downloadExportedFile:: download exported files for jobId={}.", jobId);
     Job job = getJobEntity(jobId);
     if (CollectionUtils.isEmpty(job.getFileNames())) {
@@ -256,23 +352,29 @@ public class JobServiceImpl implements JobService {
       throw new NotFoundException(String.format("The URL of the exported file is missing for jobId: %s", job.getId()));
     }
     log.debug("Refreshing download url for jobId: {}", job.getId());
+    PresignedUrl presignedUrl;
     try {
-      PresignedUrl presignedUrl = getPresignedUrl(job, key);
-      URL url = new URL(presignedUrl.getUrl());
-      HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-      conn.setRequestMethod("GET");
-      conn.setConnectTimeout(jobDownloadFileConnectionTimeout);
-      return conn.getInputStream();
+      presignedUrl = getPresignedUrl(job, key);
     } catch (Exception e) {
       log.error("Error downloading a file: {} for jobId: {} and key: {}", e.getMessage(), job.getId(), key);
       throw new FileDownloadException(String.format("Error downloading a file: %s", e));
     }
+    try {
+      return fileDownloader.download(presignedUrl.getUrl(), range, ifRange);
+    } catch (FileDownloadException e) {
+      log.error("Error downloading a file: {} for jobId: {} and key: {}", e.getMessage(), job.getId(), key);
+      throw e;
+    }
   }
 
   public static org.folio.des.domain.dto.Job entityToDto(Job entity) {
     return JobMapperUtil.entityToDto(entity);
   }
 
+  private static org.folio.des.domain.dto.Job archivedEntityToDto(JobWithArchive entity) {
+    return entityToDto(JobMapperUtil.toJob(entity));
+  }
+
   public static Job dtoToEntity(org.folio.des.domain.dto.Job dto) {
     var result = new Job();
 
@@ -307,6 +409,37 @@ public class JobServiceImpl implements JobService {
     return result;
   }
 
+  /**
+   * Job DTO carries neither the version nor the batch and exit statuses of the job, so they are taken from the stored
+   * job. Status of a finished job is kept as well, so an upsert does not bring the job back to an earlier state.
+   */
+  private static void keepExecutionState(Job existing, Job job) {
+    job.setVersion(existing.getVersion());
+    job.setBatchStatus(existing.getBatchStatus());
+    job.setExitStatus(existing.getExitStatus());
+    if (BatchStatusUtil.isTerminal(existing.getBatchStatus())) {
+      job.setStatus(existing.getStatus());
+    }
+  }
+
+  /**
+   * An updated archived job becomes active again: it is moved back to the job table with the execution state
+   * of the archived copy.
+   */
+  private void restore(JobArchive archived, Job job) {
+    log.info("restore:: job {} is moved back from the archive.", archived.getId());
+    keepExecutionState(JobMapperUtil.toJob(archived), job);
+    job.setVersion(null);
+    archiveRepository.delete(archived);
+  }
+
+  /**
+   * The view of active and archived jobs has no planner estimate, an estimated count is capped instead.
+   */
+  private CountMode archiveCountMode() {
+    return jobCountMode == CountMode.ESTIMATED ? CountMode.CAPPED : jobCountMode;
+  }
+
   private String getUserName(FolioExecutionContext context) {
     String jwt = context.getToken();
     Optional<JWTokenUtils.UserInfo> userInfo = StringUtils.isBlank(jwt) ? Optional.empty() : JWTokenUtils.parseToken(jwt);
@@ -314,9 +447,7 @@ public class JobServiceImpl implements JobService {
   }
 
   private PresignedUrl getPresignedUrl(Job job, String key) {
-    if (nonNull(key)) {
-      return exportWorkerClient.getRefreshedPresignedUrl(key);
-    }
-    return exportWorkerClient.getRefreshedPresignedUrl(job.getFiles().get(0));
+    var filePath = nonNull(key) ? key : job.getFiles().get(0);
+    return presignedUrlCache.get(filePath, () -> exportWorkerClient.getRefreshedPresignedUrl(filePath));
   }
 }
@@ -0,0 +1,41 @@
+package org.folio.des.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.de.entity.JobStatsEntity;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.JobStats;
+import org.folio.des.domain.dto.JobStatsCollection;
+import org.folio.des.domain.dto.JobStatus;
+import org.folio.des.repository.JobStatsRepository;
+import org.folio.des.service.JobStatsService;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class JobStatsServiceImpl implements JobStatsService {
+
+  private final JobStatsRepository repository;
+
+  @Override
+  public JobStatsCollection get(ExportType type, JobStatus status, LocalDate from, LocalDate to) {
+    log.debug("get:: by type={}, status={}, from={} and to={}.", type, status, from, to);
+    var stats = repository.find(type, status, from, to).stream()
+      .map(this::mapToDto)
+      .toList();
+    return new JobStatsCollection()
+      .jobStats(stats)
+      .totalRecords(stats.size());
+  }
+
+  private JobStats mapToDto(JobStatsEntity entity) {
+    return new JobStats()
+      .type(entity.getType())
+      .status(entity.getStatus())
+      .date(entity.getDay())
+      .count(entity.getJobCount());
+  }
+}
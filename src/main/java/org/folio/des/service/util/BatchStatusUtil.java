@@ -0,0 +1,49 @@
+package org.folio.des.service.util;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.batch.core.BatchStatus;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Order of the batch statuses of a job execution. A job moves only forward: from unknown to starting and running
+ * statuses and then to one of the terminal ones. A stopped job is not finished, it may be restarted, so STOPPED is
+ * not terminal and a job moves from it to the starting and running statuses again.
+ */
+@UtilityClass
+public class BatchStatusUtil {
+
+  public static final Set<BatchStatus> TERMINAL_STATUSES =
+    EnumSet.of(BatchStatus.COMPLETED, BatchStatus.FAILED, BatchStatus.ABANDONED);
+
+  private static final Set<BatchStatus> RESTART_STATUSES = EnumSet.of(BatchStatus.STARTING, BatchStatus.STARTED);
+
+  private static final Map<BatchStatus, Integer> STATUS_ORDER = new EnumMap<>(BatchStatus.class);
+
+  static {
+    STATUS_ORDER.put(BatchStatus.UNKNOWN, 0);
+    STATUS_ORDER.put(BatchStatus.STARTING, 1);
+    STATUS_ORDER.put(BatchStatus.STARTED, 2);
+    STATUS_ORDER.put(BatchStatus.STOPPING, 3);
+    STATUS_ORDER.put(BatchStatus.STOPPED, 3);
+    TERMINAL_STATUSES.forEach(status -> STATUS_ORDER.put(status, 4));
+  }
+
+  public static boolean isTerminal(BatchStatus status) {
+    return status != null && TERMINAL_STATUSES.contains(status);
+  }
+
+  /**
+   * Checks if moving a job from the current status to the new one goes backwards, e.g. a late STARTED update
+   * received after COMPLETED.
+   */
+  public static boolean isRegression(BatchStatus current, BatchStatus next) {
+    if (current == BatchStatus.STOPPED && RESTART_STATUSES.contains(next)) {
+      return false;
+    }
+    return current != null && next != null && STATUS_ORDER.get(next) < STATUS_ORDER.get(current);
+  }
+}
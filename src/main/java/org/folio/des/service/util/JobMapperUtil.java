@@ -1,11 +1,14 @@
 package org.folio.des.service.util;
 
 import org.apache.commons.lang3.ObjectUtils;
+import org.folio.de.entity.BaseJob;
 import org.folio.de.entity.Job;
 import org.folio.de.entity.bursarlegacy.JobWithLegacyBursarParameters;
+import org.folio.des.domain.JobSummary;
 import org.folio.des.domain.dto.ExportType;
 import org.folio.des.domain.dto.ExportTypeSpecificParameters;
 import org.folio.des.domain.dto.Metadata;
+import org.springframework.beans.BeanUtils;
 
 import lombok.experimental.UtilityClass;
 
@@ -48,6 +51,37 @@ public class JobMapperUtil {
     return result;
   }
 
+  /**
+   * Converts archived job or job of the view with archived jobs to job entity.
+   */
+  public static Job toJob(BaseJob archivedJob) {
+    var result = new Job();
+    BeanUtils.copyProperties(archivedJob, result);
+    return result;
+  }
+
+  public static org.folio.des.domain.dto.Job summaryToDto(JobSummary jobSummary) {
+    var result = new org.folio.des.domain.dto.Job();
+
+    result.setId(jobSummary.id());
+    result.setName(jobSummary.name());
+    result.setType(jobSummary.type());
+    result.setStatus(jobSummary.status());
+    result.setStartTime(jobSummary.startTime());
+    result.setEndTime(jobSummary.endTime());
+
+    var metadata = new Metadata();
+    metadata.setCreatedDate(jobSummary.createdDate());
+    metadata.setCreatedByUserId(jobSummary.createdByUserId());
+    metadata.setCreatedByUsername(jobSummary.createdByUsername());
+    metadata.setUpdatedDate(jobSummary.updatedDate());
+    metadata.setUpdatedByUserId(jobSummary.updatedByUserId());
+    metadata.setUpdatedByUsername(jobSummary.updatedByUsername());
+    result.setMetadata(metadata);
+
+    return result;
+  }
+
   public static org.folio.des.domain.dto.JobWithLegacyBursarParameters entityToDto(
       JobWithLegacyBursarParameters jobWithLegacyBursarParametersEntity) {
     var result = new org.folio.des.domain.dto.JobWithLegacyBursarParameters();
@@ -0,0 +1,32 @@
+package org.folio.des.service.util;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+
+@UtilityClass
+@Log4j2
+public class OptimisticLockRetryUtil {
+
+  /**
+   * Runs the action again when it fails because the updated rows were changed concurrently.
+   * The action must start a new transaction on every run, so that it reads the current state of the rows.
+   *
+   * @param action      the action to run
+   * @param maxAttempts the maximum number of runs
+   */
+  public static void runWithRetry(Runnable action, int maxAttempts) {
+    for (var attempt = 1; ; attempt++) {
+      try {
+        action.run();
+        return;
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt >= maxAttempts) {
+          throw e;
+        }
+        log.warn("runWithRetry:: concurrent update, attempt {} of {}: {}", attempt, maxAttempts, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+-- Archive of finished jobs, has the columns of job in the same order so rows are moved with SELECT *
+CREATE TABLE IF NOT EXISTS job_archive (LIKE job INCLUDING DEFAULTS);
+ALTER TABLE job_archive ADD CONSTRAINT pk_job_archive PRIMARY KEY (id);
+-- compress rows above 128 bytes instead of the default 2 kB, archived rows are rarely read
+ALTER TABLE job_archive SET (toast_tuple_target = 128);
+
+DO $$
+BEGIN
+  ALTER TABLE job_archive
+    ALTER COLUMN export_type_specific_parameters SET COMPRESSION lz4,
+    ALTER COLUMN files SET COMPRESSION lz4,
+    ALTER COLUMN file_names SET COMPRESSION lz4,
+    ALTER COLUMN exit_status SET COMPRESSION lz4,
+    ALTER COLUMN progress SET COMPRESSION lz4;
+EXCEPTION WHEN OTHERS THEN
+  RAISE NOTICE 'lz4 compression is not available, job_archive uses the default compression: %', SQLERRM;
+END
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_job_archive_type_updated_date_id ON job_archive (type, updated_date, id);
+CREATE INDEX IF NOT EXISTS idx_job_archive_created_date_id ON job_archive (created_date DESC, id DESC);
+
+CREATE OR REPLACE VIEW job_with_archive AS SELECT * FROM job UNION ALL SELECT * FROM job_archive;
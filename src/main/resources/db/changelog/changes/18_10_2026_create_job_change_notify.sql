@@ -0,0 +1,25 @@
+-- Publishes status and progress changes of jobs on the data_export_spring_job_changes channel, so every instance
+-- of the module can push them to its subscribers whichever instance or write path changed the job
+CREATE OR REPLACE FUNCTION job_notify_change() RETURNS trigger AS $$
+BEGIN
+  PERFORM pg_notify('data_export_spring_job_changes', json_build_object(
+    'schema', TG_TABLE_SCHEMA,
+    'id', NEW.id,
+    'type', NEW.type,
+    'status', NEW.status,
+    'batchStatus', NEW.batch_status,
+    'progress', NEW.progress,
+    'updatedDate', NEW.updated_date)::text);
+  RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS job_notify_insert ON job;
+DROP TRIGGER IF EXISTS job_notify_update ON job;
+
+CREATE TRIGGER job_notify_insert AFTER INSERT ON job
+  FOR EACH ROW EXECUTE FUNCTION job_notify_change();
+CREATE TRIGGER job_notify_update AFTER UPDATE ON job
+  FOR EACH ROW WHEN (OLD.status IS DISTINCT FROM NEW.status OR OLD.batch_status IS DISTINCT FROM NEW.batch_status
+    OR OLD.progress IS DISTINCT FROM NEW.progress)
+  EXECUTE FUNCTION job_notify_change();
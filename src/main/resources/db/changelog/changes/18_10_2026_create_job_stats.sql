@@ -0,0 +1,58 @@
+-- Number of jobs by type, status and day of creation, maintained by statement triggers of job and job_archive,
+-- so every write path, including bulk deletes and archiving, keeps the counts up to date
+CREATE TABLE IF NOT EXISTS job_stats (
+  type VARCHAR(128) NOT NULL,
+  status VARCHAR(128) NOT NULL,
+  day DATE NOT NULL,
+  job_count BIGINT NOT NULL,
+  CONSTRAINT pk_job_stats PRIMARY KEY (type, status, day)
+);
+
+-- a null status is counted as the column default
+CREATE OR REPLACE FUNCTION job_stats_apply() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    INSERT INTO job_stats AS s (type, status, day, job_count)
+    SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, count(*) FROM new_jobs GROUP BY 1, 2, 3
+    ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count;
+  ELSIF TG_OP = 'DELETE' THEN
+    INSERT INTO job_stats AS s (type, status, day, job_count)
+    SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, -count(*) FROM old_jobs GROUP BY 1, 2, 3
+    ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count;
+  ELSE
+    -- updates of progress and other fields that keep the counts do not touch job_stats
+    INSERT INTO job_stats AS s (type, status, day, job_count)
+    SELECT type, status, day, sum(delta) FROM (
+      SELECT type, coalesce(status, 'SCHEDULED') AS status, created_date::date AS day, -1 AS delta FROM old_jobs
+      UNION ALL
+      SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, 1 FROM new_jobs
+    ) changes GROUP BY 1, 2, 3 HAVING sum(delta) <> 0
+    ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count;
+  END IF;
+  RETURN NULL;
+END
+$$ LANGUAGE plpgsql SET search_path FROM CURRENT;
+
+DROP TRIGGER IF EXISTS job_stats_insert ON job;
+DROP TRIGGER IF EXISTS job_stats_update ON job;
+DROP TRIGGER IF EXISTS job_stats_delete ON job;
+CREATE TRIGGER job_stats_insert AFTER INSERT ON job REFERENCING NEW TABLE AS new_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_stats_update AFTER UPDATE ON job REFERENCING OLD TABLE AS old_jobs NEW TABLE AS new_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_stats_delete AFTER DELETE ON job REFERENCING OLD TABLE AS old_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+
+DROP TRIGGER IF EXISTS job_archive_stats_insert ON job_archive;
+DROP TRIGGER IF EXISTS job_archive_stats_update ON job_archive;
+DROP TRIGGER IF EXISTS job_archive_stats_delete ON job_archive;
+CREATE TRIGGER job_archive_stats_insert AFTER INSERT ON job_archive REFERENCING NEW TABLE AS new_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_archive_stats_update AFTER UPDATE ON job_archive REFERENCING OLD TABLE AS old_jobs NEW TABLE AS new_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+CREATE TRIGGER job_archive_stats_delete AFTER DELETE ON job_archive REFERENCING OLD TABLE AS old_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_stats_apply();
+
+TRUNCATE job_stats;
+INSERT INTO job_stats (type, status, day, job_count)
+SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, count(*) FROM job_with_archive GROUP BY 1, 2, 3;
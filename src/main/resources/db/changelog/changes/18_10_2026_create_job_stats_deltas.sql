@@ -0,0 +1,39 @@
+-- Upserting the count of a type, status and day locks its row until commit, so every transaction that writes jobs
+-- of the same type on the same day waited for the others. The triggers append count changes to an insert-only table
+-- instead and JobStatsFolder adds them to job_stats on a schedule.
+CREATE TABLE IF NOT EXISTS job_stats_delta (
+  type VARCHAR(128) NOT NULL,
+  status VARCHAR(128) NOT NULL,
+  day DATE NOT NULL,
+  job_count BIGINT NOT NULL
+);
+
+-- a null status is counted as the column default
+CREATE OR REPLACE FUNCTION job_stats_apply() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    INSERT INTO job_stats_delta (type, status, day, job_count)
+    SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, count(*) FROM new_jobs GROUP BY 1, 2, 3;
+  ELSIF TG_OP = 'DELETE' THEN
+    INSERT INTO job_stats_delta (type, status, day, job_count)
+    SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, -count(*) FROM old_jobs GROUP BY 1, 2, 3;
+  ELSE
+    -- updates of progress and other fields that keep the counts do not add changes
+    INSERT INTO job_stats_delta (type, status, day, job_count)
+    SELECT type, status, day, sum(delta) FROM (
+      SELECT type, coalesce(status, 'SCHEDULED') AS status, created_date::date AS day, -1 AS delta FROM old_jobs
+      UNION ALL
+      SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, 1 FROM new_jobs
+    ) changes GROUP BY 1, 2, 3 HAVING sum(delta) <> 0;
+  END IF;
+  RETURN NULL;
+END
+$$ LANGUAGE plpgsql SET search_path FROM CURRENT;
+
+-- counts read by the API, changes that are not folded yet are included
+CREATE OR REPLACE VIEW job_stats_current AS
+  SELECT type, status, day, sum(job_count)::bigint AS job_count FROM (
+    SELECT type, status, day, job_count FROM job_stats
+    UNION ALL
+    SELECT type, status, day, job_count FROM job_stats_delta
+  ) counts GROUP BY type, status, day;
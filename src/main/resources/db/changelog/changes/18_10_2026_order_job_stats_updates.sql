@@ -0,0 +1,28 @@
+-- Statements that change jobs of several types, statuses or days lock the counts in the order of the key, so two
+-- concurrent statements wait for each other instead of locking the same counts in opposite order and deadlocking
+CREATE OR REPLACE FUNCTION job_stats_apply() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    INSERT INTO job_stats AS s (type, status, day, job_count)
+    SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, count(*) FROM new_jobs GROUP BY 1, 2, 3
+    ORDER BY 1, 2, 3
+    ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count;
+  ELSIF TG_OP = 'DELETE' THEN
+    INSERT INTO job_stats AS s (type, status, day, job_count)
+    SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, -count(*) FROM old_jobs GROUP BY 1, 2, 3
+    ORDER BY 1, 2, 3
+    ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count;
+  ELSE
+    -- updates of progress and other fields that keep the counts do not touch job_stats
+    INSERT INTO job_stats AS s (type, status, day, job_count)
+    SELECT type, status, day, sum(delta) FROM (
+      SELECT type, coalesce(status, 'SCHEDULED') AS status, created_date::date AS day, -1 AS delta FROM old_jobs
+      UNION ALL
+      SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, 1 FROM new_jobs
+    ) changes GROUP BY 1, 2, 3 HAVING sum(delta) <> 0
+    ORDER BY 1, 2, 3
+    ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count;
+  END IF;
+  RETURN NULL;
+END
+$$ LANGUAGE plpgsql SET search_path FROM CURRENT;
@@ -0,0 +1,62 @@
+-- Rebuilds job as a table partitioned by month of created_date, partitions are named job_pYYYY_MM.
+-- Indexes, triggers and views of job are read from the catalog and created again for the partitioned table, so the
+-- script does not depend on the changesets that ran before it.
+DO $$
+DECLARE
+  job_table regclass := 'job'::regclass;
+  index_defs text[];
+  trigger_defs text[];
+  view_names text[];
+  view_defs text[];
+  month date;
+BEGIN
+  -- the primary key is replaced by one that contains the partition key
+  SELECT coalesce(array_agg(pg_get_indexdef(i.indexrelid)), '{}') INTO index_defs
+  FROM pg_index i
+  WHERE i.indrelid = job_table AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid);
+
+  SELECT coalesce(array_agg(pg_get_triggerdef(t.oid)), '{}') INTO trigger_defs
+  FROM pg_trigger t
+  WHERE t.tgrelid = job_table AND NOT t.tgisinternal;
+
+  SELECT coalesce(array_agg(v.oid::regclass::text ORDER BY v.oid), '{}'),
+    coalesce(array_agg(pg_get_viewdef(v.oid) ORDER BY v.oid), '{}') INTO view_names, view_defs
+  FROM pg_class v
+  WHERE v.relkind = 'v' AND v.oid IN (
+    SELECT r.ev_class FROM pg_depend d JOIN pg_rewrite r ON r.oid = d.objid
+    WHERE d.classid = 'pg_rewrite'::regclass AND d.refobjid = job_table);
+
+  FOR i IN 1 .. cardinality(view_names) LOOP
+    EXECUTE format('DROP VIEW %s', view_names[i]);
+  END LOOP;
+
+  ALTER TABLE job RENAME TO job_unpartitioned;
+  ALTER TABLE job_unpartitioned RENAME CONSTRAINT pk_job TO pk_job_unpartitioned;
+
+  CREATE TABLE job (LIKE job_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE (created_date);
+  ALTER TABLE job ADD CONSTRAINT pk_job PRIMARY KEY (id, created_date);
+  CREATE TABLE job_default PARTITION OF job DEFAULT;
+
+  month := date_trunc('month', coalesce((SELECT min(created_date) FROM job_unpartitioned), now()));
+  WHILE month <= date_trunc('month', now()) + interval '2 months' LOOP
+    EXECUTE format('CREATE TABLE job_p%s PARTITION OF job FOR VALUES FROM (%L) TO (%L)',
+      to_char(month, 'YYYY_MM'), month, month + interval '1 month');
+    month := month + interval '1 month';
+  END LOOP;
+
+  -- rows are copied before the triggers exist, so they are not counted or notified again
+  INSERT INTO job SELECT * FROM job_unpartitioned;
+  DROP TABLE job_unpartitioned;
+
+  -- the definitions name the table job, which is the partitioned table now
+  FOR i IN 1 .. cardinality(index_defs) LOOP
+    EXECUTE index_defs[i];
+  END LOOP;
+  FOR i IN 1 .. cardinality(trigger_defs) LOOP
+    EXECUTE trigger_defs[i];
+  END LOOP;
+  FOR i IN 1 .. cardinality(view_names) LOOP
+    EXECUTE format('CREATE VIEW %s AS %s', view_names[i], view_defs[i]);
+  END LOOP;
+END
+$$;
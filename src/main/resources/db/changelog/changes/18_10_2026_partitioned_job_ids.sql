@@ -0,0 +1,57 @@
+-- The primary key of the partitioned job table has to contain the partition key, (id, created_date) no longer keeps
+-- ids unique. job_id holds the id of every job, a statement that adds a job with an existing id fails on pk_job_id.
+CREATE TABLE IF NOT EXISTS job_id (
+  id UUID NOT NULL,
+  CONSTRAINT pk_job_id PRIMARY KEY (id)
+);
+
+CREATE OR REPLACE FUNCTION job_id_apply() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    INSERT INTO job_id (id) SELECT id FROM new_jobs ORDER BY id;
+  ELSIF TG_OP = 'DELETE' THEN
+    DELETE FROM job_id WHERE id IN (SELECT id FROM old_jobs);
+  ELSE
+    -- updates that keep the ids do not touch job_id
+    DELETE FROM job_id WHERE id IN (SELECT id FROM old_jobs EXCEPT SELECT id FROM new_jobs);
+    INSERT INTO job_id (id) SELECT id FROM (SELECT id FROM new_jobs EXCEPT SELECT id FROM old_jobs) ids ORDER BY id;
+  END IF;
+  RETURN NULL;
+END
+$$ LANGUAGE plpgsql SET search_path FROM CURRENT;
+
+-- DETACH PARTITION CONCURRENTLY is not allowed while the table has a default partition, JobPartitionManager creates
+-- monthly partitions ahead instead. Jobs of the default partition are moved to monthly partitions.
+DO $$
+DECLARE
+  month date;
+BEGIN
+  IF to_regclass('job_default') IS NOT NULL THEN
+    ALTER TABLE job DETACH PARTITION job_default;
+    FOR month IN SELECT DISTINCT date_trunc('month', created_date) FROM job_default LOOP
+      EXECUTE format('CREATE TABLE IF NOT EXISTS job_p%s PARTITION OF job FOR VALUES FROM (%L) TO (%L)',
+        to_char(month, 'YYYY_MM'), month, month + interval '1 month');
+    END LOOP;
+    INSERT INTO job SELECT * FROM job_default;
+    -- the moved jobs are already counted
+    IF to_regclass('job_stats') IS NOT NULL THEN
+      INSERT INTO job_stats AS s (type, status, day, job_count)
+      SELECT type, coalesce(status, 'SCHEDULED'), created_date::date, -count(*) FROM job_default GROUP BY 1, 2, 3
+      ORDER BY 1, 2, 3 ON CONFLICT (type, status, day) DO UPDATE SET job_count = s.job_count + excluded.job_count;
+    END IF;
+    DROP TABLE job_default;
+  END IF;
+END
+$$;
+
+INSERT INTO job_id (id) SELECT id FROM job ON CONFLICT DO NOTHING;
+
+DROP TRIGGER IF EXISTS job_id_insert ON job;
+DROP TRIGGER IF EXISTS job_id_update ON job;
+DROP TRIGGER IF EXISTS job_id_delete ON job;
+CREATE TRIGGER job_id_insert AFTER INSERT ON job REFERENCING NEW TABLE AS new_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_id_apply();
+CREATE TRIGGER job_id_update AFTER UPDATE ON job REFERENCING OLD TABLE AS old_jobs NEW TABLE AS new_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_id_apply();
+CREATE TRIGGER job_id_delete AFTER DELETE ON job REFERENCING OLD TABLE AS old_jobs
+  FOR EACH STATEMENT EXECUTE FUNCTION job_id_apply();
@@ -413,4 +413,48 @@ class JacksonConfigurationTest {
       });
     }
   }
+
+  // ── JobParameters deserialization ──────────────────────────────────────────
+
+  @Nested
+  @DisplayName("JobParameters deserialization")
+  class JobParametersDeserialization {
+
+    @Test
+    @DisplayName("Round-trips JobParameters of all supported types")
+    void roundTripsJobParameters() throws JsonProcessingException {
+      JobParameters params = new JobParameters(Set.of(
+        new JobParameter<>("name", "report", String.class, true),
+        new JobParameter<>("count", 10L, Long.class, false),
+        new JobParameter<>("rate", 0.5, Double.class, false),
+        new JobParameter<>("runDate", Date.valueOf("2025-01-20"), Date.class, true)
+      ));
+
+      JobParameters result = objectMapper.readValue(objectMapper.writeValueAsString(params), JobParameters.class);
+
+      assertEquals("report", result.getParameter("name").value());
+      assertEquals(10L, result.getParameter("count").value());
+      assertFalse(result.getParameter("count").identifying());
+      assertEquals(0.5, result.getParameter("rate").value());
+      assertEquals(Date.class, result.getParameter("runDate").type());
+      assertEquals(Date.valueOf("2025-01-20"), result.getParameter("runDate").value());
+      assertTrue(result.getParameter("runDate").identifying());
+    }
+
+    @Test
+    @DisplayName("Deserializes empty JobParameters")
+    void deserializesEmptyJobParameters() throws JsonProcessingException {
+      JobParameters result = objectMapper.readValue("{\"parameters\":{}}", JobParameters.class);
+
+      assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Fails on unknown parameter type")
+    void failsOnUnknownParameterType() {
+      String json = "{\"parameters\":{\"key\":{\"type\":\"com.example.Unknown\",\"value\":\"v\",\"identifying\":true}}}";
+
+      assertThrows(JsonProcessingException.class, () -> objectMapper.readValue(json, JobParameters.class));
+    }
+  }
 }
@@ -0,0 +1,147 @@
+package org.folio.des.config.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import org.folio.des.client.DataExportSpringClient;
+import org.folio.des.client.ExportWorkerClient;
+import org.folio.des.domain.dto.Job;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HttpClientRoutesTest {
+
+  private static final String PRESIGNED_URL_PATH = "/refresh-presigned-url?filePath=bursar.dat";
+
+  private WireMockServer okapi;
+  private SimpleMeterRegistry meterRegistry;
+  private ExportWorkerClient exportWorkerClient;
+  private DataExportSpringClient dataExportSpringClient;
+  private HttpClientRoutes routes;
+
+  @BeforeAll
+  void startOkapi() {
+    okapi = new WireMockServer(wireMockConfig().dynamicPort());
+    okapi.start();
+  }
+
+  @AfterAll
+  void stopOkapi() {
+    okapi.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    okapi.resetAll();
+    var exportWorker = new HttpClientProperties.Client();
+    exportWorker.setPathPrefix("refresh-presigned-url");
+    exportWorker.setReadTimeoutMs(500);
+    exportWorker.setMaxConcurrent(1);
+    exportWorker.setAcquireTimeoutMs(50);
+    exportWorker.setMaxAttempts(3);
+    exportWorker.setRetryBackoffMs(10);
+    var dataExportSpring = new HttpClientProperties.Client();
+    dataExportSpring.setPathPrefix("data-export-spring");
+    dataExportSpring.setMaxAttempts(3);
+    var properties = new HttpClientProperties();
+    properties.getClients().put("export-worker", exportWorker);
+    properties.getClients().put("data-export-spring", dataExportSpring);
+
+    routes = new HttpClientRoutes(properties);
+    var restClient = RestClient.builder()
+      .baseUrl(okapi.baseUrl())
+      .requestFactory(routes)
+      .requestInterceptor(new HttpClientPolicyInterceptor(routes))
+      .build();
+    var factory = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build();
+    meterRegistry = new SimpleMeterRegistry();
+    exportWorkerClient = MeteredHttpServiceClient.wrap(ExportWorkerClient.class,
+      factory.createClient(ExportWorkerClient.class), "export-worker", meterRegistry);
+    dataExportSpringClient = MeteredHttpServiceClient.wrap(DataExportSpringClient.class,
+      factory.createClient(DataExportSpringClient.class), "data-export-spring", meterRegistry);
+  }
+
+  @Test
+  void shouldResolveRouteByPathPrefix() {
+    assertEquals("export-worker", routes.resolve(URI.create("http://okapi:9130/refresh-presigned-url")).name());
+    assertEquals("data-export-spring", routes.resolve(URI.create("http://okapi/data-export-spring/jobs")).name());
+    assertEquals("default", routes.resolve(URI.create("http://okapi/data-export-spring-x/jobs")).name());
+    assertEquals("default", routes.resolve(URI.create("http://okapi/configurations/entries")).name());
+  }
+
+  @Test
+  void shouldRetryIdempotentRequestOnServiceUnavailable() {
+    okapi.stubFor(get(urlEqualTo(PRESIGNED_URL_PATH)).inScenario("retry").whenScenarioStateIs(STARTED)
+      .willReturn(aResponse().withStatus(503)).willSetStateTo("available"));
+    okapi.stubFor(get(urlEqualTo(PRESIGNED_URL_PATH)).inScenario("retry").whenScenarioStateIs("available")
+      .willReturn(okJson("{\"url\":\"https://storage/bursar.dat\"}")));
+
+    var presignedUrl = exportWorkerClient.getRefreshedPresignedUrl("bursar.dat");
+
+    assertEquals("https://storage/bursar.dat", presignedUrl.getUrl());
+    okapi.verify(2, getRequestedFor(urlEqualTo(PRESIGNED_URL_PATH)));
+    assertEquals(1, meterRegistry.get(MeteredHttpServiceClient.TIMER_NAME).tag("client", "export-worker")
+      .tag("method", "getRefreshedPresignedUrl").tag("outcome", "SUCCESS").timer().count());
+  }
+
+  @Test
+  void shouldNotRetryNonIdempotentRequest() {
+    okapi.stubFor(post(urlPathEqualTo("/data-export-spring/jobs/send")).willReturn(aResponse().withStatus(503)));
+
+    var job = new Job();
+    assertThrows(HttpServerErrorException.class, () -> dataExportSpringClient.sendJob(job));
+
+    okapi.verify(1, postRequestedFor(urlPathEqualTo("/data-export-spring/jobs/send")));
+    assertEquals(1, meterRegistry.get(MeteredHttpServiceClient.TIMER_NAME).tag("client", "data-export-spring")
+      .tag("method", "sendJob").tag("outcome", "ERROR").timer().count());
+  }
+
+  @Test
+  void shouldFailRequestOnReadTimeoutOfClient() {
+    okapi.stubFor(get(urlEqualTo(PRESIGNED_URL_PATH))
+      .willReturn(okJson("{\"url\":\"https://storage/bursar.dat\"}").withFixedDelay(2000)));
+
+    assertThrows(ResourceAccessException.class, () -> exportWorkerClient.getRefreshedPresignedUrl("bursar.dat"));
+
+    okapi.verify(3, getRequestedFor(urlEqualTo(PRESIGNED_URL_PATH)));
+  }
+
+  @Test
+  void shouldRejectRequestOverConcurrencyLimitOfClient() {
+    okapi.stubFor(get(urlEqualTo(PRESIGNED_URL_PATH))
+      .willReturn(okJson("{\"url\":\"https://storage/bursar.dat\"}").withFixedDelay(300)));
+
+    var slowRequest = CompletableFuture.supplyAsync(() -> exportWorkerClient.getRefreshedPresignedUrl("bursar.dat"));
+    okapi.stubFor(post(urlPathEqualTo("/data-export-spring/jobs/send")).willReturn(aResponse().withStatus(204)));
+    await().until(() -> !okapi.getAllServeEvents().isEmpty());
+
+    assertThrows(ResourceAccessException.class, () -> exportWorkerClient.getRefreshedPresignedUrl("bursar.dat"));
+    // other clients are not affected by the limit
+    dataExportSpringClient.sendJob(new Job());
+    assertEquals("https://storage/bursar.dat", slowRequest.join().getUrl());
+  }
+}
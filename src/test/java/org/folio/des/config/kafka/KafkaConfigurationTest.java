@@ -0,0 +1,80 @@
+package org.folio.des.config.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaConfigurationTest {
+
+  @Mock
+  private ConsumerFactory<String, Object> consumerFactory;
+
+  private KafkaProperties kafkaProperties;
+  private KafkaConfiguration kafkaConfiguration;
+
+  @BeforeEach
+  void setUp() {
+    kafkaProperties = new KafkaProperties();
+    kafkaConfiguration = new KafkaConfiguration(kafkaProperties);
+    ReflectionTestUtils.setField(kafkaConfiguration, "batchListener", true);
+    ReflectionTestUtils.setField(kafkaConfiguration, "retryIntervalMs", 10L);
+    ReflectionTestUtils.setField(kafkaConfiguration, "retryAttempts", 2L);
+  }
+
+  @Test
+  void shouldUseListenerConcurrencyFromSpringKafkaProperties() {
+    kafkaProperties.getListener().setConcurrency(4);
+
+    var factory = kafkaConfiguration.kafkaListenerContainerFactory(consumerFactory);
+    var container = factory.createContainer("folio.diku.data-export.job.update");
+
+    assertEquals(4, container.getConcurrency());
+    assertTrue(factory.isBatchListener());
+    assertInstanceOf(DefaultErrorHandler.class, ReflectionTestUtils.getField(factory, "commonErrorHandler"));
+  }
+
+  @Test
+  void shouldKeepDefaultConcurrencyWithoutSpringKafkaProperty() {
+    var factory = kafkaConfiguration.kafkaListenerContainerFactory(consumerFactory);
+
+    assertEquals(1, factory.createContainer("folio.diku.data-export.job.update").getConcurrency());
+  }
+
+  @Test
+  void shouldRunListenersOnVirtualThreadsWhenEnabled() throws Exception {
+    ReflectionTestUtils.setField(kafkaConfiguration, "virtualThreads", true);
+
+    var factory = kafkaConfiguration.kafkaListenerContainerFactory(consumerFactory);
+    var executor = factory.getContainerProperties().getListenerTaskExecutor();
+
+    assertTrue(runsOnVirtualThread(executor));
+  }
+
+  @Test
+  void shouldUseDefaultListenerExecutorWhenVirtualThreadsAreDisabled() {
+    var factory = kafkaConfiguration.kafkaListenerContainerFactory(consumerFactory);
+
+    assertNull(factory.getContainerProperties().getListenerTaskExecutor());
+  }
+
+  private static boolean runsOnVirtualThread(AsyncTaskExecutor executor) throws Exception {
+    var virtual = new CompletableFuture<Boolean>();
+    executor.execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+    return virtual.get(5, TimeUnit.SECONDS);
+  }
+}
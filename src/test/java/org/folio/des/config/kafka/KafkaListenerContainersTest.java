@@ -0,0 +1,42 @@
+package org.folio.des.config.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.des.support.BaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+  "spring.kafka.listener.concurrency=3",
+  "application.kafka.listener.job-updates.concurrency=4",
+  "application.kafka.listener.virtual-threads-enabled=true"
+})
+class KafkaListenerContainersTest extends BaseTest {
+
+  @Autowired
+  private KafkaListenerEndpointRegistry registry;
+  @Autowired
+  private ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory;
+
+  @Test
+  void shouldConfigureFactoryFromSpringKafkaListenerProperties() {
+    var container = kafkaListenerContainerFactory.createContainer("folio.diku.data-export.job.update");
+
+    assertThat(container.getConcurrency()).isEqualTo(3);
+    assertThat(kafkaListenerContainerFactory.getContainerProperties().getListenerTaskExecutor()).isNotNull();
+  }
+
+  @Test
+  void shouldRunJobUpdatesListenerWithItsOwnConcurrencyOnVirtualThreads() {
+    var container = (ConcurrentMessageListenerContainer<?, ?>) registry.getListenerContainer(
+      KafkaService.EVENT_LISTENER_ID);
+
+    assertThat(container.getConcurrency()).isEqualTo(4);
+    assertThat(container.getContainerProperties().getListenerTaskExecutor())
+      .isSameAs(kafkaListenerContainerFactory.getContainerProperties().getListenerTaskExecutor());
+  }
+}
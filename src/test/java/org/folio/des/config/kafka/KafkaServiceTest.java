@@ -0,0 +1,91 @@
+package org.folio.des.config.kafka;
+
+import static org.folio.des.support.BaseTest.TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.folio.de.entity.JobCommand;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaServiceTest {
+
+  private static final String TOPIC = "folio." + TENANT + "." + KafkaService.Topic.JOB_COMMAND.getTopicName();
+
+  @Mock
+  private KafkaTemplate<String, Object> kafkaTemplate;
+  @Mock
+  private FolioExecutionContext context;
+  @Mock
+  private Environment springEnvironment;
+
+  private SimpleMeterRegistry meterRegistry;
+  private KafkaService kafkaService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    kafkaService = new KafkaService(null, kafkaTemplate, null, null, context, springEnvironment, meterRegistry);
+    ReflectionTestUtils.setField(kafkaService, "environment", "folio");
+  }
+
+  @Test
+  void shouldRecordLatencyAndPayloadSizeOfSentMessage() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    var metadata = new RecordMetadata(new TopicPartition(TOPIC, 0), 0, 0, 0L, 36, 512);
+    var sendResult = new SendResult<String, Object>(new ProducerRecord<>(TOPIC, "key", "data"), metadata);
+    when(kafkaTemplate.send(TOPIC, "key", "data")).thenReturn(CompletableFuture.completedFuture(sendResult));
+
+    var result = kafkaService.send(KafkaService.Topic.JOB_COMMAND, "key", "data");
+
+    assertEquals(sendResult, result.join());
+    assertEquals(1, meterRegistry.get("kafka.producer.send").tag("outcome", "success").timer().count());
+    assertEquals(512, meterRegistry.get("kafka.producer.payload.size").summary().totalAmount());
+  }
+
+  @Test
+  void shouldRecordFailedSend() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    when(kafkaTemplate.send(eq(TOPIC), anyString(), any()))
+      .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Broker is not available")));
+
+    var result = kafkaService.send(KafkaService.Topic.JOB_COMMAND, "key", "data");
+
+    assertTrue(result.isCompletedExceptionally());
+    assertEquals(1, meterRegistry.get("kafka.producer.send").tag("outcome", "failure").timer().count());
+    assertNull(meterRegistry.find("kafka.producer.payload.size").summary());
+  }
+
+  @Test
+  void shouldSummarizeJobCommand() {
+    var jobCommand = new JobCommand();
+    jobCommand.setId(UUID.randomUUID());
+    jobCommand.setType(JobCommand.Type.START);
+    jobCommand.setExportType(ExportType.BURSAR_FEES_FINES);
+
+    assertEquals("JobCommand[type=START, id=" + jobCommand.getId() + ", exportType=BURSAR_FEES_FINES]",
+      KafkaService.summary(jobCommand));
+    assertEquals("String", KafkaService.summary("data"));
+  }
+}
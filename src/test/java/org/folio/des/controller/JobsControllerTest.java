@@ -1,5 +1,7 @@
 package org.folio.des.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
@@ -8,7 +10,9 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -16,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.time.LocalDate;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.folio.des.client.ExportWorkerClient;
 import org.folio.des.config.JacksonConfiguration;
@@ -33,8 +38,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
@@ -47,6 +54,8 @@ class JobsControllerTest extends BaseTest {
 
   @MockitoBean
   ExportWorkerClient exportWorkerClient;
+  @Autowired
+  JdbcTemplate jdbcTemplate;
   private static final String JOB_BURSAR_REQUEST =
     """
       {
@@ -101,6 +110,74 @@ class JobsControllerTest extends BaseTest {
           jsonPath("$.jobRecords", hasSize(3)));
   }
 
+  @Test
+  @DisplayName("Find jobs in summary view without jsonb fields")
+  void getJobsSummary() throws Exception {
+    mockMvc
+      .perform(
+        get("/data-export-spring/jobs?limit=3&view=summary&query=(cql.allRecords=1)sortby name/sort.descending")
+          .contentType(MediaType.APPLICATION_JSON_VALUE)
+          .headers(defaultHeaders()))
+      .andExpectAll(
+          status().isOk(),
+          content().contentType(MediaType.APPLICATION_JSON_VALUE),
+          jsonPath("$.totalRecords", is(8)),
+          jsonPath("$.jobRecords", hasSize(3)),
+          jsonPath("$.jobRecords[0].id").exists(),
+          jsonPath("$.jobRecords[0].metadata.createdDate").exists(),
+          jsonPath("$.jobRecords[0].exportTypeSpecificParameters").doesNotExist(),
+          jsonPath("$.jobRecords[0].progress").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("Walk all jobs with keyset pagination")
+  void getJobsWithCursor() throws Exception {
+    var firstPage = mockMvc
+      .perform(
+        get("/data-export-spring/jobs?limit=3&cursor=")
+          .contentType(MediaType.APPLICATION_JSON_VALUE)
+          .headers(defaultHeaders()))
+      .andExpectAll(
+          status().isOk(),
+          jsonPath("$.totalRecords", is(8)),
+          jsonPath("$.jobRecords", hasSize(3)),
+          header().exists(JobsController.NEXT_CURSOR_HEADER))
+      .andReturn();
+
+    var secondPage = mockMvc
+      .perform(
+        get("/data-export-spring/jobs?limit=3&cursor=" + firstPage.getResponse().getHeader(JobsController.NEXT_CURSOR_HEADER))
+          .contentType(MediaType.APPLICATION_JSON_VALUE)
+          .headers(defaultHeaders()))
+      .andExpectAll(
+          status().isOk(),
+          jsonPath("$.totalRecords").doesNotExist(),
+          jsonPath("$.jobRecords", hasSize(3)),
+          header().exists(JobsController.NEXT_CURSOR_HEADER))
+      .andReturn();
+
+    mockMvc
+      .perform(
+        get("/data-export-spring/jobs?limit=3&cursor=" + secondPage.getResponse().getHeader(JobsController.NEXT_CURSOR_HEADER))
+          .contentType(MediaType.APPLICATION_JSON_VALUE)
+          .headers(defaultHeaders()))
+      .andExpectAll(
+          status().isOk(),
+          jsonPath("$.jobRecords", hasSize(2)),
+          header().doesNotExist(JobsController.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  @DisplayName("Invalid cursor should be 400")
+  void getJobsWithInvalidCursor() throws Exception {
+    mockMvc
+      .perform(
+        get("/data-export-spring/jobs?limit=3&cursor=invalid")
+          .contentType(MediaType.APPLICATION_JSON_VALUE)
+          .headers(defaultHeaders()))
+      .andExpect(status().isBadRequest());
+  }
+
   @Test
   @DisplayName("No jobs found cause invalid query")
   void notFoundJobs() throws Exception {
@@ -187,6 +264,46 @@ class JobsControllerTest extends BaseTest {
               jsonPath("$.errors[0].message", startsWith("PathElementException")));
   }
 
+  @Test
+  @DisplayName("Count jobs by type, status and day")
+  void getJobStats() throws Exception {
+    mockMvc
+      .perform(
+        get("/data-export-spring/jobs/stats?type=EDIFACT_ORDERS_EXPORT&from=2021-03-16&to=2021-03-17")
+          .contentType(MediaType.APPLICATION_JSON_VALUE)
+          .headers(defaultHeaders()))
+      .andExpectAll(
+          status().isOk(),
+          content().contentType(MediaType.APPLICATION_JSON_VALUE),
+          jsonPath("$.totalRecords", is(2)),
+          jsonPath("$.jobStats[0].status", is("SCHEDULED")),
+          jsonPath("$.jobStats[0].date", is("2021-03-17")),
+          jsonPath("$.jobStats[0].count", is(1)),
+          jsonPath("$.jobStats[1].status", is("SUCCESSFUL")),
+          jsonPath("$.jobStats[1].date", is("2021-03-16")),
+          jsonPath("$.jobStats[1].count", is(2)));
+  }
+
+  @Test
+  @DisplayName("Stream status changes of a job until it finishes")
+  void getJobEvents() throws Exception {
+    var result = mockMvc
+      .perform(
+        get("/data-export-spring/jobs/events?jobId=9c13fd5a-4ab7-4563-a294-e6354ba74e95")
+          .accept(MediaType.TEXT_EVENT_STREAM)
+          .headers(defaultHeaders()))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    jdbcTemplate.update("UPDATE diku_mod_data_export_spring.job SET status = 'SUCCESSFUL', batch_status = 'COMPLETED' "
+      + "WHERE id = '9c13fd5a-4ab7-4563-a294-e6354ba74e95'");
+
+    await().timeout(10, TimeUnit.SECONDS).untilAsserted(() -> assertThat(result.getResponse().getContentAsString())
+      .contains("event:job")
+      .contains("\"status\":\"SCHEDULED\"")
+      .contains("\"status\":\"SUCCESSFUL\",\"batchStatus\":\"COMPLETED\""));
+  }
+
   @Test
   @DisplayName("Fetch job by id")
   void getJob() throws Exception {
@@ -365,7 +482,8 @@ class JobsControllerTest extends BaseTest {
   @CsvSource({
     "jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.exportConfigId==\"f18d8154-a02f-4414-9c52-c4f9083f1c32\"",
     "jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.ediFtp.ftpConnMode==\"Active\"",
-    "status==\"SCHEDULED\" and type==\"EDIFACT_ORDERS_EXPORT\" and jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.exportConfigId==\"f18d8154-a02f-4414-9c52-c4f9083f1c32\" and jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.vendorId==\"11fb627a-cdf1-11e8-a8d5-f2801f1b9fd1\""
+    "status==\"SCHEDULED\" and type==\"EDIFACT_ORDERS_EXPORT\" and jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.exportConfigId==\"f18d8154-a02f-4414-9c52-c4f9083f1c32\" and jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.vendorId==\"11fb627a-cdf1-11e8-a8d5-f2801f1b9fd1\"",
+    "type==\"EDIFACT_ORDERS_EXPORT\" and status==\"SCHEDULED\" and jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.exportConfigId==\"f18d8154-a02f-4414-9c52-c4f9083f1c32\" sortBy updatedDate/sort.descending"
   })
   void findJobsByJSONBQuery(String query) throws Exception {
     mockMvc
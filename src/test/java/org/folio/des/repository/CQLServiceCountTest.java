@@ -0,0 +1,120 @@
+package org.folio.des.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.UUID;
+import lombok.SneakyThrows;
+import org.folio.cql2pgjson.exception.QueryValidationException;
+import org.folio.de.entity.Job;
+import org.folio.des.repository.CQLService.CountMode;
+import org.folio.des.repository.criteria.CQL2JPACriteria;
+import org.folio.des.support.BaseTest;
+import org.folio.des.support.QueryPlans;
+import org.folio.des.support.RecordingStatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+  "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "org.folio.des.support.RecordingStatementInspector"
+})
+class CQLServiceCountTest extends BaseTest {
+
+  private static final String SCHEMA = "diku_mod_data_export_spring";
+  private static final String JOB_NAME = "count-test";
+  private static final String SUCCESSFUL_JOBS = "name==" + JOB_NAME + " and status==SUCCESSFUL";
+  private static final UUID FAILED_JOB_ID = UUID.fromString("3c0f5e2a-8d4b-4f6e-9a1c-2b7d6e5f4a3b");
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private CQLService cqlService;
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeAll
+  void insertJobs() {
+    jdbcTemplate.update("INSERT INTO " + SCHEMA + ".job (id, name, type, status, created_date, updated_date) "
+      + "SELECT gen_random_uuid(), ?, 'BURSAR_FEES_FINES', 'SUCCESSFUL', now(), now() FROM generate_series(1, 5)",
+      JOB_NAME);
+    jdbcTemplate.update("INSERT INTO " + SCHEMA + ".job (id, name, type, status, created_date, updated_date) "
+      + "VALUES (?, ?, 'BURSAR_FEES_FINES', 'FAILED', now(), now())", FAILED_JOB_ID, JOB_NAME);
+    jdbcTemplate.execute("ANALYZE " + SCHEMA + ".job");
+  }
+
+  @AfterAll
+  void deleteJobs() {
+    jdbcTemplate.update("DELETE FROM " + SCHEMA + ".job WHERE name = ?", JOB_NAME);
+  }
+
+  @BeforeEach
+  void clearStatements() {
+    RecordingStatementInspector.clear();
+  }
+
+  @Test
+  void shouldCountAllMatchingRowsInExactMode() {
+    var count = inTenant(() -> cqlService.countByCQL(Job.class, "job", SUCCESSFUL_JOBS, CountMode.EXACT, 2));
+
+    assertThat(count).isEqualTo(5);
+  }
+
+  @Test
+  void shouldStopCountingAtLimitInCappedMode() {
+    var count = inTenant(() -> cqlService.countByCQL(Job.class, "job", SUCCESSFUL_JOBS, CountMode.CAPPED, 2));
+
+    assertThat(count).isEqualTo(2);
+    assertThat(QueryPlans.lastSelect()).containsIgnoringCase("count(").containsIgnoringCase("limit");
+  }
+
+  @Test
+  void shouldCountFewerRowsThanLimitInCappedMode() {
+    var count = inTenant(() -> cqlService.countByCQL(Job.class, "job", SUCCESSFUL_JOBS, CountMode.CAPPED, 100));
+
+    assertThat(count).isEqualTo(5);
+  }
+
+  @Test
+  void shouldEstimateAllRecordsFromTableStatistics() {
+    var estimate = jdbcTemplate.queryForObject(
+      "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, SCHEMA + ".job");
+
+    var count = inTenant(() -> cqlService.countByCQL(Job.class, "job", CQLService.ALL_RECORDS_QUERY,
+      CountMode.ESTIMATED, 2));
+
+    assertThat(estimate).isGreaterThanOrEqualTo(6);
+    assertThat(count.longValue()).isEqualTo(estimate);
+  }
+
+  @Test
+  void shouldFallBackToCappedCountForFilteredQueryInEstimatedMode() {
+    var count = inTenant(() -> cqlService.countByCQL(Job.class, "job", SUCCESSFUL_JOBS, CountMode.ESTIMATED, 2));
+
+    assertThat(count).isEqualTo(2);
+  }
+
+  @Test
+  void shouldBuildCountCriteriaWithoutSort() {
+    var count = inTenant(() -> query(criteria -> entityManager.createQuery(
+      criteria.toCountCriteria(SUCCESSFUL_JOBS + " sortBy createdDate/sort.descending")).getSingleResult()));
+
+    assertThat(count).isEqualTo(5L);
+    assertThat(QueryPlans.lastSelect()).containsIgnoringCase("count(").doesNotContainIgnoringCase("order by");
+  }
+
+  @SneakyThrows
+  private <T> T query(CriteriaAction<T> action) {
+    return action.run(new CQL2JPACriteria<>(Job.class, entityManager));
+  }
+
+  @FunctionalInterface
+  private interface CriteriaAction<T> {
+    T run(CQL2JPACriteria<Job> criteria) throws QueryValidationException;
+  }
+}
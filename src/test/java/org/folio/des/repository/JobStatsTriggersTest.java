@@ -0,0 +1,184 @@
+package org.folio.des.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.service.ExpiredJobsDeleter;
+import org.folio.des.service.JobStatsFolder;
+import org.folio.des.support.BaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Job counts kept by the triggers of job and job_archive and folded by {@link JobStatsFolder}, dropping a partition is
+ * covered by {@link org.folio.des.service.JobPartitionManagerTest}. Jobs are created in 2000, so retention and
+ * archiving in the tests do not touch jobs of other tests.
+ */
+@TestPropertySource(properties = "job.deletion.chunkSize=2")
+class JobStatsTriggersTest extends BaseTest {
+
+  private static final String SCHEMA = "diku_mod_data_export_spring";
+  private static final String JOB_NAME = "stats-test";
+  private static final String TYPE = "BURSAR_FEES_FINES";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private JobArchiveRepository archiveRepository;
+  @Autowired
+  private ExpiredJobsDeleter expiredJobsDeleter;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private JobStatsFolder statsFolder;
+  @Autowired
+  private DataSource dataSource;
+
+  @AfterEach
+  void deleteJobs() {
+    jdbcTemplate.update("DELETE FROM " + SCHEMA + ".job WHERE name = ?", JOB_NAME);
+    jdbcTemplate.update("DELETE FROM " + SCHEMA + ".job_archive WHERE name = ?", JOB_NAME);
+  }
+
+  @Test
+  void shouldCountInsertedJobsWithNullStatusAsScheduled() {
+    var day = LocalDate.of(2000, 1, 3);
+    insertJobs(day, "SCHEDULED", 2);
+    insertJobs(day, null, 1);
+
+    assertThat(count("SCHEDULED", day)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldMoveCountsOnStatusTransitions() {
+    var day = LocalDate.of(2000, 1, 4);
+    var ids = insertJobs(day, "SCHEDULED", 3);
+
+    jdbcTemplate.update("UPDATE " + SCHEMA + ".job SET status = 'IN_PROGRESS' WHERE id IN (?, ?)", ids.get(0), ids.get(1));
+    jdbcTemplate.update("UPDATE " + SCHEMA + ".job SET status = 'SUCCESSFUL' WHERE id = ?", ids.get(0));
+
+    assertThat(count("SCHEDULED", day)).isEqualTo(1);
+    assertThat(count("IN_PROGRESS", day)).isEqualTo(1);
+    assertThat(count("SUCCESSFUL", day)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepCountsOnUpdatesOfOtherFields() {
+    var day = LocalDate.of(2000, 1, 5);
+    insertJobs(day, "IN_PROGRESS", 2);
+
+    jdbcTemplate.update("UPDATE " + SCHEMA + ".job SET progress = '{\"processed\": 10}'::jsonb WHERE name = ?",
+      JOB_NAME);
+
+    assertThat(count("IN_PROGRESS", day)).isEqualTo(2);
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + ".job_stats_delta WHERE day = ? "
+      + "AND job_count = 0", Integer.class, day)).isZero();
+  }
+
+  @Test
+  void shouldSubtractJobsDeletedInChunks() {
+    var day = LocalDate.of(2000, 1, 6);
+    insertJobs(day, "SUCCESSFUL", 5);
+
+    var deleted = inTenant(() -> expiredJobsDeleter.delete(ExportType.BURSAR_FEES_FINES, date(day.plusDays(1))));
+
+    assertThat(deleted).isEqualTo(5);
+    assertThat(count("SUCCESSFUL", day)).isZero();
+  }
+
+  @Test
+  void shouldKeepCountsWhenJobsMoveToArchive() {
+    var day = LocalDate.of(2000, 1, 7);
+    insertJobs(day, "SUCCESSFUL", 3);
+    insertJobs(day, "FAILED", 1);
+
+    var archived = inTenant(() -> transactionTemplate.execute(status ->
+      archiveRepository.archive(List.of("SUCCESSFUL", "FAILED"), date(day.plusDays(1)), 10)));
+
+    assertThat(archived).isEqualTo(4);
+    assertThat(count("SUCCESSFUL", day)).isEqualTo(3);
+    assertThat(count("FAILED", day)).isEqualTo(1);
+
+    jdbcTemplate.update("DELETE FROM " + SCHEMA + ".job_archive WHERE name = ? AND status = 'FAILED'", JOB_NAME);
+
+    assertThat(count("FAILED", day)).isZero();
+  }
+
+  @Test
+  void shouldFoldCountChangesIntoCounts() {
+    var day = LocalDate.of(2000, 1, 8);
+    var ids = insertJobs(day, "SCHEDULED", 2);
+    jdbcTemplate.update("UPDATE " + SCHEMA + ".job SET status = 'SUCCESSFUL' WHERE id = ?", ids.get(0));
+
+    statsFolder.fold();
+
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + ".job_stats_delta WHERE day = ?",
+      Integer.class, day)).isZero();
+    assertThat(foldedCount("SCHEDULED", day)).isEqualTo(1);
+    assertThat(foldedCount("SUCCESSFUL", day)).isEqualTo(1);
+    assertThat(count("SCHEDULED", day)).isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotWaitForConcurrentTransactionCountingSameDay() {
+    var day = LocalDate.of(2000, 1, 9);
+    try (var first = dataSource.getConnection(); var second = dataSource.getConnection()) {
+      first.setAutoCommit(false);
+      second.setAutoCommit(false);
+      insertJob(first, day);
+      // waiting for the lock of the first transaction fails instead of blocking the test
+      try (var statement = second.createStatement()) {
+        statement.execute("SET LOCAL lock_timeout = '1s'");
+      }
+      insertJob(second, day);
+      first.commit();
+      second.commit();
+    }
+
+    assertThat(count("SCHEDULED", day)).isEqualTo(2);
+  }
+
+  @SneakyThrows
+  private void insertJob(Connection connection, LocalDate day) {
+    try (var statement = connection.prepareStatement("INSERT INTO " + SCHEMA + ".job "
+      + "(id, name, type, status, created_date, updated_date) VALUES (gen_random_uuid(), ?, ?, 'SCHEDULED', ?, ?)")) {
+      statement.setString(1, JOB_NAME);
+      statement.setString(2, TYPE);
+      statement.setObject(3, day.atStartOfDay());
+      statement.setObject(4, day.atStartOfDay());
+      statement.executeUpdate();
+    }
+  }
+
+  private List<UUID> insertJobs(LocalDate day, String status, int count) {
+    return jdbcTemplate.queryForList("INSERT INTO " + SCHEMA + ".job (id, name, type, status, created_date, updated_date) "
+      + "SELECT gen_random_uuid(), ?, ?, ?::varchar, ?::timestamp, ?::timestamp FROM generate_series(1, ?) RETURNING id",
+      UUID.class, JOB_NAME, TYPE, status, day, day, count);
+  }
+
+  private long count(String status, LocalDate day) {
+    return jdbcTemplate.queryForObject("SELECT coalesce(sum(job_count), 0) FROM " + SCHEMA + ".job_stats_current "
+      + "WHERE type = ? AND status = ? AND day = ?", Long.class, TYPE, status, day);
+  }
+
+  private long foldedCount(String status, LocalDate day) {
+    return jdbcTemplate.queryForObject("SELECT coalesce(sum(job_count), 0) FROM " + SCHEMA + ".job_stats "
+      + "WHERE type = ? AND status = ? AND day = ?", Long.class, TYPE, status, day);
+  }
+
+  private static Date date(LocalDate day) {
+    return java.sql.Date.valueOf(day);
+  }
+}
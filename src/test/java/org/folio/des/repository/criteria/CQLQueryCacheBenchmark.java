@@ -0,0 +1,62 @@
+package org.folio.des.repository.criteria;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLParser;
+
+/**
+ * Compares parsing of the job list queries sent by the UI with and without {@link CQLQueryCache}.
+ * Run with the {@link #main} method from the test classpath, it is not a part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CQLQueryCacheBenchmark {
+
+  @Param({
+    "(cql.allRecords=1)sortby metadata.updatedDate/sort.descending",
+    "(type==(\"BURSAR_FEES_FINES\" or \"CIRCULATION_LOG\") and status==(\"SUCCESSFUL\" or \"FAILED\")"
+      + " and metadata.createdDate>=\"2021-03-01T00:00:00.000\") sortby name/sort.ascending"
+  })
+  private String query;
+
+  private CQLQueryCache queryCache;
+
+  @Setup
+  public void setUp() throws Exception {
+    queryCache = new CQLQueryCache(1000, new SimpleMeterRegistry());
+    queryCache.parse(query);
+  }
+
+  @Benchmark
+  public CQLNode cold() throws Exception {
+    return new CQLParser().parse(query);
+  }
+
+  @Benchmark
+  public CQLNode cached() throws Exception {
+    return queryCache.parse(query).node();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CQLQueryCacheBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,103 @@
+package org.folio.des.repository.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.z3950.zing.cql.CQLBooleanNode;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLParseException;
+import org.z3950.zing.cql.CQLSortNode;
+import org.z3950.zing.cql.CQLTermNode;
+
+class CQLQueryCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private CQLQueryCache queryCache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    queryCache = new CQLQueryCache(2, meterRegistry);
+  }
+
+  @Test
+  void shouldReturnCachedNodeForSameQuery() throws Exception {
+    queryCache.parse("status==SUCCESSFUL");
+    var first = queryCache.parse("status==SUCCESSFUL");
+    var second = queryCache.parse(" status == SUCCESSFUL ");
+
+    assertThat(second.node()).isSameAs(first.node());
+    assertThat(requests("hit")).isEqualTo(2);
+    assertThat(requests("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldShareNodeOfQueriesWithSameShapeAndBindTheirTerms() throws Exception {
+    var cql = "(status==%s and metadata.createdDate>=\"%s\") sortby name/sort.ascending";
+    queryCache.parse(cql.formatted("SUCCESSFUL", "2021-03-01"));
+    var first = queryCache.parse(cql.formatted("FAILED", "2022-01-01"));
+    var second = queryCache.parse(cql.formatted("IN_PROGRESS", "2023-06-15 10:00"));
+
+    assertThat(second.node()).isSameAs(first.node());
+    assertThat(terms(first)).containsExactly("FAILED", "2022-01-01");
+    assertThat(terms(second)).containsExactly("IN_PROGRESS", "2023-06-15 10:00");
+    assertThat(requests("hit")).isEqualTo(2);
+    assertThat(requests("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepTermsWithEscapesInShape() throws Exception {
+    queryCache.parse("name==\"a\\\"b\"");
+    var query = queryCache.parse("name==\"a\\\"b\"");
+
+    assertThat(query.terms()).isEmpty();
+    assertThat(terms(query)).containsExactly("a\\\"b");
+    queryCache.parse("name==\"c\\\"d\"");
+    assertThat(requests("miss")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedShape() throws Exception {
+    var first = queryCache.parse("status==SUCCESSFUL");
+    queryCache.parse("type==BURSAR_FEES_FINES");
+    queryCache.parse("status==FAILED");
+    queryCache.parse("name==export");
+
+    assertThat(queryCache.parse("status==IN_PROGRESS").node()).isSameAs(first.node());
+    queryCache.parse("type==CIRCULATION_LOG");
+    assertThat(requests("miss")).isEqualTo(4);
+    assertThat(meterRegistry.get("cql.parse.cache.size").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheInvalidQuery() {
+    assertThatThrownBy(() -> queryCache.parse("status==")).isInstanceOf(CQLParseException.class);
+    assertThat(meterRegistry.get("cql.parse.cache.size").gauge().value()).isZero();
+  }
+
+  private static List<String> terms(CQLQuery query) {
+    List<String> terms = new ArrayList<>();
+    collectTerms(query, query.node(), terms);
+    return terms;
+  }
+
+  private static void collectTerms(CQLQuery query, CQLNode node, List<String> terms) {
+    if (node instanceof CQLTermNode term) {
+      terms.add(query.bind(term).getTerm());
+    } else if (node instanceof CQLBooleanNode bool) {
+      collectTerms(query, bool.getLeftOperand(), terms);
+      collectTerms(query, bool.getRightOperand(), terms);
+    } else if (node instanceof CQLSortNode sort) {
+      collectTerms(query, sort.getSubtree(), terms);
+    }
+  }
+
+  private double requests(String result) {
+    return meterRegistry.get("cql.parse.cache.requests").tag("result", result).counter().count();
+  }
+}
@@ -0,0 +1,41 @@
+package org.folio.des.repository.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CQLQueryShapeTest {
+
+  @Test
+  void shouldReplaceTermsWithPlaceholders() {
+    var shape = CQLQueryShape.of("(status==FAILED and name any \"daily export\") sortby name/sort.ascending");
+
+    assertThat(shape.key()).isEqualTo("( status == $0 and name any $1 ) sortby name / sort.ascending");
+    assertThat(shape.terms()).containsExactly("FAILED", "daily export");
+  }
+
+  @Test
+  void shouldKeepModifiersInShape() {
+    var shape = CQLQueryShape.of("name =/ignoreCase export prox/distance=1 type==BURSAR_FEES_FINES");
+
+    assertThat(shape.key()).isEqualTo("name = / ignoreCase $0 prox / distance = 1 type == $1");
+    assertThat(shape.terms()).containsExactly("export", "BURSAR_FEES_FINES");
+  }
+
+  @Test
+  void shouldKeepEscapedTermsAndKeywordsInShape() {
+    var shape = CQLQueryShape.of("name==\"a\\\"b\" or name==and");
+
+    assertThat(shape.key()).isEqualTo("name == \"a\\\"b\" or name == and");
+    assertThat(shape.terms()).isEmpty();
+  }
+
+  @Test
+  void shouldResolvePlaceholderSlots() {
+    var shape = CQLQueryShape.of("status==FAILED");
+
+    assertThat(shape.slot("$0")).isZero();
+    assertThat(shape.slot("$1")).isNegative();
+    assertThat(shape.slot("FAILED")).isNegative();
+  }
+}
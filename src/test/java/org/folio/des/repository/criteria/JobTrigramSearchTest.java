@@ -0,0 +1,68 @@
+package org.folio.des.repository.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.folio.de.entity.Job;
+import org.folio.des.repository.CQLService;
+import org.folio.des.support.BaseTest;
+import org.folio.des.support.QueryPlans;
+import org.folio.des.support.RecordingStatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+  + "org.folio.des.support.RecordingStatementInspector")
+class JobTrigramSearchTest extends BaseTest {
+
+  private static final String SCHEMA = "diku_mod_data_export_spring";
+  private static final UUID TARGET_JOB_ID = UUID.fromString("3c2b1a09-8f7e-4d6c-9b5a-4f3e2d1c0b9a");
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private CQLService cqlService;
+
+  @BeforeAll
+  void insertJobs() {
+    jdbcTemplate.update("INSERT INTO " + SCHEMA + ".job (id, name, description, source, created_by_username, type, "
+      + "export_type_specific_parameters, created_date, updated_date) "
+      + "SELECT gen_random_uuid(), lpad(i::text, 6, '0'), 'Fees and fines export ' || i, 'system', 'user' || i % 100, "
+      + "'BURSAR_FEES_FINES', '{}'::jsonb, now(), now() FROM generate_series(1, 20000) i");
+    jdbcTemplate.update("INSERT INTO " + SCHEMA + ".job (id, name, description, source, created_by_username, type, "
+      + "export_type_specific_parameters, created_date, updated_date) VALUES (?, 'annual-report', "
+      + "'Circulation log of the main library', 'librarian', 'jane_doe', 'CIRCULATION_LOG', '{}'::jsonb, now(), now())",
+      TARGET_JOB_ID);
+    jdbcTemplate.execute("ANALYZE " + SCHEMA + ".job");
+  }
+
+  @AfterAll
+  void deleteJobs() {
+    jdbcTemplate.execute("DELETE FROM " + SCHEMA + ".job");
+  }
+
+  @BeforeEach
+  void clearStatements() {
+    RecordingStatementInspector.clear();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "name=\"*nual-rep*\", idx_job_name_gin_trgm",
+    "description=\"*main library*\", idx_job_description_gin_trgm",
+    "source=*brarian, idx_job_source_gin_trgm",
+    "createdByUsername=jane*, idx_job_created_by_username_gin_trgm"
+  })
+  void shouldSearchJobsWithTrigramIndex(String query, String index) {
+    var jobs = inTenant(() -> cqlService.getByCQL(Job.class, query, 0, 10));
+
+    assertThat(jobs).extracting(Job::getId).containsExactly(TARGET_JOB_ID);
+    assertThat(QueryPlans.explain(jdbcTemplate, SCHEMA, QueryPlans.lastSelect())).contains(index);
+  }
+}
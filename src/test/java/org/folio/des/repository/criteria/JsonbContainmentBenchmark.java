@@ -0,0 +1,122 @@
+package org.folio.des.repository.criteria;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Compares the two translations of {@link JsonbNodeConverter} on a job table with synthetic EDIFACT jobs:
+ * {@code jsonb_extract_path_text} equality, served only by the expression index of exportConfigId,
+ * and {@code @>} containment, served by the GIN jsonb_path_ops index of the column for any path.
+ * Run with the {@link #main} method from the test classpath against a Testcontainers Postgres,
+ * it is not a part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonbContainmentBenchmark {
+
+  private static final String EXTRACT_PATH_SQL = "SELECT id FROM job WHERE jsonb_extract_path_text("
+    + "export_type_specific_parameters, 'vendorEdiOrdersExportConfig', '%s') IN (?) LIMIT 100";
+  private static final String CONTAINMENT_SQL = "SELECT id FROM job WHERE export_type_specific_parameters @> "
+    + "cast(? as jsonb) LIMIT 100";
+
+  @Param({"2000000"})
+  private int rows;
+
+  @Param({"exportConfigId", "configName"})
+  private String field;
+
+  private PostgreSQLContainer<?> postgres;
+  private Connection connection;
+  private PreparedStatement extractPath;
+  private PreparedStatement containment;
+  private String value;
+  private String document;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    postgres.start();
+    connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    try (var statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE job (id uuid PRIMARY KEY, export_type_specific_parameters jsonb NOT NULL)");
+      statement.execute("INSERT INTO job SELECT gen_random_uuid(), jsonb_build_object('vendorEdiOrdersExportConfig', "
+        + "jsonb_build_object('exportConfigId', md5(i::text)::uuid, 'configName', 'config ' || i, "
+        + "'ediFtp', jsonb_build_object('ftpConnMode', 'Active'))) FROM generate_series(1, " + rows + ") i");
+      statement.execute("CREATE INDEX idx_job_export_config_id ON job (jsonb_extract_path_text("
+        + "export_type_specific_parameters, 'vendorEdiOrdersExportConfig', 'exportConfigId'))");
+      statement.execute("CREATE INDEX idx_job_export_type_specific_parameters ON job "
+        + "USING gin (export_type_specific_parameters jsonb_path_ops)");
+      statement.execute("ANALYZE job");
+    }
+    int target = rows / 2;
+    try (var statement = connection.createStatement();
+         var resultSet = statement.executeQuery("SELECT export_type_specific_parameters->'vendorEdiOrdersExportConfig'->>'"
+           + field + "' FROM job WHERE export_type_specific_parameters->'vendorEdiOrdersExportConfig'->>'configName' = "
+           + "'config " + target + "'")) {
+      resultSet.next();
+      value = resultSet.getString(1);
+    }
+    document = JsonbNodeConverter.toContainmentDocument(List.of("vendorEdiOrdersExportConfig", field), value)
+      .toString();
+    // path keys are literals as in the generated queries, so the expression index matches generic plans too
+    extractPath = connection.prepareStatement(String.format(EXTRACT_PATH_SQL, field));
+    containment = connection.prepareStatement(CONTAINMENT_SQL);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public int extractPath() throws SQLException {
+    extractPath.setString(1, value);
+    return count(extractPath);
+  }
+
+  @Benchmark
+  public int containment() throws SQLException {
+    containment.setString(1, document);
+    return count(containment);
+  }
+
+  private static int count(PreparedStatement statement) throws SQLException {
+    int count = 0;
+    try (var resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(JsonbContainmentBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.des.repository.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.folio.de.entity.Job;
+import org.folio.des.repository.CQLService;
+import org.folio.des.support.BaseTest;
+import org.folio.des.support.QueryPlans;
+import org.folio.des.support.RecordingStatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+  "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "org.folio.des.support.RecordingStatementInspector",
+  "application.cql.jsonb-mode=CONTAINMENT"
+})
+class JsonbContainmentTest extends BaseTest {
+
+  private static final String SCHEMA = "diku_mod_data_export_spring";
+  private static final UUID TARGET_JOB_ID = UUID.fromString("6b1f4a3e-2c1d-4e5f-9a8b-7c6d5e4f3a2b");
+  private static final String TARGET_CONFIG_ID = "0e7f6d5c-4b3a-4291-8f7e-6d5c4b3a2918";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private CQLService cqlService;
+
+  @BeforeAll
+  void insertJobs() {
+    jdbcTemplate.update("INSERT INTO " + SCHEMA + ".job (id, name, type, status, export_type_specific_parameters, "
+      + "created_date, updated_date) "
+      + "SELECT gen_random_uuid(), 'synthetic', 'EDIFACT_ORDERS_EXPORT', 'SUCCESSFUL', "
+      + "jsonb_build_object('vendorEdiOrdersExportConfig', jsonb_build_object('exportConfigId', gen_random_uuid(), "
+      + "'ediSchedule', jsonb_build_object('scheduleParameters', jsonb_build_object('schedulePeriod', 'NONE')))), "
+      + "now(), now() FROM generate_series(1, 20000)");
+    jdbcTemplate.update("INSERT INTO " + SCHEMA + ".job (id, name, type, status, export_type_specific_parameters, "
+      + "created_date, updated_date) VALUES (?, 'target', 'EDIFACT_ORDERS_EXPORT', 'SUCCESSFUL', "
+      + "jsonb_build_object('vendorEdiOrdersExportConfig', jsonb_build_object('exportConfigId', ?::text, "
+      + "'ediSchedule', jsonb_build_object('scheduleParameters', jsonb_build_object('schedulePeriod', 'WEEK')))), "
+      + "now(), now())", TARGET_JOB_ID, TARGET_CONFIG_ID);
+    jdbcTemplate.execute("ANALYZE " + SCHEMA + ".job");
+  }
+
+  @AfterAll
+  void deleteJobs() {
+    jdbcTemplate.execute("DELETE FROM " + SCHEMA + ".job");
+  }
+
+  @BeforeEach
+  void clearStatements() {
+    RecordingStatementInspector.clear();
+  }
+
+  @Test
+  void shouldUseGinIndexForJsonbEquality() {
+    var jobs = inTenant(() -> cqlService.getByCQL(Job.class,
+      "jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.exportConfigId==" + TARGET_CONFIG_ID, 0, 10));
+
+    assertThat(jobs).extracting(Job::getId).containsExactly(TARGET_JOB_ID);
+    var sql = QueryPlans.lastSelect();
+    assertThat(sql).contains("@>").doesNotContain(JsonbNodeConverter.JSONB_EXTRACT_PATH_TEXT_FUNC);
+    assertThat(QueryPlans.explain(jdbcTemplate, SCHEMA, sql)).contains("idx_job_export_type_specific_parameters");
+  }
+
+  @Test
+  void shouldFindJobsByJsonbFieldDeeperThanFourLevels() {
+    var jobs = inTenant(() -> cqlService.getByCQL(Job.class,
+      "jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.ediSchedule.scheduleParameters.schedulePeriod"
+        + "==WEEK", 0, 10));
+
+    assertThat(jobs).extracting(Job::getId).containsExactly(TARGET_JOB_ID);
+  }
+}
@@ -0,0 +1,36 @@
+package org.folio.des.repository.criteria;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonbNodeConverterTest {
+
+  private final JsonbNodeConverter converter = new JsonbNodeConverter(JsonbNodeConverter.Mode.CONTAINMENT);
+
+  @Test
+  void shouldGetFieldNamesOfAnyDepth() {
+    var fieldNames = converter.getFieldNames(
+      "jsonb.exportTypeSpecificParameters.vendorEdiOrdersExportConfig.ediSchedule.scheduleParameters.schedulePeriod");
+
+    assertThat(fieldNames).containsExactly("exportTypeSpecificParameters", "vendorEdiOrdersExportConfig",
+      "ediSchedule", "scheduleParameters", "schedulePeriod");
+  }
+
+  @Test
+  void shouldBuildNestedContainmentDocument() {
+    var document = JsonbNodeConverter.toContainmentDocument(
+      List.of("vendorEdiOrdersExportConfig", "ediSchedule", "scheduleParameters", "schedulePeriod"), "WEEK");
+
+    assertThat(document).hasToString(
+      "{\"vendorEdiOrdersExportConfig\":{\"ediSchedule\":{\"scheduleParameters\":{\"schedulePeriod\":\"WEEK\"}}}}");
+  }
+
+  @Test
+  void shouldEscapeContainmentDocumentValue() {
+    var document = JsonbNodeConverter.toContainmentDocument(List.of("configName"), "Vendor \"A\" 'B'");
+
+    assertThat(document).hasToString("{\"configName\":\"Vendor \\\"A\\\" 'B'\"}");
+  }
+}
@@ -16,6 +16,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -37,6 +38,7 @@ import org.quartz.SchedulerException;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
 import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.listeners.JobListenerSupport;
 import org.quartz.listeners.SchedulerListenerSupport;
@@ -99,14 +101,59 @@ class QuartzExportJobSchedulerTest extends BaseTest {
     ExportConfig config = buildExportConfig(SCHEDULE_ID, true);
     quartzExportJobScheduler.scheduleExportJob(config);
 
-    // scheduleExportJob with enabled scheduling for existing id should result in job rescheduling
+    var triggerKeys = triggerKeysOf(SCHEDULE_ID);
+
+    // scheduleExportJob with unchanged config for existing id should keep the job and its triggers
     ExportConfig reschedulingConfig = buildExportConfig(SCHEDULE_ID, true);
     quartzExportJobScheduler.scheduleExportJob(reschedulingConfig);
 
     assertTrue(scheduler.checkExists(JobKey.jobKey(SCHEDULE_ID)));
-    assertEquals(2, schedulerListener.getJobsAddedCount());
+    assertEquals(triggerKeys, triggerKeysOf(SCHEDULE_ID));
+    assertEquals(1, schedulerListener.getJobsAddedCount());
+    assertEquals(1, schedulerListener.getJobsScheduledCount());
+    assertEquals(0, schedulerListener.getJobsUnscheduledCount());
+    assertEquals(0, schedulerListener.getJobsDeletedCount());
+  }
+
+  @Test
+  void testRescheduleChangedSchedule() throws SchedulerException {
+    TestingSchedulerListener schedulerListener = registerTestingSchedulerListener();
+
+    ExportConfig config = buildExportConfig(SCHEDULE_ID, true);
+    quartzExportJobScheduler.scheduleExportJob(config);
+    var triggerKeys = triggerKeysOf(SCHEDULE_ID);
+
+    // changed schedule should result in trigger replacement without job deletion
+    ExportConfig reschedulingConfig = buildExportConfig(SCHEDULE_ID, true).scheduleFrequency(3);
+    quartzExportJobScheduler.scheduleExportJob(reschedulingConfig);
+
+    var rescheduledTriggerKeys = triggerKeysOf(SCHEDULE_ID);
+    assertEquals(1, rescheduledTriggerKeys.size());
+    assertFalse(rescheduledTriggerKeys.containsAll(triggerKeys));
+    assertEquals(1, schedulerListener.getJobsAddedCount());
     assertEquals(2, schedulerListener.getJobsScheduledCount());
-    assertEquals(1, schedulerListener.getJobsDeletedCount());
+    assertEquals(1, schedulerListener.getJobsUnscheduledCount());
+    assertEquals(0, schedulerListener.getJobsDeletedCount());
+  }
+
+  @Test
+  void testRescheduleChangedJobData() throws SchedulerException {
+    TestingSchedulerListener schedulerListener = registerTestingSchedulerListener();
+
+    ExportConfig config = buildExportConfig(SCHEDULE_ID, true);
+    quartzExportJobScheduler.scheduleExportJob(config);
+    var triggerKeys = triggerKeysOf(SCHEDULE_ID);
+
+    // changed job data should be updated in place with the triggers kept
+    ExportConfig reschedulingConfig = buildExportConfig(SCHEDULE_ID, true).scheduleTime("2024-04-24T12:00Z");
+    quartzExportJobScheduler.scheduleExportJob(reschedulingConfig);
+
+    assertEquals(triggerKeys, triggerKeysOf(SCHEDULE_ID));
+    assertEquals("2024-04-24T12:00Z",
+      scheduler.getJobDetail(JobKey.jobKey(SCHEDULE_ID)).getJobDataMap().getString("scheduleTime"));
+    assertEquals(2, schedulerListener.getJobsAddedCount());
+    assertEquals(1, schedulerListener.getJobsScheduledCount());
+    assertEquals(0, schedulerListener.getJobsDeletedCount());
   }
 
   @Test
@@ -171,15 +218,16 @@ class QuartzExportJobSchedulerTest extends BaseTest {
     ExportConfig config = buildExportConfig(SCHEDULE_ID, true);
     quartzExportJobScheduler.scheduleExportJob(config);
 
-    // scheduleExportJob with enabled scheduling for existing id should result in job rescheduling
+    // scheduleExportJob with enabled scheduling for existing id should schedule only the added triggers
     ExportConfig reschedulingConfig = buildExportConfig(SCHEDULE_ID, true);
     testTriggerConverter.setTriggerAmount(jobTriggersRescheduleCount);
     quartzExportJobScheduler.scheduleExportJob(reschedulingConfig);
 
     assertTrue(scheduler.checkExists(JobKey.jobKey(SCHEDULE_ID)));
-    assertEquals(2, schedulerListener.getJobsAddedCount());
-    assertEquals(jobTriggersInitialCount + jobTriggersRescheduleCount, schedulerListener.getJobsScheduledCount());
-    assertEquals(1, schedulerListener.getJobsDeletedCount());
+    assertEquals(jobTriggersRescheduleCount, triggerKeysOf(SCHEDULE_ID).size());
+    assertEquals(1, schedulerListener.getJobsAddedCount());
+    assertEquals(jobTriggersRescheduleCount, schedulerListener.getJobsScheduledCount());
+    assertEquals(0, schedulerListener.getJobsDeletedCount());
   }
 
   @Test
@@ -196,6 +244,12 @@ class QuartzExportJobSchedulerTest extends BaseTest {
       .scheduleFrequency(2);
   }
 
+  private Set<TriggerKey> triggerKeysOf(String scheduleId) throws SchedulerException {
+    return scheduler.getTriggersOfJob(JobKey.jobKey(scheduleId)).stream()
+      .map(Trigger::getKey)
+      .collect(Collectors.toSet());
+  }
+
   private TestingSchedulerListener registerTestingSchedulerListener() throws SchedulerException {
     TestingSchedulerListener schedulerListener = new TestingSchedulerListener();
     scheduler.getListenerManager().addSchedulerListener(schedulerListener);
@@ -222,6 +276,8 @@ class QuartzExportJobSchedulerTest extends BaseTest {
         triggers.add(TriggerBuilder
           .newTrigger()
           .withIdentity(UUID.randomUUID().toString())
+          .usingJobData(QuartzConstants.TRIGGER_FINGERPRINT_PARAM,
+            "trigger-" + i + "-" + exportConfig.getScheduleFrequency())
           .withSchedule(SimpleScheduleBuilder
             .simpleSchedule()
             .withRepeatCount(0))
@@ -234,7 +290,10 @@ class QuartzExportJobSchedulerTest extends BaseTest {
   private static class TestJobDetailConverter implements ExportConfigToJobDetailConverter {
     @Override
     public JobDetail convert(ExportConfig exportConfig, JobKey jobKey) {
-      return JobBuilder.newJob(DraftJob.class).withIdentity(jobKey).build();
+      return JobBuilder.newJob(DraftJob.class)
+        .usingJobData("scheduleTime", exportConfig.getScheduleTime())
+        .withIdentity(jobKey)
+        .build();
     }
   }
 
@@ -275,6 +334,7 @@ class QuartzExportJobSchedulerTest extends BaseTest {
     private final AtomicInteger jobsAddedCount = new AtomicInteger();
     private final AtomicInteger jobsDeletedCount = new AtomicInteger();
     private final AtomicInteger jobsScheduledCount = new AtomicInteger();
+    private final AtomicInteger jobsUnscheduledCount = new AtomicInteger();
 
     @Override
     public void jobDeleted(JobKey jobKey) {
@@ -291,6 +351,11 @@ class QuartzExportJobSchedulerTest extends BaseTest {
       jobsScheduledCount.incrementAndGet();
     }
 
+    @Override
+    public void jobUnscheduled(TriggerKey triggerKey) {
+      jobsUnscheduledCount.incrementAndGet();
+    }
+
     public int getJobsAddedCount() {
       return jobsAddedCount.get();
     }
@@ -302,5 +367,9 @@ class QuartzExportJobSchedulerTest extends BaseTest {
     public int getJobsScheduledCount() {
       return jobsScheduledCount.get();
     }
+
+    public int getJobsUnscheduledCount() {
+      return jobsUnscheduledCount.get();
+    }
   }
 }
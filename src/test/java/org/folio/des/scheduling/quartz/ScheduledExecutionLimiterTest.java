@@ -0,0 +1,95 @@
+package org.folio.des.scheduling.quartz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledExecutionLimiterTest {
+
+  private static final String EDIFACT_GROUP = "_" + QuartzConstants.EDIFACT_ORDERS_EXPORT_GROUP_NAME;
+  private static final JobKey JOB_KEY = JobKey.jobKey("job", "group");
+
+  @Mock
+  private Scheduler scheduler;
+
+  private final ScheduledExecutionLimiter limiter = new ScheduledExecutionLimiter(2, 1, 1000);
+
+  @Test
+  void shouldQueueExecutionOverTenantLimit() throws SchedulerException {
+    var trigger = trigger("diku" + EDIFACT_GROUP);
+    var running = context("diku");
+    var overflow = context("diku");
+
+    assertFalse(limiter.vetoJobExecution(trigger, running));
+    assertTrue(limiter.vetoJobExecution(trigger, overflow));
+
+    var captor = ArgumentCaptor.forClass(Trigger.class);
+    verify(scheduler).scheduleJob(captor.capture());
+    var overflowTrigger = captor.getValue();
+    assertEquals(JOB_KEY, overflowTrigger.getJobKey());
+    assertEquals(trigger.getKey().getGroup(), overflowTrigger.getKey().getGroup());
+    assertTrue(overflowTrigger.getJobDataMap().getBoolean(ScheduledExecutionLimiter.OVERFLOW_TRIGGER_PARAM));
+
+    limiter.triggerComplete(trigger, running, Trigger.CompletedExecutionInstruction.NOOP);
+    assertFalse(limiter.vetoJobExecution(trigger, context("diku")));
+  }
+
+  @Test
+  void shouldQueueExecutionOverGlobalLimit() throws SchedulerException {
+    assertFalse(limiter.vetoJobExecution(trigger("diku" + EDIFACT_GROUP), context("diku")));
+    assertFalse(limiter.vetoJobExecution(trigger("college" + EDIFACT_GROUP), context("college")));
+    assertTrue(limiter.vetoJobExecution(trigger("university" + EDIFACT_GROUP), context("university")));
+
+    verify(scheduler).scheduleJob(any(Trigger.class));
+  }
+
+  @Test
+  void shouldNotLimitOtherJobs() throws SchedulerException {
+    var trigger = trigger("diku_" + QuartzConstants.OLD_JOB_DELETE_GROUP_NAME);
+
+    for (int i = 0; i < 3; i++) {
+      assertFalse(limiter.vetoJobExecution(trigger, mock(JobExecutionContext.class)));
+    }
+    verify(scheduler, never()).scheduleJob(any(Trigger.class));
+  }
+
+  private Trigger trigger(String group) {
+    return TriggerBuilder.newTrigger().withIdentity(UUID.randomUUID().toString(), group).forJob(JOB_KEY).build();
+  }
+
+  // stubs are lenient since an allowed execution does not use the scheduler and a queued one does not complete
+  private JobExecutionContext context(String tenant) {
+    var context = mock(JobExecutionContext.class);
+    var jobDataMap = new JobDataMap();
+    jobDataMap.put(QuartzConstants.TENANT_ID_PARAM, tenant);
+    lenient().when(context.getMergedJobDataMap()).thenReturn(jobDataMap);
+    lenient().when(context.getFireInstanceId()).thenReturn(UUID.randomUUID().toString());
+    var jobDetail = mock(JobDetail.class);
+    lenient().when(jobDetail.getKey()).thenReturn(JOB_KEY);
+    lenient().when(context.getJobDetail()).thenReturn(jobDetail);
+    lenient().when(context.getScheduler()).thenReturn(scheduler);
+    return context;
+  }
+}
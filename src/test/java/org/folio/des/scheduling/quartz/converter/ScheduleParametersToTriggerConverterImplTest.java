@@ -3,6 +3,7 @@ package org.folio.des.scheduling.quartz.converter;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockStatic;
 
 import java.time.DayOfWeek;
 import java.time.Instant;
@@ -17,13 +18,17 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.folio.des.domain.dto.ScheduleParameters;
 import org.folio.des.domain.dto.ScheduleParameters.SchedulePeriodEnum;
 import org.folio.des.domain.dto.ScheduleParameters.WeekDaysEnum;
+import org.folio.des.scheduling.quartz.QuartzConstants;
+import org.folio.des.scheduling.util.ScheduleDateTimeUtil;
 import org.junit.jupiter.api.Test;
 import org.quartz.CalendarIntervalTrigger;
 import org.quartz.Trigger;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -232,6 +237,72 @@ class ScheduleParametersToTriggerConverterImplTest {
     validateTriggerWithFirstFirings(trigger2, expectedStartDateTimeTrigger2, ChronoUnit.WEEKS, scheduleFrequency);
   }
 
+  @Test
+  void testSpreadStartTimeByScheduleId() {
+    var spreadingConverter = new ScheduleParametersToTriggerConverterImpl();
+    ReflectionTestUtils.setField(spreadingConverter, "spreadWindowSeconds", 600L);
+    var first = buildScheduleParameters().id(UUID.fromString("3f1c2f5e-7a4b-4c8d-9e0f-1a2b3c4d5e6f"))
+      .schedulePeriod(SchedulePeriodEnum.DAY).scheduleFrequency(1);
+    var second = buildScheduleParameters().id(UUID.fromString("8d2e4b6a-1c3f-4e5d-a7b9-0c1d2e3f4a5b"))
+      .schedulePeriod(SchedulePeriodEnum.DAY).scheduleFrequency(1);
+
+    assertEquals(240_000, startTimeOf(spreadingConverter, first) - startTimeOf(triggerConverter, first));
+    assertEquals(126_000, startTimeOf(spreadingConverter, second) - startTimeOf(triggerConverter, second));
+    assertEquals(startTimeOf(spreadingConverter, first), startTimeOf(spreadingConverter, first));
+  }
+
+  @Test
+  void testSpreadOfHourlyScheduleIsWithinInterval() {
+    var spreadingConverter = new ScheduleParametersToTriggerConverterImpl();
+    ReflectionTestUtils.setField(spreadingConverter, "spreadWindowSeconds", 86_400L);
+    var parameters = buildScheduleParameters().scheduleFrequency(1);
+
+    long offset = startTimeOf(spreadingConverter, parameters) - startTimeOf(triggerConverter, parameters);
+
+    assertTrue(offset >= 0 && offset < 3_600_000);
+  }
+
+  @Test
+  void testTriggerFingerprintChangesOnlyWithSchedule() {
+    var parameters = buildScheduleParameters().schedulePeriod(SchedulePeriodEnum.WEEK)
+      .weekDays(List.of(WeekDaysEnum.MONDAY, WeekDaysEnum.FRIDAY));
+
+    var fingerprints = fingerprintsOf(parameters);
+    assertEquals(2, fingerprints.size());
+    assertEquals(fingerprints, fingerprintsOf(parameters));
+    assertEquals(fingerprints, fingerprintsOf(parameters.id(UUID.randomUUID())));
+
+    var changedFingerprints = fingerprintsOf(parameters.weekDays(List.of(WeekDaysEnum.MONDAY, WeekDaysEnum.SUNDAY)));
+    assertEquals(1, changedFingerprints.stream().filter(fingerprints::contains).count());
+    assertTrue(fingerprintsOf(parameters.scheduleTime("09:00:00")).stream().noneMatch(fingerprints::contains));
+  }
+
+  @Test
+  void testTriggerFingerprintDoesNotDependOnStartTime() {
+    // without the schedule time the start time is computed from the current time
+    var parameters = buildScheduleParameters().scheduleTime(null);
+
+    try (var dateTimeUtil = mockStatic(ScheduleDateTimeUtil.class)) {
+      dateTimeUtil.when(() -> ScheduleDateTimeUtil.convertScheduleTimeToDate(parameters))
+        .thenReturn(new Date(1_000_000L), new Date(1_001_000L));
+
+      assertEquals(fingerprintsOf(parameters), fingerprintsOf(parameters));
+    }
+    var everyThreeHours = fingerprintsOf(parameters.scheduleFrequency(3));
+    var everyTwoHours = fingerprintsOf(parameters.scheduleFrequency(2));
+    assertTrue(everyThreeHours.stream().noneMatch(everyTwoHours::contains));
+  }
+
+  private Set<String> fingerprintsOf(ScheduleParameters parameters) {
+    return triggerConverter.convert(parameters, EDIFACT_ORDERS_EXPORT).stream()
+      .map(trigger -> trigger.getJobDataMap().getString(QuartzConstants.TRIGGER_FINGERPRINT_PARAM))
+      .collect(Collectors.toSet());
+  }
+
+  private long startTimeOf(ScheduleParametersToTriggerConverter converter, ScheduleParameters parameters) {
+    return converter.convert(parameters, EDIFACT_ORDERS_EXPORT).iterator().next().getStartTime().getTime();
+  }
+
   private ScheduleParameters buildScheduleParameters() {
     return new ScheduleParameters()
       .id(UUID.randomUUID())
@@ -58,6 +58,7 @@ class OldDeleteJobTest {
     doNothing().when(jobService).deleteOldJobs();
     oldDeleteJob.execute(jobExecutionContext);
     verify(jobService).deleteOldJobs();
+    verify(jobService).archiveOldJobs();
   }
 
   @Test
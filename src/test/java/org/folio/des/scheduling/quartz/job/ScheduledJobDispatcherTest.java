@@ -0,0 +1,99 @@
+package org.folio.des.scheduling.quartz.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.folio.de.entity.JobCommand;
+import org.folio.des.builder.job.JobCommandSchedulerBuilder;
+import org.folio.des.client.DataExportSpringClient;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.Job;
+import org.folio.des.service.JobExecutionService;
+import org.folio.des.service.JobService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.service.SystemUserProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobDispatcherTest {
+
+  private static final String TENANT_ID = "diku";
+
+  @Mock
+  private JobService jobService;
+  @Mock
+  private JobExecutionService jobExecutionService;
+  @Mock
+  private JobCommandSchedulerBuilder jobCommandSchedulerBuilder;
+  @Mock
+  private DataExportSpringClient dataExportSpringClient;
+  @Mock
+  private SystemUserProperties systemUserProperties;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @InjectMocks
+  private ScheduledJobDispatcher dispatcher;
+
+  @Test
+  void shouldUpsertJobInProcess() {
+    ReflectionTestUtils.setField(dispatcher, "mode", ScheduledJobDispatcher.Mode.IN_PROCESS);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    var job = new Job().type(ExportType.BURSAR_FEES_FINES);
+    var savedJob = new Job().id(UUID.randomUUID());
+    when(jobService.upsertAndSendToKafka(job, true)).thenReturn(savedJob);
+
+    assertEquals(savedJob, dispatcher.upsertJob(job));
+
+    assertEquals(TENANT_ID, job.getTenant());
+    verifyNoInteractions(dataExportSpringClient);
+  }
+
+  @Test
+  void shouldSendJobInProcess() {
+    ReflectionTestUtils.setField(dispatcher, "mode", ScheduledJobDispatcher.Mode.IN_PROCESS);
+    var job = new Job().id(UUID.randomUUID());
+    var jobCommand = new JobCommand();
+    when(jobCommandSchedulerBuilder.buildJobCommand(job)).thenReturn(jobCommand);
+
+    dispatcher.sendJob(job);
+
+    verify(jobExecutionService).sendJobCommand(jobCommand);
+    verifyNoInteractions(dataExportSpringClient);
+  }
+
+  @Test
+  void shouldCallModuleApiInHttpMode() {
+    ReflectionTestUtils.setField(dispatcher, "mode", ScheduledJobDispatcher.Mode.HTTP);
+    when(systemUserProperties.isEnabled()).thenReturn(true);
+    var job = new Job().id(UUID.randomUUID());
+    when(dataExportSpringClient.upsertJob(job)).thenReturn(job);
+
+    assertEquals(job, dispatcher.upsertJob(job));
+    dispatcher.sendJob(job);
+
+    verify(dataExportSpringClient).sendJob(job);
+    verifyNoInteractions(jobService, jobExecutionService);
+  }
+
+  @Test
+  void shouldSendJobInProcessInHttpModeWhenSystemUserIsDisabled() {
+    ReflectionTestUtils.setField(dispatcher, "mode", ScheduledJobDispatcher.Mode.HTTP);
+    when(systemUserProperties.isEnabled()).thenReturn(false);
+    var job = new Job().id(UUID.randomUUID());
+    var jobCommand = new JobCommand();
+    when(jobCommandSchedulerBuilder.buildJobCommand(job)).thenReturn(jobCommand);
+
+    dispatcher.sendJob(job);
+
+    verify(jobExecutionService).sendJobCommand(jobCommand);
+    verifyNoInteractions(dataExportSpringClient);
+  }
+}
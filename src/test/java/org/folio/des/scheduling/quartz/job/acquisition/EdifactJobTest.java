@@ -5,15 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.UUID;
-import org.folio.de.entity.JobCommand;
-import org.folio.des.builder.job.JobCommandSchedulerBuilder;
-import org.folio.des.client.DataExportSpringClient;
 import org.folio.des.domain.dto.EdiSchedule;
 import org.folio.des.domain.dto.ExportConfig;
 import org.folio.des.domain.dto.ExportType;
@@ -22,7 +18,7 @@ import org.folio.des.domain.dto.Job;
 import org.folio.des.domain.dto.ScheduleParameters;
 import org.folio.des.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.des.exceptions.SchedulingException;
-import org.folio.des.service.JobExecutionService;
+import org.folio.des.scheduling.quartz.job.ScheduledJobDispatcher;
 import org.folio.des.service.JobService;
 import org.folio.des.service.config.impl.ExportTypeBasedConfigManager;
 import org.folio.spring.FolioExecutionContext;
@@ -30,7 +26,6 @@ import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.context.ExecutionContextBuilder;
 import org.folio.spring.exception.NotFoundException;
 import org.folio.spring.model.SystemUser;
-import org.folio.spring.service.SystemUserProperties;
 import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.service.SystemUserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,13 +42,9 @@ import org.quartz.impl.JobDetailImpl;
 
 @ExtendWith(MockitoExtension.class)
 class EdifactJobTest {
-  @Mock
-  private JobExecutionService jobExecutionService;
   @Mock
   private JobService jobService;
   @Mock
-  private JobCommandSchedulerBuilder jobSchedulerCommandBuilder;
-  @Mock
   private ExecutionContextBuilder contextBuilder;
   @Mock
   private SystemUserService systemUserService;
@@ -64,11 +55,7 @@ class EdifactJobTest {
   @Mock
   private Scheduler scheduler;
   @Mock
-  private JobCommandSchedulerBuilder jobCommandSchedulerBuilder;
-  @Mock
-  private DataExportSpringClient dataExportSpringClient;
-  @Mock
-  private SystemUserProperties systemUserProperties;
+  private ScheduledJobDispatcher scheduledJobDispatcher;
   private FolioExecutionContext folioExecutionContext = new TestFolioExecutionContext();
 
   private EdifactJob edifactJob;
@@ -82,44 +69,22 @@ class EdifactJobTest {
   void setUp() {
     var executionService = new SystemUserScopedExecutionService(folioExecutionContext, contextBuilder);
     executionService.setSystemUserService(systemUserService);
-    edifactJob = new EdifactJob(exportTypeBasedConfigManager, jobService, jobCommandSchedulerBuilder,
-      jobExecutionService, executionService, systemUserProperties, dataExportSpringClient);
+    edifactJob = new EdifactJob(exportTypeBasedConfigManager, jobService, executionService, scheduledJobDispatcher);
   }
 
   @Test
-  void testExecuteSuccessfulSysUserDisabled() {
+  void testExecuteSuccessful() {
     when(systemUserService.getAuthedSystemUser(any())).thenReturn(SystemUser.builder().build());
     when(contextBuilder.forSystemUser(any(), any())).thenReturn(folioExecutionContext);
     when(jobExecutionContext.getJobDetail()).thenReturn(getJobDetail());
     when(exportTypeBasedConfigManager.getConfigById(EXPORT_CONFIG_ID)).thenReturn(getExportConfig());
-    when(systemUserProperties.isEnabled()).thenReturn(false);
     var job = new Job().id(UUID.randomUUID());
     when(jobService.upsertAndSendToKafka(any(), eq(false), eq(false))).thenReturn(job);
-    var jobCommand = new JobCommand();
-    jobCommand.setId(job.getId());
-    when(jobCommandSchedulerBuilder.buildJobCommand(job)).thenReturn(jobCommand);
-    doNothing().when(jobExecutionService).sendJobCommand(jobCommand);
-
-    edifactJob.execute(jobExecutionContext);
-
-    verify(jobService).upsertAndSendToKafka(any(), eq(false), eq(false));
-    verify(jobExecutionService).sendJobCommand(jobCommand);
-  }
-
-  @Test
-  void testExecuteSuccessfulSysUserEnabled() {
-    when(systemUserService.getAuthedSystemUser(any())).thenReturn(SystemUser.builder().build());
-    when(contextBuilder.forSystemUser(any(), any())).thenReturn(folioExecutionContext);
-    when(jobExecutionContext.getJobDetail()).thenReturn(getJobDetail());
-    when(exportTypeBasedConfigManager.getConfigById(EXPORT_CONFIG_ID)).thenReturn(getExportConfig());
-    when(jobService.upsertAndSendToKafka(any(), eq(false), eq(false))).thenReturn(new Job().id(UUID.randomUUID()));
-    when(systemUserProperties.isEnabled()).thenReturn(true);
-    doNothing().when(dataExportSpringClient).sendJob(any());
 
     edifactJob.execute(jobExecutionContext);
 
     verify(jobService).upsertAndSendToKafka(any(), eq(false), eq(false));
-    verify(dataExportSpringClient).sendJob(any());
+    verify(scheduledJobDispatcher).sendJob(job);
   }
 
   @Test
@@ -133,8 +98,7 @@ class EdifactJobTest {
     edifactJob.execute(jobExecutionContext);
 
     verify(jobService).upsertAndSendToKafka(any(), eq(false), eq(false));
-    verify(jobSchedulerCommandBuilder, times(0)).buildJobCommand(any());
-    verify(jobExecutionService, times(0)).sendJobCommand(any());
+    verify(scheduledJobDispatcher, times(0)).sendJob(any());
   }
 
   @Test
@@ -179,8 +143,7 @@ class EdifactJobTest {
     Throwable ex = assertThrows(exceptionClass, () -> edifactJob.execute(jobExecutionContext));
     assertEquals(exceptionMessage, ex.getMessage());
     verify(jobService, times(0)).upsertAndSendToKafka(any(), anyBoolean());
-    verify(jobSchedulerCommandBuilder, times(0)).buildJobCommand(any());
-    verify(jobExecutionService, times(0)).sendJobCommand(any());
+    verify(scheduledJobDispatcher, times(0)).sendJob(any());
   }
 
   private JobDetail getJobDetail() {
@@ -9,7 +9,6 @@ import static org.mockito.Mockito.when;
 import java.util.UUID;
 
 import org.folio.des.builder.job.JobCommandSchedulerBuilder;
-import org.folio.des.client.DataExportSpringClient;
 import org.folio.des.domain.dto.EdiSchedule;
 import org.folio.des.domain.dto.ExportConfig;
 import org.folio.des.domain.dto.ExportType;
@@ -18,6 +17,7 @@ import org.folio.des.domain.dto.Job;
 import org.folio.des.domain.dto.ScheduleParameters;
 import org.folio.des.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.des.exceptions.SchedulingException;
+import org.folio.des.scheduling.quartz.job.ScheduledJobDispatcher;
 import org.folio.des.service.JobExecutionService;
 import org.folio.des.service.JobService;
 import org.folio.des.service.config.impl.ExportTypeBasedConfigManager;
@@ -66,7 +66,7 @@ class BursarJobTest {
   @Mock
   private Scheduler scheduler;
   @Mock
-  private DataExportSpringClient dataExportSpringClient;
+  private ScheduledJobDispatcher scheduledJobDispatcher;
   private final FolioExecutionContext folioExecutionContext = new TestFolioExecutionContext();
 
   private BursarJob bursarJob;
@@ -75,7 +75,7 @@ class BursarJobTest {
   void setUp() {
     var executionService = new SystemUserScopedExecutionService(folioExecutionContext, contextBuilder);
     executionService.setSystemUserService(systemUserService);
-    bursarJob = new BursarJob(executionService, exportTypeBasedConfigManager, dataExportSpringClient);
+    bursarJob = new BursarJob(executionService, exportTypeBasedConfigManager, scheduledJobDispatcher);
   }
 
   @Test
@@ -84,9 +84,9 @@ class BursarJobTest {
     when(exportTypeBasedConfigManager.getConfigById(EXPORT_CONFIG_ID)).thenReturn(getExportConfig());
     when(systemUserService.getAuthedSystemUser(any())).thenReturn(SystemUser.builder().build());
     when(contextBuilder.forSystemUser(any(), any())).thenReturn(folioExecutionContext);
-    when(dataExportSpringClient.upsertJob(any())).thenReturn(new Job().id(UUID.randomUUID()));
+    when(scheduledJobDispatcher.upsertJob(any())).thenReturn(new Job().id(UUID.randomUUID()));
     bursarJob.execute(jobExecutionContext);
-    verify(dataExportSpringClient).upsertJob(any());
+    verify(scheduledJobDispatcher).upsertJob(any());
   }
 
   @Test
@@ -0,0 +1,97 @@
+package org.folio.des.service;
+
+import static org.folio.des.domain.dto.ExportType.BURSAR_FEES_FINES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.folio.des.domain.ExpiredJob;
+import org.folio.des.repository.JobArchiveRepository;
+import org.folio.des.repository.JobDataExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredJobsDeleterTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock
+  private JobDataExportRepository repository;
+  @Mock
+  private JobArchiveRepository archiveRepository;
+  @Mock
+  private JobExecutionService jobExecutionService;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ExpiredJobsDeleter deleter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    deleter = new ExpiredJobsDeleter(repository, archiveRepository, jobExecutionService, transactionTemplate, meterRegistry);
+    ReflectionTestUtils.setField(deleter, "chunkSize", CHUNK_SIZE);
+    when(transactionTemplate.execute(any()))
+      .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  @Test
+  void shouldDeleteExpiredJobsInChunks() {
+    var updatedBefore = new Date();
+    var jobs = IntStream.range(0, 3)
+      .mapToObj(i -> new ExpiredJob(UUID.randomUUID(), new Date(i), List.of("file" + i)))
+      .toList();
+    when(repository.findExpired(BURSAR_FEES_FINES, updatedBefore, Limit.of(CHUNK_SIZE)))
+      .thenReturn(jobs.subList(0, 2));
+    when(repository.findExpiredAfter(BURSAR_FEES_FINES, updatedBefore, jobs.get(1).updatedDate(), jobs.get(1).id(),
+      Limit.of(CHUNK_SIZE))).thenReturn(jobs.subList(2, 3));
+
+    assertEquals(3, deleter.delete(BURSAR_FEES_FINES, updatedBefore));
+
+    verify(repository).deleteAllByIdInBatch(List.of(jobs.get(0).id(), jobs.get(1).id()));
+    verify(jobExecutionService).deleteJobFiles(List.of(List.of("file0"), List.of("file1")));
+    verify(repository).deleteAllByIdInBatch(List.of(jobs.get(2).id()));
+    verify(jobExecutionService).deleteJobFiles(List.of(List.of("file2")));
+    assertEquals(3, meterRegistry.get("jobs.expired.deleted").counter().count());
+  }
+
+  @Test
+  void shouldDeleteExpiredArchivedJobs() {
+    var updatedBefore = new Date();
+    var archived = new ExpiredJob(UUID.randomUUID(), new Date(0), null);
+    when(archiveRepository.findExpired(BURSAR_FEES_FINES, updatedBefore, Limit.of(CHUNK_SIZE)))
+      .thenReturn(List.of(archived));
+
+    assertEquals(1, deleter.delete(BURSAR_FEES_FINES, updatedBefore));
+
+    verify(repository, never()).deleteAllByIdInBatch(any());
+    verify(archiveRepository).deleteAllByIdInBatch(List.of(archived.id()));
+  }
+
+  @Test
+  void shouldNotDeleteAnythingWithoutExpiredJobs() {
+    var updatedBefore = new Date();
+    when(repository.findExpired(BURSAR_FEES_FINES, updatedBefore, Limit.of(CHUNK_SIZE))).thenReturn(List.of());
+
+    assertEquals(0, deleter.delete(BURSAR_FEES_FINES, updatedBefore));
+
+    verify(repository, never()).deleteAllByIdInBatch(any());
+    verify(jobExecutionService, never()).deleteJobFiles(any());
+  }
+}
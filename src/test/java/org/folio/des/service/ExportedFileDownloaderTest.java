@@ -0,0 +1,119 @@
+package org.folio.des.service;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.folio.des.exceptions.FileDownloadException;
+import org.folio.des.exceptions.TooManyDownloadsException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportedFileDownloaderTest {
+
+  private static final String FILE_PATH = "/bucket/bursar.dat";
+  private static final String CONTENT = "0123456789";
+
+  private WireMockServer storage;
+  private ExportedFileDownloader downloader;
+
+  @BeforeAll
+  void startStorage() {
+    storage = new WireMockServer(wireMockConfig().dynamicPort());
+    storage.start();
+  }
+
+  @AfterAll
+  void stopStorage() {
+    storage.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    storage.resetAll();
+    downloader = new ExportedFileDownloader(5000, 5000, 1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    downloader.stop();
+  }
+
+  @Test
+  void shouldPassRangeAndContentHeaders() throws Exception {
+    storage.stubFor(get(urlEqualTo(FILE_PATH)).withHeader(HttpHeaders.RANGE, equalTo("bytes=4-"))
+      .willReturn(aResponse().withStatus(206)
+        .withHeader(HttpHeaders.CONTENT_TYPE, "application/octet-stream")
+        .withHeader(HttpHeaders.CONTENT_RANGE, "bytes 4-9/10")
+        .withHeader(HttpHeaders.ACCEPT_RANGES, "bytes")
+        .withBody(CONTENT.substring(4))));
+
+    var file = downloader.download(storage.url(FILE_PATH), "bytes=4-", null);
+
+    try (var content = file.content()) {
+      assertEquals(HttpStatus.PARTIAL_CONTENT.value(), file.status().value());
+      assertEquals("6", file.headers().getFirst(HttpHeaders.CONTENT_LENGTH));
+      assertEquals("bytes 4-9/10", file.headers().getFirst(HttpHeaders.CONTENT_RANGE));
+      assertEquals("application/octet-stream", file.headers().getFirst(HttpHeaders.CONTENT_TYPE));
+      assertArrayEquals("456789".getBytes(StandardCharsets.UTF_8), content.readAllBytes());
+    }
+  }
+
+  @Test
+  void shouldLimitConcurrentDownloadsUntilContentIsClosed() throws Exception {
+    storage.stubFor(get(urlEqualTo(FILE_PATH)).willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+
+    var file = downloader.download(storage.url(FILE_PATH), null, null);
+    var url = storage.url(FILE_PATH);
+    assertThrows(TooManyDownloadsException.class, () -> downloader.download(url, null, null));
+
+    file.content().close();
+    try (var content = downloader.download(url, null, null).content()) {
+      assertArrayEquals(CONTENT.getBytes(StandardCharsets.UTF_8), content.readAllBytes());
+    }
+  }
+
+  @Test
+  void shouldFailAndReleasePermitOnStorageError() throws Exception {
+    storage.stubFor(get(urlEqualTo(FILE_PATH)).willReturn(aResponse().withStatus(403)));
+    var url = storage.url(FILE_PATH);
+
+    assertThrows(FileDownloadException.class, () -> downloader.download(url, null, null));
+    assertThrows(FileDownloadException.class, () -> downloader.download(url, null, null));
+  }
+
+  @Test
+  void shouldCloseDownloadStalledInBodyAndReleasePermit() throws Exception {
+    downloader.stop();
+    downloader = new ExportedFileDownloader(5000, 300, 1);
+    storage.stubFor(get(urlEqualTo(FILE_PATH)).willReturn(aResponse().withStatus(200).withBody(CONTENT)
+      .withChunkedDribbleDelay(2, 10000)));
+    var url = storage.url(FILE_PATH);
+
+    var content = downloader.download(url, null, null).content();
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+      assertThrows(SocketTimeoutException.class, content::readAllBytes));
+    storage.stubFor(get(urlEqualTo(FILE_PATH)).willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+    try (var next = downloader.download(url, null, null).content()) {
+      assertArrayEquals(CONTENT.getBytes(StandardCharsets.UTF_8), next.readAllBytes());
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package org.folio.des.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipInputStream;
+import org.folio.des.client.ExportWorkerClient;
+import org.folio.des.domain.ExportedFile;
+import org.folio.des.domain.dto.Job;
+import org.folio.des.domain.dto.PresignedUrl;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ExportedFilesZipperTest {
+
+  @Mock
+  private JobService jobService;
+  @Mock
+  private ExportWorkerClient exportWorkerClient;
+  @Mock
+  private PresignedUrlCache presignedUrlCache;
+  @Mock
+  private ExportedFileDownloader fileDownloader;
+  @Mock
+  private FolioExecutionContext context;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+  @InjectMocks
+  private ExportedFilesZipper zipper;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(zipper, "maxJobs", 2);
+    ReflectionTestUtils.setField(zipper, "urlConcurrency", 2);
+    ReflectionTestUtils.setField(zipper, "urlThreads", 2);
+    zipper.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    zipper.stop();
+  }
+
+  @Test
+  void shouldZipFilesOfJobsInFoldersWithUniqueNames() throws Exception {
+    var firstJobId = UUID.randomUUID();
+    var secondJobId = UUID.randomUUID();
+    when(jobService.get(firstJobId)).thenReturn(job(firstJobId, "000101", "diku/a/report.csv", "diku/b/report.csv"));
+    when(jobService.get(secondJobId)).thenReturn(job(secondJobId, "000102", "diku/c/fees.dat"));
+    when(context.getOkapiHeaders()).thenReturn(Map.of());
+    when(presignedUrlCache.get(any(), any())).thenAnswer(invocation -> presignedUrl(invocation.getArgument(0)));
+    for (var key : List.of("diku/a/report.csv", "diku/b/report.csv", "diku/c/fees.dat")) {
+      when(fileDownloader.download(eq("https://storage/" + key), any(), any())).thenReturn(
+        new ExportedFile(HttpStatus.OK, new HttpHeaders(), new ByteArrayInputStream(key.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    var out = new ByteArrayOutputStream();
+    zipper.zip(List.of(firstJobId, secondJobId)).writeTo(out);
+
+    Map<String, String> entries = new LinkedHashMap<>();
+    try (var zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    assertEquals(Map.of(
+      "000101/report.csv", "diku/a/report.csv",
+      "000101/report (1).csv", "diku/b/report.csv",
+      "000102/fees.dat", "diku/c/fees.dat"), entries);
+  }
+
+  @Test
+  void shouldKeepEntriesInsideArchiveFolder() throws Exception {
+    var firstJobId = UUID.randomUUID();
+    var secondJobId = UUID.randomUUID();
+    when(jobService.get(firstJobId)).thenReturn(job(firstJobId, "../../etc", "diku/a/..\\passwd"));
+    when(jobService.get(secondJobId)).thenReturn(job(secondJobId, "..", "diku/b/.."));
+    when(context.getOkapiHeaders()).thenReturn(Map.of());
+    when(presignedUrlCache.get(any(), any())).thenAnswer(invocation -> presignedUrl(invocation.getArgument(0)));
+    when(fileDownloader.download(any(), any(), any())).thenAnswer(invocation ->
+      new ExportedFile(HttpStatus.OK, new HttpHeaders(), new ByteArrayInputStream(new byte[0])));
+
+    var out = new ByteArrayOutputStream();
+    zipper.zip(List.of(firstJobId, secondJobId)).writeTo(out);
+
+    List<String> names = new ArrayList<>();
+    try (var zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        names.add(entry.getName());
+      }
+    }
+    assertEquals(List.of("_.._etc/_passwd", secondJobId + "/" + secondJobId), names);
+  }
+
+  @Test
+  void shouldReplaceUnsafeCharactersOfNames() {
+    assertEquals("a_b_c", ExportedFilesZipper.safeName("a/b\\c", "fallback"));
+    assertEquals("name", ExportedFilesZipper.safeName(" .name. ", "fallback"));
+    assertEquals("fallback", ExportedFilesZipper.safeName("..", "fallback"));
+    assertEquals("fallback", ExportedFilesZipper.safeName(null, "fallback"));
+  }
+
+  @Test
+  void shouldRejectTooManyJobs() {
+    var jobIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    assertThrows(IllegalArgumentException.class, () -> zipper.zip(jobIds));
+  }
+
+  @Test
+  void shouldFailWhenJobsHaveNoFiles() {
+    var jobId = UUID.randomUUID();
+    when(jobService.get(jobId)).thenReturn(new Job().id(jobId));
+    var jobIds = List.of(jobId);
+
+    assertThrows(NotFoundException.class, () -> zipper.zip(jobIds));
+  }
+
+  private static Job job(UUID id, String name, String... fileNames) {
+    return new Job().id(id).name(name).fileNames(List.of(fileNames));
+  }
+
+  private static PresignedUrl presignedUrl(String key) {
+    var url = new PresignedUrl();
+    url.setUrl("https://storage/" + key);
+    return url;
+  }
+}
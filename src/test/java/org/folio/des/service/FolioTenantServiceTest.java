@@ -56,6 +56,9 @@ class FolioTenantServiceTest {
   @Mock
   ConfigurationMigrationService configurationMigrationService;
 
+  @Mock
+  JobPartitionManager jobPartitionManager;
+
   @Test
   void shouldDoProcessAfterTenantUpdating() {
     TenantAttributes tenantAttributes = createTenantAttributes();
@@ -85,6 +88,7 @@ class FolioTenantServiceTest {
     verify(oldJobDeleteScheduler, times(1)).scheduleOldJobDeletion(any());
     verify(bursarMigrationService, times(1)).updateLegacyBursarIfNeeded(eq(tenantAttributes), any(), any(), any());
     verify(configurationMigrationService, times(1)).migrateConfigurationData(any(), any());
+    verify(jobPartitionManager, times(1)).createPartitionsIfPartitioned();
     verify(kafka, times(1)).createKafkaTopics();
     verify(kafka, times(1)).restartEventListeners();
   }
@@ -0,0 +1,64 @@
+package org.folio.des.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.folio.des.repository.JobArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class JobArchiverTest {
+
+  private static final int CHUNK_SIZE = 2;
+
+  @Mock
+  private JobArchiveRepository archiveRepository;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private JobArchiver archiver;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    archiver = new JobArchiver(archiveRepository, transactionTemplate, meterRegistry);
+    ReflectionTestUtils.setField(archiver, "afterDays", 7);
+    ReflectionTestUtils.setField(archiver, "chunkSize", CHUNK_SIZE);
+  }
+
+  @Test
+  void shouldArchiveFinishedJobsInChunks() {
+    ReflectionTestUtils.setField(archiver, "enabled", true);
+    when(transactionTemplate.execute(any()))
+      .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    when(archiveRepository.archive(eq(List.of("SUCCESSFUL", "FAILED")), any(), eq(CHUNK_SIZE)))
+      .thenReturn(CHUNK_SIZE, 1);
+
+    assertEquals(3, archiver.archive());
+
+    verify(archiveRepository, times(2)).archive(any(), any(), eq(CHUNK_SIZE));
+    assertEquals(3, meterRegistry.counter("jobs.archived").count());
+  }
+
+  @Test
+  void shouldNotArchiveJobsWhenDisabled() {
+    assertEquals(0, archiver.archive());
+
+    verifyNoInteractions(archiveRepository, transactionTemplate);
+  }
+}
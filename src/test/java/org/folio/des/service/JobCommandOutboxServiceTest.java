@@ -0,0 +1,164 @@
+package org.folio.des.service;
+
+import static org.folio.des.support.BaseTest.TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import org.folio.de.entity.JobCommand;
+import org.folio.de.entity.JobCommandOutboxEntity;
+import org.folio.des.config.kafka.KafkaService;
+import org.folio.des.repository.JobCommandOutboxRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class JobCommandOutboxServiceTest {
+
+  @Mock
+  private JobCommandOutboxRepository repository;
+  @Mock
+  private KafkaService kafka;
+  @Mock
+  private FolioExecutionContext context;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private SystemUserScopedExecutionService executionService;
+  @InjectMocks
+  private JobCommandOutboxService outbox;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(outbox, "batchSize", 100);
+    ReflectionTestUtils.setField(outbox, "sendTimeoutMs", 1000L);
+    ReflectionTestUtils.setField(outbox, "claimTimeoutMs", 60000L);
+    when(context.getTenantId()).thenReturn(TENANT);
+    when(context.getOkapiHeaders()).thenReturn(Map.<String, Collection<String>>of(
+      XOkapiHeaders.TENANT, List.of(TENANT), XOkapiHeaders.USER_ID, List.of("user"),
+      XOkapiHeaders.REQUEST_ID, List.of("request"), XOkapiHeaders.TOKEN, List.of("token")));
+  }
+
+  @Test
+  void shouldStoreCommandWithoutToken() {
+    var jobCommand = jobCommand();
+
+    outbox.enqueue(KafkaService.Topic.JOB_COMMAND, jobCommand.getId().toString(), jobCommand);
+
+    var captor = ArgumentCaptor.forClass(JobCommandOutboxEntity.class);
+    verify(repository).save(captor.capture());
+    var stored = captor.getValue();
+    assertEquals(KafkaService.Topic.JOB_COMMAND, stored.getTopic());
+    assertEquals(jobCommand.getId().toString(), stored.getMessageKey());
+    assertEquals(jobCommand, stored.getPayload());
+    assertEquals(Map.of(XOkapiHeaders.TENANT, TENANT, XOkapiHeaders.USER_ID, "user", XOkapiHeaders.REQUEST_ID,
+      "request"), stored.getOkapiHeaders());
+  }
+
+  @Test
+  void shouldClaimSendAndMarkCommandsInSeparateTransactions() {
+    var sent = outboxEntity();
+    var failed = outboxEntity();
+    outbox.enqueue(KafkaService.Topic.JOB_COMMAND, sent.getMessageKey(), sent.getPayload());
+    inTransaction();
+    inSystemUserScope();
+    when(repository.lockUnclaimed(any(), anyInt())).thenReturn(List.of(sent, failed));
+    when(kafka.send(KafkaService.Topic.JOB_COMMAND, sent.getMessageKey(), sent.getPayload()))
+      .thenReturn(CompletableFuture.completedFuture(null));
+    when(kafka.send(KafkaService.Topic.JOB_COMMAND, failed.getMessageKey(), failed.getPayload()))
+      .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Broker is not available")));
+
+    outbox.relay();
+
+    verify(repository).claim(eq(List.of(sent.getId(), failed.getId())), any());
+    verify(repository).markSent(eq(List.of(sent.getId())), any());
+    verify(repository).release(List.of(failed.getId()));
+    verify(transactionTemplate, times(2)).execute(any());
+    verify(executionService, times(2)).executeSystemUserScoped(eq(TENANT), any());
+  }
+
+  @Test
+  void shouldNotMarkAnythingWhenOutboxIsEmpty() {
+    var jobCommand = jobCommand();
+    outbox.enqueue(KafkaService.Topic.JOB_COMMAND, jobCommand.getId().toString(), jobCommand);
+    inTransaction();
+    when(repository.lockUnclaimed(any(), anyInt())).thenReturn(List.of());
+
+    outbox.relay();
+
+    verify(kafka, never()).send(any(), any(), any());
+    verify(repository, never()).claim(any(), any());
+    verify(repository, never()).markSent(any(), any());
+  }
+
+  @Test
+  void shouldStopRelayingTenantWithoutSchema() {
+    var jobCommand = jobCommand();
+    outbox.enqueue(KafkaService.Topic.JOB_COMMAND, jobCommand.getId().toString(), jobCommand);
+    when(folioModuleMetadata.getDBSchemaName(TENANT)).thenReturn(TENANT + "_mod_data_export_spring");
+    when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("relation does not exist"));
+    when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(TENANT + "_mod_data_export_spring")))
+      .thenReturn(false);
+
+    outbox.relay();
+    outbox.relay();
+
+    verify(transactionTemplate).execute(any());
+  }
+
+  private void inTransaction() {
+    when(transactionTemplate.execute(any()))
+      .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+  }
+
+  private void inSystemUserScope() {
+    when(executionService.executeSystemUserScoped(eq(TENANT), any()))
+      .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call());
+  }
+
+  private static JobCommandOutboxEntity outboxEntity() {
+    var jobCommand = jobCommand();
+    return new JobCommandOutboxEntity()
+      .setId(UUID.randomUUID())
+      .setTopic(KafkaService.Topic.JOB_COMMAND)
+      .setMessageKey(jobCommand.getId().toString())
+      .setPayload(jobCommand)
+      .setOkapiHeaders(Map.of(XOkapiHeaders.TENANT, TENANT));
+  }
+
+  private static JobCommand jobCommand() {
+    var jobCommand = new JobCommand();
+    jobCommand.setId(UUID.randomUUID());
+    jobCommand.setType(JobCommand.Type.START);
+    return jobCommand;
+  }
+}
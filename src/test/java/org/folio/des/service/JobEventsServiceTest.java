@@ -0,0 +1,148 @@
+package org.folio.des.service;
+
+import static org.awaitility.Awaitility.await;
+import static org.folio.des.support.BaseTest.TENANT;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.folio.des.domain.JobEvent;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.domain.dto.JobStatus;
+import org.folio.des.exceptions.TooManySubscribersException;
+import org.folio.des.repository.JobDataExportRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class JobEventsServiceTest {
+
+  private static final String SCHEMA = "diku_mod_data_export_spring";
+
+  @Mock
+  private JobDataExportRepository repository;
+  @Mock
+  private JobProgressBuffer progressBuffer;
+  @Mock
+  private FolioExecutionContext context;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+
+  private JobEventsService eventsService;
+  private SseEmitter nextEmitter;
+
+  @BeforeEach
+  void setUp() {
+    eventsService = new JobEventsService(repository, progressBuffer, context, folioModuleMetadata, new ObjectMapper()) {
+      @Override
+      SseEmitter createEmitter() {
+        return nextEmitter != null ? nextEmitter : super.createEmitter();
+      }
+    };
+    when(context.getTenantId()).thenReturn(TENANT);
+    when(folioModuleMetadata.getDBSchemaName(TENANT)).thenReturn(SCHEMA);
+    ReflectionTestUtils.setField(eventsService, "maxSubscribers", 2);
+    ReflectionTestUtils.setField(eventsService, "maxSubscribersPerTenant", 1);
+    ReflectionTestUtils.setField(eventsService, "timeoutMs", 60000L);
+    ReflectionTestUtils.setField(eventsService, "queueSize", 2);
+    ReflectionTestUtils.setField(eventsService, "sendThreads", 1);
+    eventsService.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    eventsService.stop();
+  }
+
+  @Test
+  void shouldRejectSubscribersOverTenantLimit() {
+    assertNotNull(eventsService.subscribe(null));
+
+    assertThrows(TooManySubscribersException.class, () -> eventsService.subscribe(null));
+  }
+
+  @Test
+  void shouldReleaseSubscriptionOfMissingJob() {
+    var jobId = UUID.randomUUID();
+    when(repository.findById(jobId)).thenReturn(Optional.empty());
+
+    assertThrows(NotFoundException.class, () -> eventsService.subscribe(jobId));
+
+    assertNotNull(eventsService.subscribe(null));
+  }
+
+  @Test
+  void shouldNotBlockPublisherOnSlowSubscriber() {
+    var emitter = new BlockingEmitter();
+    nextEmitter = emitter;
+    eventsService.subscribe(null);
+
+    assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+      eventsService.publish(SCHEMA, event());
+      eventsService.publish(SCHEMA, event());
+    });
+    emitter.release.countDown();
+
+    await().atMost(Duration.ofSeconds(5)).until(() -> emitter.sent.get() == 2);
+  }
+
+  @Test
+  void shouldDropSubscriberThatDoesNotKeepUp() {
+    var emitter = new BlockingEmitter();
+    nextEmitter = emitter;
+    eventsService.subscribe(null);
+
+    // one event is being sent, the queue holds two more
+    for (int i = 0; i < 4; i++) {
+      eventsService.publish(SCHEMA, event());
+    }
+
+    nextEmitter = null;
+    assertNotNull(eventsService.subscribe(null));
+    emitter.release.countDown();
+    await().atMost(Duration.ofSeconds(5)).until(() -> emitter.completed);
+  }
+
+  private static JobEvent event() {
+    return new JobEvent(UUID.randomUUID(), ExportType.BURSAR_FEES_FINES, JobStatus.IN_PROGRESS, BatchStatus.STARTED,
+      null, new Date());
+  }
+
+  private static class BlockingEmitter extends SseEmitter {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger sent = new AtomicInteger();
+    private volatile boolean completed;
+
+    @SneakyThrows
+    @Override
+    public void send(SseEventBuilder builder) {
+      release.await();
+      sent.incrementAndGet();
+    }
+
+    @Override
+    public void complete() {
+      completed = true;
+    }
+  }
+}
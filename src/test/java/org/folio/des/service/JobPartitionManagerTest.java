@@ -0,0 +1,159 @@
+package org.folio.des.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import org.folio.des.domain.dto.ExportType;
+import org.folio.des.support.BaseTest;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.tenant.domain.dto.TenantAttributes;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Runs the partitioning changesets on a tenant of its own, so other tests keep the job table without partitions.
+ */
+@TestPropertySource(properties = "job.deletion.chunkSize=1")
+class JobPartitionManagerTest extends BaseTest {
+
+  private static final String PARTITIONED_TENANT = "partitioned";
+  private static final String SCHEMA = "partitioned_mod_data_export_spring";
+  private static final UUID EXPIRED_JOB_ID = UUID.fromString("6a9d7c2e-1f4b-4c8a-9e3d-5b2f8a7c6d1e");
+  private static final UUID EXPIRED_JOB_WITHOUT_FILES_ID = UUID.fromString("0e4b8d6f-3a2c-4f1e-8b7d-9c5a6e2f1d3b");
+  private static final UUID ACTIVE_JOB_ID = UUID.fromString("b7c3e9a1-5d2f-4e8b-a6c4-1f9e3d7b2a5c");
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private JobPartitionManager partitionManager;
+  @Autowired
+  private FolioTenantService folioTenantService;
+  @Autowired
+  private FolioModuleMetadata folioModuleMetadata;
+  @MockitoSpyBean
+  private JobExecutionService jobExecutionService;
+
+  @BeforeAll
+  void setUpPartitionedTenant() {
+    postTenant(new TenantAttributes().moduleTo("mod-data-export-spring-3.0.0"));
+    insertJob(EXPIRED_JOB_ID, "2025-01-10", "2025-01-10", "[\"expired/1.csv\", \"expired/2.csv\"]");
+    insertJob(EXPIRED_JOB_WITHOUT_FILES_ID, "2025-01-20", "2025-01-20", null);
+    insertJob(ACTIVE_JOB_ID, "2025-02-05", Instant.now().toString(), "[\"active.csv\"]");
+
+    // the upgrade runs the pending partitioning changeset
+    ReflectionTestUtils.setField(folioTenantService, "jobPartitioningEnabled", true);
+    postTenant(new TenantAttributes().moduleFrom("mod-data-export-spring-3.0.0").moduleTo("mod-data-export-spring-3.0.1"));
+  }
+
+  @AfterAll
+  void purgePartitionedTenant() {
+    ReflectionTestUtils.setField(folioTenantService, "jobPartitioningEnabled", false);
+    postTenant(new TenantAttributes().moduleFrom("mod-data-export-spring-3.0.1").purge(true));
+  }
+
+  @Test
+  void shouldPartitionJobTableAndKeepJobs() {
+    assertThat(inPartitionedTenant(partitionManager::isPartitioned)).isTrue();
+    assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM " + SCHEMA + ".job WHERE id = ?",
+      String.class, ACTIVE_JOB_ID)).isEqualTo(SCHEMA + ".job_p2025_02");
+    assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NULL", Boolean.class, SCHEMA + ".job_default"))
+      .isTrue();
+    assertThat(jdbcTemplate.queryForList("SELECT id FROM " + SCHEMA + ".job_id", UUID.class))
+      .contains(ACTIVE_JOB_ID);
+  }
+
+  @Test
+  void shouldRecreateIndexesTriggersAndViewsOfJobTable() {
+    assertThat(jdbcTemplate.queryForList("SELECT indexname FROM pg_indexes WHERE schemaname = ? AND tablename = 'job'",
+      String.class, SCHEMA)).contains("idx_job_created_date_id", "idx_job_type_status_updated_date",
+      "idx_job_export_type_specific_parameters", "idx_job_name_gin_trgm");
+    assertThat(jdbcTemplate.queryForList("SELECT tgname FROM pg_trigger WHERE tgrelid = ?::regclass",
+      String.class, SCHEMA + ".job")).contains("job_stats_insert", "job_stats_update", "job_stats_delete",
+      "job_notify_insert", "job_notify_update");
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + ".job_with_archive WHERE id = ?",
+      Integer.class, ACTIVE_JOB_ID)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCreateMissingPartitionsOfPartitionedTenants() {
+    var partition = SCHEMA + ".job_p" + YearMonth.now().plusMonths(2).format(DateTimeFormatter.ofPattern("yyyy_MM"));
+    jdbcTemplate.execute("DROP TABLE " + partition);
+
+    partitionManager.createPartitionsOfTenants();
+
+    assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)).isTrue();
+  }
+
+  @Test
+  void shouldRejectJobWithExistingIdInAnotherPartition() {
+    var now = Instant.now().toString();
+
+    assertThatThrownBy(() -> insertJob(ACTIVE_JOB_ID, now, now, null))
+      .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  @Test
+  void shouldDropPartitionOfExpiredJobs() {
+    var expirationDate = Date.from(Instant.now().minus(7, ChronoUnit.DAYS));
+
+    inPartitionedTenant(() -> partitionManager.dropExpiredPartitions(Map.of(ExportType.BURSAR_FEES_FINES, expirationDate)));
+
+    assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NULL", Boolean.class, SCHEMA + ".job_p2025_01"))
+      .isTrue();
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + SCHEMA + ".job_p2025_02", Integer.class)).isEqualTo(1);
+    assertThat(jdbcTemplate.queryForList("SELECT id FROM " + SCHEMA + ".job_id", UUID.class))
+      .doesNotContain(EXPIRED_JOB_ID, EXPIRED_JOB_WITHOUT_FILES_ID);
+    assertThat(jdbcTemplate.queryForObject("SELECT coalesce(sum(job_count), 0) FROM " + SCHEMA + ".job_stats_current "
+      + "WHERE day < '2025-02-01'", Long.class)).isZero();
+    // files are deleted in chunks of the deletion chunk size
+    verify(jobExecutionService).deleteJobFiles(List.of(List.of("expired/1.csv")));
+    verify(jobExecutionService).deleteJobFiles(List.of(List.of("expired/2.csv")));
+  }
+
+  private void insertJob(UUID id, String createdDate, String updatedDate, String files) {
+    jdbcTemplate.update("INSERT INTO " + SCHEMA + ".job (id, name, type, status, created_date, updated_date, files) "
+      + "VALUES (?, 'partitioned', 'BURSAR_FEES_FINES', 'SUCCESSFUL', ?::timestamp, ?::timestamp, ?::jsonb)",
+      id, createdDate, updatedDate, files);
+  }
+
+  @SneakyThrows
+  private void postTenant(TenantAttributes tenantAttributes) {
+    var headers = defaultHeaders();
+    headers.set(XOkapiHeaders.TENANT, PARTITIONED_TENANT);
+    mockMvc.perform(post("/_/tenant").content(asJsonString(tenantAttributes))
+      .headers(headers)
+      .contentType(APPLICATION_JSON)).andExpect(status().isNoContent());
+  }
+
+  private <T> T inPartitionedTenant(Supplier<T> action) {
+    var context = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata,
+      Map.of(XOkapiHeaders.TENANT, PARTITIONED_TENANT));
+    try (var contextSetter = new FolioExecutionContextSetter(context)) {
+      return action.get();
+    }
+  }
+}
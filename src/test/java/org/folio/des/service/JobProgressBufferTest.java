@@ -0,0 +1,143 @@
+package org.folio.des.service;
+
+import static org.folio.des.support.BaseTest.TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.folio.des.domain.dto.Progress;
+import org.folio.des.repository.JobDataExportRepository;
+import org.folio.des.service.util.BatchStatusUtil;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class JobProgressBufferTest {
+
+  @Mock
+  private JobDataExportRepository repository;
+  @Mock
+  private FolioExecutionContext context;
+  @Mock
+  private FolioModuleMetadata folioModuleMetadata;
+  @InjectMocks
+  private JobProgressBuffer progressBuffer;
+
+  @BeforeEach
+  void setUp() {
+    when(context.getTenantId()).thenReturn(TENANT);
+  }
+
+  @Test
+  void shouldFlushLatestProgressOnce() {
+    var id = UUID.randomUUID();
+    var latestProgress = new Progress().progress(60);
+    progressBuffer.put(id, new Progress().progress(30));
+    progressBuffer.put(id, latestProgress);
+
+    assertEquals(latestProgress, progressBuffer.get(id).orElseThrow());
+
+    progressBuffer.flush();
+    progressBuffer.flush();
+
+    verify(repository).updateProgress(id, latestProgress, BatchStatusUtil.TERMINAL_STATUSES);
+    assertTrue(progressBuffer.get(id).isEmpty());
+  }
+
+  @Test
+  void shouldKeepProgressBufferedWhenWriteFails() {
+    var id = UUID.randomUUID();
+    var progress = new Progress().progress(60);
+    progressBuffer.put(id, progress);
+    when(repository.updateProgress(id, progress, BatchStatusUtil.TERMINAL_STATUSES))
+      .thenThrow(new IllegalStateException("connection lost"))
+      .thenReturn(1);
+
+    progressBuffer.flush();
+
+    assertEquals(progress, progressBuffer.get(id).orElseThrow());
+
+    progressBuffer.flush();
+
+    verify(repository, times(2)).updateProgress(id, progress, BatchStatusUtil.TERMINAL_STATUSES);
+    assertTrue(progressBuffer.get(id).isEmpty());
+  }
+
+  @Test
+  void shouldKeepProgressReplacedDuringWrite() {
+    var id = UUID.randomUUID();
+    var progress = new Progress().progress(60);
+    var latestProgress = new Progress().progress(80);
+    progressBuffer.put(id, progress);
+    when(repository.updateProgress(id, progress, BatchStatusUtil.TERMINAL_STATUSES)).thenAnswer(invocation -> {
+      assertEquals(progress, progressBuffer.get(id).orElseThrow());
+      progressBuffer.put(id, latestProgress);
+      return 1;
+    });
+
+    progressBuffer.flush();
+
+    assertEquals(latestProgress, progressBuffer.get(id).orElseThrow());
+  }
+
+  @Test
+  void shouldNotFlushRemovedProgress() {
+    var id = UUID.randomUUID();
+    var progress = new Progress().progress(60);
+    progressBuffer.put(id, progress);
+
+    assertEquals(progress, progressBuffer.remove(id).orElseThrow());
+
+    progressBuffer.flush();
+
+    verify(repository, never()).updateProgress(any(), any(), any());
+  }
+
+  @Test
+  void shouldBufferProgressOnlyAfterCommit() {
+    var id = UUID.randomUUID();
+    var progress = new Progress().progress(60);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      progressBuffer.putAfterCommit(id, progress);
+
+      assertTrue(progressBuffer.get(id).isEmpty());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    assertEquals(progress, progressBuffer.get(id).orElseThrow());
+  }
+
+  @Test
+  void shouldKeepBufferedProgressWhenRemovalIsRolledBack() {
+    var id = UUID.randomUUID();
+    var progress = new Progress().progress(60);
+    progressBuffer.put(id, progress);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      progressBuffer.removeAfterCommit(id);
+      progressBuffer.putAfterCommit(id, new Progress().progress(80));
+
+      TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    assertEquals(progress, progressBuffer.get(id).orElseThrow());
+  }
+}
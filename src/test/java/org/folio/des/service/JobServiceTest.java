@@ -1,9 +1,10 @@
 package org.folio.des.service;
 
 import static org.folio.des.domain.dto.ExportType.BURSAR_FEES_FINES;
-import static org.folio.des.domain.dto.ExportType.CLAIMS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,6 +21,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.folio.de.entity.Job;
+import org.folio.de.entity.JobArchive;
 import org.folio.de.entity.JobCommand;
 import org.folio.des.CopilotGenerated;
 import org.folio.des.builder.job.JobCommandBuilderResolver;
@@ -29,9 +31,11 @@ import org.folio.des.domain.dto.EdiFtp;
 import org.folio.des.domain.dto.ExportConfig;
 import org.folio.des.domain.dto.ExportType;
 import org.folio.des.domain.dto.ExportTypeSpecificParameters;
+import org.folio.des.domain.dto.JobStatus;
 import org.folio.des.domain.dto.VendorEdiOrdersExportConfig;
 import org.folio.des.domain.dto.delete_interval.JobDeletionInterval;
 import org.folio.des.domain.dto.delete_interval.JobDeletionIntervalCollection;
+import org.folio.des.repository.JobArchiveRepository;
 import org.folio.des.repository.JobDataExportRepository;
 import org.folio.des.service.config.impl.BaseExportConfigService;
 import org.folio.des.service.impl.JobServiceImpl;
@@ -78,11 +82,26 @@ class JobServiceTest {
   private ObjectMapper objectMapper;
   @Mock
   private JobDeletionIntervalService deletionIntervalService;
+  @Mock
+  private JobProgressBuffer progressBuffer;
+  @Mock
+  private JobCommandOutboxService outbox;
+  @Mock
+  private ExpiredJobsDeleter expiredJobsDeleter;
+  @Mock
+  private JobPartitionManager partitionManager;
+  @Mock
+  private JobArchiveRepository archiveRepository;
+  @Mock
+  private JobArchiver jobArchiver;
+  @Mock
+  private ExportedFileDownloader fileDownloader;
+  @Mock
+  private PresignedUrlCache presignedUrlCache;
 
   @BeforeEach
   void setup() {
     ReflectionTestUtils.setField(jobService, "jobExpirationPeriod", 7);
-    ReflectionTestUtils.setField(jobService, "jobDownloadFileConnectionTimeout", 5000);
   }
 
   @Test
@@ -110,8 +129,8 @@ class JobServiceTest {
     Map<String, Collection<String>> okapiHeaders = new HashMap<>();
     okapiHeaders.put(XOkapiHeaders.TENANT, List.of("diku"));
     var folioExecutionContext = new DefaultFolioExecutionContext(folioModuleMetadata, okapiHeaders);
-    var jobExecutionService = new JobExecutionService(kafka, exportConfigValidatorResolver, jobCommandBuilderResolver, defaultExportConfigService, objectMapper);
-    var internalJobService = new JobServiceImpl(exportWorkerClient, jobExecutionService, repository, folioExecutionContext, null, deletionIntervalService, defaultExportConfigService);
+    var jobExecutionService = new JobExecutionService(kafka, exportConfigValidatorResolver, jobCommandBuilderResolver, defaultExportConfigService, objectMapper, outbox);
+    var internalJobService = new JobServiceImpl(exportWorkerClient, jobExecutionService, repository, folioExecutionContext, null, deletionIntervalService, defaultExportConfigService, progressBuffer, expiredJobsDeleter, partitionManager, archiveRepository, jobArchiver, fileDownloader, presignedUrlCache);
     var config = new ExportConfig();
     config.setId(configId.toString());
     org.folio.des.domain.dto.Job jobDto = new org.folio.des.domain.dto.Job();
@@ -134,8 +153,6 @@ class JobServiceTest {
   @Test
   @CopilotGenerated(model = "Claude Sonnet 3.5")
   void shouldDeleteExpiredJobsWhenIntervalsExist() {
-    var bursarExpiredJobs = createExpiredJobs(5, BURSAR_FEES_FINES, 7);
-    var claimsExpiredJobs = createExpiredJobs(10, CLAIMS, 14);
     var date7Days = getExpiredDate(7);
     var date14Days = getExpiredDate(14);
 
@@ -151,19 +168,13 @@ class JobServiceTest {
       .jobDeletionIntervals(jobDeletionIntervals);
 
     when(deletionIntervalService.getAll()).thenReturn(jobDeletionIntervalCollection);
-    when(repository.findByTypeAndUpdatedDateBefore(BURSAR_FEES_FINES, date7Days)).thenReturn(bursarExpiredJobs);
-    when(repository.findByTypeAndUpdatedDateBefore(ExportType.CLAIMS, date14Days)).thenReturn(claimsExpiredJobs);
-
-    var expiredJobs = new ArrayList<Job>();
-    expiredJobs.addAll(bursarExpiredJobs);
-    expiredJobs.addAll(claimsExpiredJobs);
+    when(expiredJobsDeleter.delete(BURSAR_FEES_FINES, date7Days)).thenReturn(5);
+    when(expiredJobsDeleter.delete(ExportType.CLAIMS, date14Days)).thenReturn(10);
 
     jobService.deleteOldJobs();
 
-    verify(repository).findByTypeAndUpdatedDateBefore(BURSAR_FEES_FINES, date7Days);
-    verify(repository).findByTypeAndUpdatedDateBefore(ExportType.CLAIMS, date14Days);
-    verify(repository).deleteAllInBatch(expiredJobs);
-    verify(jobExecutionService).deleteJobs(expiredJobs);
+    verify(expiredJobsDeleter).delete(BURSAR_FEES_FINES, date7Days);
+    verify(expiredJobsDeleter).delete(ExportType.CLAIMS, date14Days);
   }
 
   @Test
@@ -180,13 +191,12 @@ class JobServiceTest {
       .jobDeletionIntervals(jobDeletionIntervals);
 
     when(deletionIntervalService.getAll()).thenReturn(jobDeletionIntervalCollection);
-    when(repository.findByTypeAndUpdatedDateBefore(BURSAR_FEES_FINES, date200Days)).thenReturn(List.of());
+    when(expiredJobsDeleter.delete(BURSAR_FEES_FINES, date200Days)).thenReturn(0);
 
     jobService.deleteOldJobs();
 
-    verify(repository).findByTypeAndUpdatedDateBefore(BURSAR_FEES_FINES, date200Days);
-    verify(repository, never()).deleteAllInBatch(any());
-    verify(jobExecutionService, never()).deleteJobs(any());
+    verify(expiredJobsDeleter).delete(BURSAR_FEES_FINES, date200Days);
+    verify(repository, never()).deleteAllByIdInBatch(any());
   }
 
   @Test
@@ -199,27 +209,58 @@ class JobServiceTest {
 
     jobService.deleteOldJobs();
 
-    verify(repository, never()).findByTypeAndUpdatedDateBefore(any(), any());
-    verify(repository, never()).deleteAllInBatch(any());
-    verify(jobExecutionService, never()).deleteJobs(any());
+    verify(expiredJobsDeleter, never()).delete(any(), any());
+    verify(jobExecutionService, never()).deleteJobFiles(any());
   }
 
-  private List<Job> createExpiredJobs(int count, ExportType exportType, int expirationPeriod) {
-    var exportTypes = new ArrayList<Job>();
+  @Test
+  void shouldDropExpiredPartitionsBeforeDeletingRemainingJobs() {
+    var date7Days = getExpiredDate(7);
+    var intervals = new JobDeletionIntervalCollection()
+      .jobDeletionIntervals(List.of(new JobDeletionInterval().exportType(BURSAR_FEES_FINES).retentionDays(7)));
+    when(partitionManager.createPartitionsIfPartitioned()).thenReturn(true);
+    when(deletionIntervalService.getAll()).thenReturn(intervals);
+    when(partitionManager.dropExpiredPartitions(Map.of(BURSAR_FEES_FINES, date7Days))).thenReturn(2);
 
-    for (int i = 0; i < count; i++) {
-      exportTypes.add(createJob(exportType, expirationPeriod));
-    }
+    jobService.deleteOldJobs();
 
-    return exportTypes;
+    var inOrder = inOrder(partitionManager, expiredJobsDeleter);
+    inOrder.verify(partitionManager).createPartitionsIfPartitioned();
+    inOrder.verify(partitionManager).dropExpiredPartitions(Map.of(BURSAR_FEES_FINES, date7Days));
+    inOrder.verify(expiredJobsDeleter).delete(BURSAR_FEES_FINES, date7Days);
   }
 
-  private Job createJob(ExportType exportType, int expirationPeriod) {
-    var job = new Job();
-    job.setId(UUID.randomUUID());
-    job.setType(exportType);
-    job.setUpdatedDate(getExpiredDate(expirationPeriod));
-    return job;
+  @Test
+  void shouldGetArchivedJobById() {
+    var archived = new JobArchive();
+    archived.setId(UUID.randomUUID());
+    archived.setName("000042");
+    archived.setType(BURSAR_FEES_FINES);
+    archived.setStatus(JobStatus.SUCCESSFUL);
+    when(archiveRepository.findById(archived.getId())).thenReturn(Optional.of(archived));
+
+    var job = jobService.get(archived.getId());
+
+    assertEquals(archived.getId(), job.getId());
+    assertEquals("000042", job.getName());
+    assertEquals(JobStatus.SUCCESSFUL, job.getStatus());
+  }
+
+  @Test
+  void shouldThrowNotFoundWhenJobIsNeitherActiveNorArchived() {
+    var id = UUID.randomUUID();
+
+    assertThrows(NotFoundException.class, () -> jobService.get(id));
+    verify(archiveRepository).findById(id);
+  }
+
+  @Test
+  void shouldArchiveOldJobs() {
+    when(jobArchiver.archive()).thenReturn(3);
+
+    jobService.archiveOldJobs();
+
+    verify(jobArchiver).archive();
   }
 
   private Date getExpiredDate(int days) {
@@ -1,9 +1,13 @@
 package org.folio.des.service;
 
 import static org.folio.des.support.BaseTest.TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.folio.de.entity.Job;
 import org.folio.des.domain.dto.ExportTypeSpecificParameters;
@@ -31,15 +36,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
 
 @ExtendWith(MockitoExtension.class)
 class JobUpdatesServiceTest {
 
   @Mock
   private JobDataExportRepository repository;
+  @Mock
+  private JobProgressBuffer progressBuffer;
   @InjectMocks
   private JobUpdatesService updatesService;
   private JobUpdatesListenerService updatesListenerService;
+  private JobUpdatesBatchListenerService updatesBatchListenerService;
 
   protected Map<String, Object> okapiHeaders;
 
@@ -51,6 +62,17 @@ class JobUpdatesServiceTest {
         return "mod-data-export-spring";
       }
 
+      @Override
+      public String getDBSchemaName(String tenantId) {
+        return tenantId + "_mod_data_export_spring";
+      }
+    }, updatesService);
+    updatesBatchListenerService = new JobUpdatesBatchListenerService(new FolioModuleMetadata() {
+      @Override
+      public String getModuleName() {
+        return "mod-data-export-spring";
+      }
+
       @Override
       public String getDBSchemaName(String tenantId) {
         return tenantId + "_mod_data_export_spring";
@@ -194,4 +216,192 @@ class JobUpdatesServiceTest {
 
     verify(repository, never()).save(any());
   }
+
+  @Test
+  @DisplayName("Coalesce batch of updates per job")
+  void coalesceBatchUpdates() {
+    var id = UUID.randomUUID();
+    var unknownId = UUID.randomUUID();
+    Job job = new Job();
+    job.setId(id);
+    job.setBatchStatus(BatchStatus.STARTED);
+    job.setStatus(JobStatus.IN_PROGRESS);
+
+    var progressUpdate = new Job();
+    progressUpdate.setId(id);
+    progressUpdate.setProgress(new Progress().progress(50).processed(1).total(2));
+    var completedUpdate = new Job();
+    completedUpdate.setId(id);
+    completedUpdate.setBatchStatus(BatchStatus.COMPLETED);
+    completedUpdate.setProgress(new Progress().progress(100).processed(2).total(2));
+    var unknownJobUpdate = new Job();
+    unknownJobUpdate.setId(unknownId);
+    unknownJobUpdate.setDescription("Unknown job");
+
+    doReturn(List.of(job)).when(repository).findAllById(Set.of(id, unknownId));
+
+    updatesBatchListenerService.receiveJobExecutionUpdates(List.of(
+      MessageBuilder.createMessage(progressUpdate, new MessageHeaders(okapiHeaders)),
+      MessageBuilder.createMessage(unknownJobUpdate, new MessageHeaders(okapiHeaders)),
+      MessageBuilder.createMessage(completedUpdate, new MessageHeaders(okapiHeaders))));
+
+    verify(repository).saveAll(List.of(job));
+    assertEquals(JobStatus.SUCCESSFUL, job.getStatus());
+    assertEquals(100, job.getProgress().getProgress());
+    assertNotNull(job.getUpdatedDate());
+  }
+
+  @Test
+  @DisplayName("Apply batch updates of other tenants when one tenant fails")
+  void isolateTenantFailureInBatch() {
+    var failedId = UUID.randomUUID();
+    var id = UUID.randomUUID();
+    Job job = new Job();
+    job.setId(id);
+    job.setBatchStatus(BatchStatus.STARTED);
+    job.setStatus(JobStatus.IN_PROGRESS);
+
+    var failedUpdate = new Job();
+    failedUpdate.setId(failedId);
+    failedUpdate.setBatchStatus(BatchStatus.COMPLETED);
+    var update = new Job();
+    update.setId(id);
+    update.setBatchStatus(BatchStatus.COMPLETED);
+    var otherTenantHeaders = new HashMap<>(okapiHeaders);
+    otherTenantHeaders.put(XOkapiHeaders.TENANT, "college");
+
+    doReturn(List.of(job)).when(repository).findAllById(Set.of(id));
+    doThrow(new IllegalStateException("Schema of tenant is not available"))
+      .when(repository).findAllById(Set.of(failedId));
+
+    var messages = List.of(
+      MessageBuilder.createMessage(update, new MessageHeaders(okapiHeaders)),
+      MessageBuilder.createMessage(failedUpdate, new MessageHeaders(otherTenantHeaders)),
+      MessageBuilder.createMessage(update, new MessageHeaders(okapiHeaders)));
+    var exception = assertThrows(BatchListenerFailedException.class,
+      () -> updatesBatchListenerService.receiveJobExecutionUpdates(messages));
+
+    assertEquals(1, exception.getIndex());
+    verify(repository).saveAll(List.of(job));
+    assertEquals(JobStatus.SUCCESSFUL, job.getStatus());
+  }
+
+  @Test
+  @DisplayName("Skip saving batch without changes")
+  void batchUpdatesWithoutChange() {
+    var id = UUID.randomUUID();
+    Job job = new Job();
+    job.setId(id);
+    job.setBatchStatus(BatchStatus.STARTED);
+
+    var update = new Job();
+    update.setId(id);
+    update.setBatchStatus(BatchStatus.STARTED);
+
+    doReturn(List.of(job)).when(repository).findAllById(Set.of(id));
+
+    updatesBatchListenerService.receiveJobExecutionUpdates(
+      List.of(MessageBuilder.createMessage(update, new MessageHeaders(okapiHeaders))));
+
+    verify(repository).saveAll(List.of());
+  }
+
+  @Test
+  @DisplayName("Buffer progress of running job")
+  void bufferProgressOfRunningJob() {
+    var id = UUID.randomUUID();
+    Job job = new Job();
+    job.setId(id);
+    job.setBatchStatus(BatchStatus.STARTED);
+    job.setProgress(new Progress().progress(10));
+
+    var update = new Job();
+    update.setId(id);
+    update.setBatchStatus(BatchStatus.STARTED);
+    var progress = new Progress().progress(50);
+    update.setProgress(progress);
+
+    doReturn(Optional.of(job)).when(repository).findById(id);
+
+    updatesListenerService.receiveJobExecutionUpdate(update, okapiHeaders);
+
+    verify(progressBuffer).putAfterCommit(id, progress);
+    verify(repository, never()).save(any());
+    assertEquals(10, job.getProgress().getProgress());
+  }
+
+  @Test
+  @DisplayName("Save buffered progress with finished job")
+  void saveBufferedProgressOfFinishedJob() {
+    var id = UUID.randomUUID();
+    Job job = new Job();
+    job.setId(id);
+    job.setBatchStatus(BatchStatus.STARTED);
+
+    var update = new Job();
+    update.setId(id);
+    update.setBatchStatus(BatchStatus.FAILED);
+    var bufferedProgress = new Progress().progress(70);
+
+    doReturn(Optional.of(job)).when(repository).findById(id);
+    doReturn(Optional.of(bufferedProgress)).when(progressBuffer).get(id);
+
+    updatesListenerService.receiveJobExecutionUpdate(update, okapiHeaders);
+
+    verify(progressBuffer).removeAfterCommit(id);
+    verify(repository).save(job);
+    assertEquals(bufferedProgress, job.getProgress());
+    assertEquals(JobStatus.FAILED, job.getStatus());
+  }
+
+  @Test
+  @DisplayName("Ignore out-of-order update of finished job")
+  void ignoreOutOfOrderUpdate() {
+    var id = UUID.randomUUID();
+    Job job = new Job();
+    job.setId(id);
+    job.setBatchStatus(BatchStatus.COMPLETED);
+    job.setStatus(JobStatus.SUCCESSFUL);
+    job.setProgress(new Progress().progress(100));
+
+    var lateUpdate = new Job();
+    lateUpdate.setId(id);
+    lateUpdate.setBatchStatus(BatchStatus.STARTED);
+    lateUpdate.setDescription("Late update");
+    lateUpdate.setProgress(new Progress().progress(40));
+
+    doReturn(Optional.of(job)).when(repository).findById(id);
+
+    updatesListenerService.receiveJobExecutionUpdate(lateUpdate, okapiHeaders);
+
+    verify(repository, never()).save(any());
+    verify(progressBuffer, never()).putAfterCommit(any(), any());
+    assertEquals(BatchStatus.COMPLETED, job.getBatchStatus());
+    assertEquals(JobStatus.SUCCESSFUL, job.getStatus());
+    assertEquals(100, job.getProgress().getProgress());
+  }
+
+  @Test
+  @DisplayName("Apply restart of stopped job")
+  void restartStoppedJob() {
+    var id = UUID.randomUUID();
+    Job job = new Job();
+    job.setId(id);
+    job.setBatchStatus(BatchStatus.STOPPED);
+    job.setStatus(JobStatus.IN_PROGRESS);
+
+    var restartUpdate = new Job();
+    restartUpdate.setId(id);
+    restartUpdate.setBatchStatus(BatchStatus.STARTED);
+    restartUpdate.setProgress(new Progress().progress(20));
+
+    doReturn(Optional.of(job)).when(repository).findById(id);
+
+    updatesListenerService.receiveJobExecutionUpdate(restartUpdate, okapiHeaders);
+
+    verify(repository).save(job);
+    verify(progressBuffer).putAfterCommit(id, restartUpdate.getProgress());
+    assertEquals(BatchStatus.STARTED, job.getBatchStatus());
+    assertEquals(JobStatus.IN_PROGRESS, job.getStatus());
+  }
 }
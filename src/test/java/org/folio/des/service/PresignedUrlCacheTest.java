@@ -0,0 +1,165 @@
+package org.folio.des.service;
+
+import static org.folio.des.support.BaseTest.TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.des.domain.dto.PresignedUrl;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PresignedUrlCacheTest {
+
+  private static final String FILE_PATH = "diku/bursar/bursar.dat";
+  private static final Instant NOW = Instant.parse("2026-10-18T10:00:00Z");
+
+  @Mock
+  private FolioExecutionContext context;
+
+  private SimpleMeterRegistry meterRegistry;
+  private MutableClock clock;
+  private PresignedUrlCache cache;
+
+  @BeforeEach
+  void setUp() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    meterRegistry = new SimpleMeterRegistry();
+    clock = new MutableClock(NOW);
+    cache = new PresignedUrlCache(10, Duration.ofMinutes(10), Duration.ofMinutes(1), context, meterRegistry, clock);
+  }
+
+  @Test
+  void shouldReuseUrlUntilMarginBeforeItsExpiry() {
+    // signed at 09:58 for 5 minutes, so cached until 10:02
+    var url = presignedUrl("?X-Amz-Date=20261018T095800Z&X-Amz-Expires=300&X-Amz-Signature=abc");
+    var refreshes = new AtomicInteger();
+
+    assertSame(url, cache.get(FILE_PATH, () -> count(refreshes, url)));
+    clock.set(NOW.plusSeconds(110));
+    assertSame(url, cache.get(FILE_PATH, () -> count(refreshes, url)));
+    clock.set(NOW.plusSeconds(120));
+    assertSame(url, cache.get(FILE_PATH, () -> count(refreshes, url)));
+
+    assertEquals(2, refreshes.get());
+    assertEquals(1, meterRegistry.counter("presigned.url.cache.requests", "result", "hit").count());
+  }
+
+  @Test
+  void shouldNotCacheUrlExpiringWithinMargin() {
+    var url = presignedUrl("?Expires=" + NOW.plusSeconds(30).getEpochSecond());
+    var refreshes = new AtomicInteger();
+
+    cache.get(FILE_PATH, () -> count(refreshes, url));
+    cache.get(FILE_PATH, () -> count(refreshes, url));
+
+    assertEquals(2, refreshes.get());
+  }
+
+  @Test
+  void shouldKeepUrlsOfTenantsApart() {
+    var url = presignedUrl("");
+    var refreshes = new AtomicInteger();
+
+    cache.get(FILE_PATH, () -> count(refreshes, url));
+    when(context.getTenantId()).thenReturn("college");
+    cache.get(FILE_PATH, () -> count(refreshes, url));
+
+    assertEquals(2, refreshes.get());
+  }
+
+  @Test
+  void shouldShareOneRefreshBetweenConcurrentRequests() throws Exception {
+    var url = presignedUrl("");
+    var refreshes = new AtomicInteger();
+    var refreshStarted = new CountDownLatch(1);
+    var refreshReleased = new CountDownLatch(1);
+
+    var first = CompletableFuture.supplyAsync(() -> cache.get(FILE_PATH, () -> {
+      refreshStarted.countDown();
+      await(refreshReleased);
+      return count(refreshes, url);
+    }));
+    refreshStarted.await(5, TimeUnit.SECONDS);
+    var second = CompletableFuture.supplyAsync(() -> cache.get(FILE_PATH, () -> count(refreshes, url)));
+    refreshReleased.countDown();
+
+    assertSame(url, first.get(5, TimeUnit.SECONDS));
+    assertSame(url, second.get(5, TimeUnit.SECONDS));
+    assertEquals(1, refreshes.get());
+  }
+
+  @Test
+  void shouldNotCacheFailedRefresh() {
+    var url = presignedUrl("");
+
+    assertThrows(IllegalStateException.class, () -> cache.get(FILE_PATH, () -> {
+      throw new IllegalStateException("worker is down");
+    }));
+
+    assertSame(url, cache.get(FILE_PATH, () -> url));
+  }
+
+  private static PresignedUrl presignedUrl(String query) {
+    var url = new PresignedUrl();
+    url.setUrl("https://storage.example.org/bucket/" + FILE_PATH + query);
+    return url;
+  }
+
+  private static PresignedUrl count(AtomicInteger refreshes, PresignedUrl url) {
+    refreshes.incrementAndGet();
+    return url;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void set(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
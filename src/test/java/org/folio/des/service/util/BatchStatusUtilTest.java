@@ -0,0 +1,32 @@
+package org.folio.des.service.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+
+class BatchStatusUtilTest {
+
+  @Test
+  void stoppedJobIsNotFinished() {
+    assertFalse(BatchStatusUtil.isTerminal(BatchStatus.STOPPED));
+    assertTrue(BatchStatusUtil.isTerminal(BatchStatus.COMPLETED));
+    assertTrue(BatchStatusUtil.isTerminal(BatchStatus.FAILED));
+  }
+
+  @Test
+  void stoppedJobMayBeRestarted() {
+    assertFalse(BatchStatusUtil.isRegression(BatchStatus.STOPPED, BatchStatus.STARTING));
+    assertFalse(BatchStatusUtil.isRegression(BatchStatus.STOPPED, BatchStatus.STARTED));
+    assertFalse(BatchStatusUtil.isRegression(BatchStatus.STOPPED, BatchStatus.COMPLETED));
+    assertTrue(BatchStatusUtil.isRegression(BatchStatus.STOPPED, BatchStatus.UNKNOWN));
+  }
+
+  @Test
+  void finishedJobDoesNotGoBack() {
+    assertTrue(BatchStatusUtil.isRegression(BatchStatus.COMPLETED, BatchStatus.STARTED));
+    assertTrue(BatchStatusUtil.isRegression(BatchStatus.FAILED, BatchStatus.STOPPED));
+    assertTrue(BatchStatusUtil.isRegression(BatchStatus.STOPPING, BatchStatus.STARTED));
+  }
+}
@@ -5,9 +5,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.config.properties.FolioEnvironment;
 import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.folio.tenant.domain.dto.TenantAttributes;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -69,6 +74,8 @@ public abstract class BaseTest {
   protected Scheduler scheduler;
   @Autowired
   private FolioEnvironment folioEnvironment;
+  @Autowired
+  private FolioModuleMetadata folioModuleMetadata;
 
 
   static {
@@ -127,6 +134,17 @@ public abstract class BaseTest {
     return httpHeaders;
   }
 
+  /**
+   * Runs the action in the execution context of the test tenant, as it runs for a Kafka message or a scheduled job.
+   */
+  protected <T> T inTenant(Supplier<T> action) {
+    var context = DefaultFolioExecutionContext.fromMessageHeaders(folioModuleMetadata,
+      Map.of(XOkapiHeaders.TENANT, TENANT));
+    try (var contextSetter = new FolioExecutionContextSetter(context)) {
+      return action.get();
+    }
+  }
+
   @AfterEach
   void afterEach() throws SchedulerException {
     if (!scheduler.isInStandbyMode()) {
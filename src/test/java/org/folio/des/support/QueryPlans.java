@@ -0,0 +1,55 @@
+package org.folio.des.support;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Explains statements recorded by {@link RecordingStatementInspector}, so tests can check which indexes serve
+ * the generated queries.
+ */
+@UtilityClass
+public class QueryPlans {
+
+  private static final Pattern PARAMETER = Pattern.compile("\\?");
+
+  /**
+   * Returns the last recorded select statement.
+   */
+  public static String lastSelect() {
+    return RecordingStatementInspector.statements().stream()
+      .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+      .reduce((first, second) -> second)
+      .orElseThrow();
+  }
+
+  /**
+   * Explains the generic plan of the statement, the planner is kept from sequential scans, so the plan shows whether
+   * an index can serve the predicate at all.
+   *
+   * @param sql statement with JDBC parameters
+   * @param schema schema of the tables of the statement
+   * @return plan text
+   */
+  public static String explain(JdbcTemplate jdbcTemplate, String schema, String sql) {
+    var counter = new int[] {0};
+    var numbered = PARAMETER.matcher(sql).replaceAll(match -> Matcher.quoteReplacement("$" + ++counter[0]));
+    return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+      try (var statement = connection.createStatement()) {
+        statement.execute("SET search_path TO " + schema + ", public");
+        statement.execute("SET enable_seqscan TO off");
+        var plan = new StringBuilder();
+        try (var resultSet = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+          while (resultSet.next()) {
+            plan.append(resultSet.getString(1)).append('\n');
+          }
+        }
+        statement.execute("RESET enable_seqscan");
+        statement.execute("RESET search_path");
+        return plan.toString();
+      }
+    });
+  }
+}
@@ -0,0 +1,28 @@
+package org.folio.des.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records SQL statements prepared by Hibernate, so tests can inspect the generated queries.
+ * Enabled with the {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} property.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+  private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+  @Override
+  public String inspect(String sql) {
+    STATEMENTS.add(sql);
+    return sql;
+  }
+
+  public static List<String> statements() {
+    return List.copyOf(STATEMENTS);
+  }
+
+  public static void clear() {
+    STATEMENTS.clear();
+  }
+}